@@ -0,0 +1,66 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+import java.util.function.Function;
+import com.github.wnameless.json.base.GsonJsonCore;
+import com.github.wnameless.json.base.Jackson3JsonCore;
+import com.github.wnameless.json.base.JacksonJsonCore;
+import com.github.wnameless.json.base.JakartaJsonCore;
+import com.github.wnameless.json.base.JsonCore;
+import com.github.wnameless.json.base.OrgJsonCore;
+import com.github.wnameless.json.base.TapeJsonCore;
+
+/**
+ * 
+ * {@link JsonBackend} enumerates every {@link JsonCore} implementation which is measured by the
+ * benchmarks.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public enum JsonBackend {
+
+  JACKSON(JacksonJsonCore::new), JACKSON3(Jackson3JsonCore::new), GSON(GsonJsonCore::new),
+  ORG_JSON(OrgJsonCore::new), JAKARTA(JakartaJsonCore::new),
+  TAPE(wrapperCache -> new TapeJsonCore()), TAPE_LAZY(wrapperCache -> new TapeJsonCore(true));
+
+  private final Function<Boolean, JsonCore<?>> coreFactory;
+
+  private JsonBackend(Function<Boolean, JsonCore<?>> coreFactory) {
+    this.coreFactory = coreFactory;
+  }
+
+  /**
+   * Creates a new {@link JsonCore} of this backend.
+   * 
+   * @return a {@link JsonCore}
+   */
+  public JsonCore<?> newCore() {
+    return newCore(false);
+  }
+
+  /**
+   * Creates a new {@link JsonCore} of this backend which optionally caches wrappers.
+   * 
+   * @param wrapperCache true if the wrappers of JSON values should be cached
+   * @return a {@link JsonCore}
+   */
+  public JsonCore<?> newCore(boolean wrapperCache) {
+    return coreFactory.apply(wrapperCache);
+  }
+
+}
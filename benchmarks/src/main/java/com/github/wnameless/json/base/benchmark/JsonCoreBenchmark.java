@@ -0,0 +1,193 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.github.wnameless.json.base.JsonArrayBase;
+import com.github.wnameless.json.base.JsonCore;
+import com.github.wnameless.json.base.JsonCursor;
+import com.github.wnameless.json.base.JsonObjectBase;
+import com.github.wnameless.json.base.JsonProjection;
+import com.github.wnameless.json.base.JsonPullParser;
+import com.github.wnameless.json.base.JsonPullParser.Token;
+import com.github.wnameless.json.base.JsonValueBase;
+import com.github.wnameless.json.base.JsonValueCore;
+import com.github.wnameless.json.base.JsonValueUtils;
+
+/**
+ * 
+ * {@link JsonCoreBenchmark} measures the parsing, serialization, conversion and iteration of every
+ * {@link JsonCore} implementation on documents of different sizes.<br>
+ * <br>
+ * Run it with the GC profiler to see the allocation rate of each operation:
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar JsonCoreBenchmark -prof gc
+ * </pre>
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCoreBenchmark {
+
+  @Param
+  JsonBackend backend;
+
+  @Param
+  JsonDocument document;
+
+  JsonCore<?> core;
+  String json;
+  JsonProjection projection;
+  JsonValueCore<?> parsed;
+  JsonArrayBase<?> records;
+
+  @Setup
+  public void setup() {
+    core = backend.newCore();
+    json = document.generate();
+    projection = JsonProjection.of("/id", "/version",
+        "/records/" + (document.getRecordCount() - 1) + "/name");
+    parsed = core.parse(json);
+    records = parsed.asObject().get("records").asArray();
+  }
+
+  @Benchmark
+  public JsonValueCore<?> parseString() {
+    return core.parse(json);
+  }
+
+  @Benchmark
+  public JsonValueCore<?> parseReader() throws IOException {
+    return core.parse(new StringReader(json));
+  }
+
+  @Benchmark
+  public void peekFields(Blackhole bh) {
+    JsonObjectBase<?> doc = core.parse(json).asObject();
+    bh.consume(doc.get("id").asString());
+    bh.consume(doc.get("version").asInt());
+    JsonArrayBase<?> records = doc.get("records").asArray();
+    bh.consume(records.get(records.size() - 1).asObject().get("name").asString());
+  }
+
+  @Benchmark
+  public JsonValueCore<?> parseProjected() {
+    return core.parse(json, projection);
+  }
+
+  @Benchmark
+  public void pullParser(Blackhole bh) throws IOException {
+    try (JsonPullParser parser = core.pullParser(json)) {
+      for (Token token = parser.next(); token != null; token = parser.next()) {
+        bh.consume(token);
+      }
+    }
+  }
+
+  @Benchmark
+  public String toJson() {
+    return parsed.toJson();
+  }
+
+  @Benchmark
+  public Map<String, Object> toMap() {
+    return JsonValueUtils.toMap(parsed.asObject());
+  }
+
+  @Benchmark
+  public List<Object> toList() {
+    return JsonValueUtils.toList(records);
+  }
+
+  @Benchmark
+  public List<Object> parallelToList() {
+    return JsonValueUtils.parallelToList(records);
+  }
+
+  @Benchmark
+  public void iterateObjects(Blackhole bh) {
+    for (Entry<String, ?> member : parsed.asObject()) {
+      bh.consume(member.getValue());
+    }
+    for (JsonValueBase<?> record : records) {
+      for (Entry<String, ?> member : record.asObject()) {
+        bh.consume(member.getKey());
+        bh.consume(member.getValue());
+      }
+    }
+  }
+
+  @Benchmark
+  public void walkCursor(Blackhole bh) {
+    JsonCursor cursor = parsed.cursor();
+    do {
+      if (cursor.moveToFirstChild()) continue;
+      bh.consume(cursor.fieldName());
+      bh.consume(cursor.isNumber());
+      while (!cursor.moveToNext()) {
+        if (!cursor.moveToParent()) return;
+      }
+    } while (true);
+  }
+
+  @Benchmark
+  public void iterateArrays(Blackhole bh) {
+    for (JsonValueBase<?> record : records) {
+      for (JsonValueBase<?> reading : record.asObject().get("readings").asArray()) {
+        bh.consume(reading.asDouble());
+      }
+    }
+  }
+
+  @Benchmark
+  public void forEachDouble(Blackhole bh) {
+    for (JsonValueBase<?> record : records) {
+      record.asObject().get("readings").asArray().forEachDouble(bh::consume);
+    }
+  }
+
+  @Benchmark
+  public void toDoubleArray(Blackhole bh) {
+    for (JsonValueBase<?> record : records) {
+      bh.consume(record.asObject().get("readings").asArray().toDoubleArray());
+    }
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+/**
+ * 
+ * {@link JsonDocument} generates deterministic JSON documents of different sizes, so every run of
+ * the benchmarks measures exactly the same input.<br>
+ * <br>
+ * Each document is a JSON object which holds some metadata and a "records" array of JSON objects.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public enum JsonDocument {
+
+  /**
+   * About 1 KB
+   */
+  SMALL(4),
+  /**
+   * About 100 KB
+   */
+  MEDIUM(400),
+  /**
+   * About 5 MB
+   */
+  LARGE(20000);
+
+  private final int recordCount;
+
+  private JsonDocument(int recordCount) {
+    this.recordCount = recordCount;
+  }
+
+  /**
+   * Returns the number of elements in the "records" array of this document.
+   * 
+   * @return the number of records
+   */
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Generates the JSON string of this document.
+   * 
+   * @return a JSON string
+   */
+  public String generate() {
+    StringBuilder sb = new StringBuilder(recordCount * 256);
+    sb.append("{\"id\":\"doc-").append(name().toLowerCase()).append('"');
+    sb.append(",\"version\":3,\"generated\":true,\"owner\":null");
+    sb.append(",\"tags\":[\"benchmark\",\"json-base\",\"jmh\"]");
+    sb.append(",\"records\":[");
+    for (int i = 0; i < recordCount; i++) {
+      if (i > 0) sb.append(',');
+      appendRecord(sb, i);
+    }
+    sb.append("]}");
+    return sb.toString();
+  }
+
+  private static void appendRecord(StringBuilder sb, int i) {
+    sb.append("{\"index\":").append(i);
+    sb.append(",\"uuid\":\"").append(Long.toHexString(i * 0x9E3779B97F4A7C15L)).append('"');
+    sb.append(",\"name\":\"Record \\\"").append(i).append("\\\" of benchmark\"");
+    sb.append(",\"active\":").append(i % 3 != 0);
+    sb.append(",\"score\":").append(i * 1.25 + 0.5);
+    sb.append(",\"timestamp\":").append(1700000000000L + i * 1000L);
+    sb.append(",\"comment\":null");
+    sb.append(",\"location\":{\"lat\":").append(25.0 + (i % 90) / 10.0).append(",\"lng\":")
+        .append(121.0 + (i % 180) / 10.0).append('}');
+    sb.append(",\"readings\":[");
+    for (int j = 0; j < 8; j++) {
+      if (j > 0) sb.append(',');
+      sb.append((i + j) % 100 + j / 8.0);
+    }
+    sb.append("]}");
+  }
+
+}
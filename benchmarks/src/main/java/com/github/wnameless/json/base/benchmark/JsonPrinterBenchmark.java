@@ -0,0 +1,80 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.wnameless.json.base.JsonPrinter;
+
+/**
+ * 
+ * {@link JsonPrinterBenchmark} compares {@link JsonPrinter} with the regex based
+ * {@link LegacyJsonPrinter}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonPrinterBenchmark {
+
+  @Param
+  JsonDocument document;
+
+  String minimalJson;
+  String prettyJson;
+
+  @Setup
+  public void setup() {
+    minimalJson = document.generate();
+    prettyJson = JsonPrinter.prettyPrint(minimalJson);
+  }
+
+  @Benchmark
+  public String minimalPrint() {
+    return JsonPrinter.minimalPrint(prettyJson);
+  }
+
+  @Benchmark
+  public String legacyMinimalPrint() {
+    return LegacyJsonPrinter.minimalPrint(prettyJson);
+  }
+
+  @Benchmark
+  public String prettyPrint() {
+    return JsonPrinter.prettyPrint(minimalJson);
+  }
+
+  @Benchmark
+  public String legacyPrettyPrint() {
+    return LegacyJsonPrinter.prettyPrint(minimalJson);
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.wnameless.json.base.JsonArrayCore;
+import com.github.wnameless.json.base.JsonCore;
+import com.github.wnameless.json.base.JsonObjectCore;
+import com.github.wnameless.json.base.JsonValueCore;
+
+/**
+ * 
+ * {@link MutationBenchmark} measures building JSON arrays and objects member by member through the
+ * mutation methods of {@link JsonArrayCore} and {@link JsonObjectCore}, which shows whether the
+ * cost of a mutation depends on the size of the container.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MutationBenchmark {
+
+  // The tape backend is immutable
+  @Param({"JACKSON", "JACKSON3", "GSON", "ORG_JSON", "JAKARTA"})
+  JsonBackend backend;
+
+  @Param({"100", "10000"})
+  int size;
+
+  JsonCore<?> jsonCore;
+  JsonValueCore<?> element;
+
+  @Setup
+  public void setup() {
+    jsonCore = backend.newCore(false);
+    element = jsonCore.parse("{\"id\":1,\"name\":\"text\"}");
+  }
+
+  @Benchmark
+  public String buildArray() {
+    JsonArrayCore<?> ary = jsonCore.parse("[]").asArray();
+    for (int i = 0; i < size; i++) {
+      ary.add(element);
+    }
+    return ary.toJson();
+  }
+
+  @Benchmark
+  public String buildObject() {
+    JsonObjectCore<?> obj = jsonCore.parse("{}").asObject();
+    for (int i = 0; i < size; i++) {
+      obj.set("k" + i, element);
+    }
+    return obj.toJson();
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.wnameless.json.base.JsonArrayBase;
+import com.github.wnameless.json.base.JsonCore;
+import com.github.wnameless.json.base.JsonValueBase;
+import com.github.wnameless.json.base.JsonValueCore;
+
+/**
+ * 
+ * {@link NdjsonBenchmark} compares the sequential and the parallel parsing of a newline-delimited
+ * JSON file by every {@link JsonCore} implementation.
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar NdjsonBenchmark
+ * </pre>
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NdjsonBenchmark {
+
+  @Param
+  JsonBackend backend;
+
+  JsonCore<?> core;
+  Path path;
+
+  @Setup
+  public void setup() throws IOException {
+    core = backend.newCore();
+    JsonArrayBase<?> records =
+        core.parse(JsonDocument.LARGE.generate()).asObject().get("records").asArray();
+
+    StringBuilder ndjson = new StringBuilder();
+    for (int i = 0; i < 5; i++) {
+      for (JsonValueBase<?> record : records) {
+        ndjson.append(record.toJson()).append('\n');
+      }
+    }
+    path = Files.createTempFile("json-base-benchmark", ".ndjson");
+    Files.write(path, ndjson.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(path);
+  }
+
+  @Benchmark
+  public long parseNdjson() throws IOException {
+    try (Stream<? extends JsonValueCore<?>> values = core.parseNdjson(path)) {
+      return values.count();
+    }
+  }
+
+  @Benchmark
+  public long parseNdjsonParallelOrdered() throws IOException {
+    try (Stream<? extends JsonValueCore<?>> values = core.parseNdjsonParallel(path, true)) {
+      return values.count();
+    }
+  }
+
+  @Benchmark
+  public long parseNdjsonParallelUnordered() throws IOException {
+    try (Stream<? extends JsonValueCore<?>> values = core.parseNdjsonParallel(path, false)) {
+      return values.count();
+    }
+  }
+
+}
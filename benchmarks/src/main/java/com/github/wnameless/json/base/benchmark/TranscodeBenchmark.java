@@ -0,0 +1,77 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.wnameless.json.base.JsonCore;
+import com.github.wnameless.json.base.JsonValueCore;
+
+/**
+ * 
+ * {@link TranscodeBenchmark} measures moving a JSON document parsed by one {@link JsonCore} into
+ * another, either by {@link JsonCore#transcode} or by serializing and re-parsing it.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranscodeBenchmark {
+
+  @Param({"GSON"})
+  JsonBackend source;
+
+  @Param
+  JsonBackend target;
+
+  @Param
+  JsonDocument document;
+
+  JsonCore<?> targetCore;
+  JsonValueCore<?> parsed;
+
+  @Setup
+  public void setup() {
+    targetCore = target.newCore();
+    parsed = source.newCore().parse(document.generate());
+  }
+
+  @Benchmark
+  public JsonValueCore<?> transcode() {
+    return targetCore.transcode(parsed);
+  }
+
+  @Benchmark
+  public JsonValueCore<?> toJsonAndParse() {
+    return targetCore.parse(parsed.toJson());
+  }
+
+}
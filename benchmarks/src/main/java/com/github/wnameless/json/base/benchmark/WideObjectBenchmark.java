@@ -0,0 +1,94 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.github.wnameless.json.base.JsonCursor;
+import com.github.wnameless.json.base.JsonObjectBase;
+
+/**
+ * 
+ * {@link WideObjectBenchmark} measures iterating and converting a single JSON object with thousands
+ * of members, where the cost of reaching each member value dominates.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WideObjectBenchmark {
+
+  @Param
+  JsonBackend backend;
+
+  @Param({"1000", "10000"})
+  int width;
+
+  JsonObjectBase<?> wide;
+
+  @Setup
+  public void setup() {
+    StringBuilder json = new StringBuilder("{");
+    for (int i = 0; i < width; i++) {
+      if (i > 0) json.append(',');
+      json.append("\"field").append(i).append("\":").append(i);
+    }
+    json.append('}');
+    wide = backend.newCore(false).parse(json.toString()).asObject();
+  }
+
+  @Benchmark
+  public void iterateEntries(Blackhole bh) {
+    for (Entry<String, ?> member : wide) {
+      bh.consume(member.getKey());
+      bh.consume(member.getValue());
+    }
+  }
+
+  @Benchmark
+  public void walkCursor(Blackhole bh) {
+    JsonCursor cursor = wide.cursor();
+    if (!cursor.moveToFirstChild()) return;
+    do {
+      bh.consume(cursor.fieldName());
+      bh.consume(cursor.asInt());
+    } while (cursor.moveToNext());
+  }
+
+  @Benchmark
+  public Map<String, Object> toMap() {
+    return wide.toMap();
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base.benchmark;
+
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.github.wnameless.json.base.JsonObjectBase;
+import com.github.wnameless.json.base.JsonValueBase;
+import com.github.wnameless.json.base.JsonValueCore;
+
+/**
+ * 
+ * {@link WrapperCacheBenchmark} measures repeated traversals of the same parsed tree with and
+ * without wrapper caching. Run it with the GC profiler to compare the allocation rates:
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar WrapperCacheBenchmark -prof gc
+ * </pre>
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WrapperCacheBenchmark {
+
+  @Param
+  JsonBackend backend;
+
+  @Param({"false", "true"})
+  boolean wrapperCache;
+
+  JsonValueCore<?> parsed;
+
+  @Setup
+  public void setup() {
+    parsed = backend.newCore(wrapperCache).parse(JsonDocument.MEDIUM.generate());
+  }
+
+  @Benchmark
+  public void lookupMembers(Blackhole bh) {
+    for (JsonValueBase<?> record : parsed.asObject().get("records").asArray()) {
+      JsonObjectBase<?> obj = record.asObject();
+      bh.consume(obj.get("index"));
+      bh.consume(obj.get("readings"));
+    }
+  }
+
+  @Benchmark
+  public void iterateTree(Blackhole bh) {
+    for (JsonValueBase<?> record : parsed.asObject().get("records").asArray()) {
+      for (Entry<String, ?> member : record.asObject()) {
+        bh.consume(member.getValue());
+      }
+      for (JsonValueBase<?> reading : record.asObject().get("readings").asArray()) {
+        bh.consume(reading);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,196 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 
+ * {@link AbstractJsonCursor} implements the movements of a {@link JsonCursor} over the nodes of
+ * any JSON implementation. The path from the root to the current node is kept in a few arrays
+ * which only grow with the depth of the JSON tree, so a walk allocates nothing but one member
+ * iterator per visited JSON object.
+ * 
+ * @author Wei-Ming Wu
+ *
+ * @param <N> the type of a JSON node
+ */
+abstract class AbstractJsonCursor<N> implements JsonCursor {
+
+  private static final int INITIAL_DEPTH = 16;
+
+  private final N root;
+  private Object[] nodes = new Object[INITIAL_DEPTH];
+  private Iterator<?>[] members = new Iterator<?>[INITIAL_DEPTH];
+  private String[] names = new String[INITIAL_DEPTH];
+  private int[] indexes = new int[INITIAL_DEPTH];
+  private int depth = 0;
+
+  AbstractJsonCursor(N root) {
+    if (root == null) throw new NullPointerException();
+    this.root = root;
+    nodes[0] = root;
+    indexes[0] = -1;
+  }
+
+  /**
+   * Returns the current node.
+   * 
+   * @return a JSON node
+   */
+  @SuppressWarnings("unchecked")
+  final N node() {
+    return (N) nodes[depth];
+  }
+
+  abstract boolean isObject(N node);
+
+  abstract boolean isArray(N node);
+
+  abstract int objectSize(N object);
+
+  /**
+   * Returns an {@link Iterator} over the members of given JSON object. Each member is turned into
+   * its name and value by {@link #memberName(Object)} and {@link #memberValue(Object, Object)}.
+   * 
+   * @param object a JSON object node
+   * @return an {@link Iterator}
+   */
+  abstract Iterator<?> memberIterator(N object);
+
+  abstract String memberName(Object member);
+
+  abstract N memberValue(N object, Object member);
+
+  abstract int arraySize(N array);
+
+  abstract N element(N array, int index);
+
+  @Override
+  public boolean moveToFirstChild() {
+    N node = node();
+    if (isObject(node)) {
+      Iterator<?> iterator = memberIterator(node);
+      if (!iterator.hasNext()) return false;
+      push();
+      members[depth] = iterator;
+      moveToMember(node, iterator.next(), 0);
+      return true;
+    }
+    if (isArray(node)) {
+      if (arraySize(node) == 0) return false;
+      push();
+      moveToElement(node, 0);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean moveToNext() {
+    if (depth == 0) return false;
+    N parent = (N) nodes[depth - 1];
+    Iterator<?> iterator = members[depth];
+    if (iterator != null) {
+      if (!iterator.hasNext()) return false;
+      moveToMember(parent, iterator.next(), indexes[depth] + 1);
+      return true;
+    }
+    int next = indexes[depth] + 1;
+    if (next >= arraySize(parent)) return false;
+    moveToElement(parent, next);
+    return true;
+  }
+
+  @Override
+  public boolean moveToParent() {
+    if (depth == 0) return false;
+    pop();
+    return true;
+  }
+
+  @Override
+  public void reset() {
+    while (depth > 0) {
+      pop();
+    }
+    nodes[0] = root;
+  }
+
+  @Override
+  public int depth() {
+    return depth;
+  }
+
+  @Override
+  public String fieldName() {
+    return names[depth];
+  }
+
+  @Override
+  public int index() {
+    return indexes[depth];
+  }
+
+  @Override
+  public int size() {
+    N node = node();
+    if (isObject(node)) return objectSize(node);
+    if (isArray(node)) return arraySize(node);
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean isObject() {
+    return isObject(node());
+  }
+
+  @Override
+  public boolean isArray() {
+    return isArray(node());
+  }
+
+  private void moveToMember(N object, Object member, int index) {
+    nodes[depth] = memberValue(object, member);
+    names[depth] = memberName(member);
+    indexes[depth] = index;
+  }
+
+  private void moveToElement(N array, int index) {
+    nodes[depth] = element(array, index);
+    indexes[depth] = index;
+  }
+
+  private void push() {
+    if (++depth == nodes.length) {
+      int length = nodes.length * 2;
+      nodes = Arrays.copyOf(nodes, length);
+      members = Arrays.copyOf(members, length);
+      names = Arrays.copyOf(names, length);
+      indexes = Arrays.copyOf(indexes, length);
+    }
+  }
+
+  private void pop() {
+    nodes[depth] = null;
+    members[depth] = null;
+    names[depth] = null;
+    depth--;
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 
+ * An {@link InputStream} which reads the remaining bytes of a {@link ByteBuffer}, so direct and
+ * memory-mapped buffers can be fed into a JSON parser without copying them onto the heap first.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class ByteBufferInputStream extends InputStream {
+
+  private final ByteBuffer buffer;
+
+  /**
+   * Creates a {@link ByteBufferInputStream}. Reading from this stream advances the position of
+   * given {@link ByteBuffer}.
+   * 
+   * @param buffer a {@link ByteBuffer}
+   */
+  ByteBufferInputStream(ByteBuffer buffer) {
+    if (buffer == null) throw new NullPointerException();
+    this.buffer = buffer;
+  }
+
+  @Override
+  public int read() {
+    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) {
+    if (length == 0) return 0;
+    if (!buffer.hasRemaining()) return -1;
+    int count = Math.min(length, buffer.remaining());
+    buffer.get(bytes, offset, count);
+    return count;
+  }
+
+  @Override
+  public long skip(long n) {
+    int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+    buffer.position(buffer.position() + count);
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * 
+ * {@link CursorJsonPullParser} reads the tokens of an already parsed JSON tree by walking it with
+ * a {@link JsonCursor}, which serves as the {@link JsonPullParser} of any {@link JsonCore} without
+ * a streaming parser.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class CursorJsonPullParser implements JsonPullParser {
+
+  private final JsonCursor cursor;
+  private final Closeable source;
+  private boolean started;
+  private Token token;
+
+  CursorJsonPullParser(JsonCursor cursor, Closeable source) {
+    if (cursor == null) throw new NullPointerException();
+    this.cursor = cursor;
+    this.source = source;
+  }
+
+  @Override
+  public Token next() {
+    if (!started) {
+      started = true;
+      return token = valueToken();
+    }
+    if (token == null) return null;
+
+    if (token == Token.FIELD_NAME) return token = valueToken();
+    if (token.isStart()) return token = cursor.moveToFirstChild() ? memberToken() : endToken();
+    if (cursor.depth() == 0) return token = null;
+    if (cursor.moveToNext()) return token = memberToken();
+    cursor.moveToParent();
+    return token = endToken();
+  }
+
+  private Token memberToken() {
+    return cursor.fieldName() != null ? Token.FIELD_NAME : valueToken();
+  }
+
+  private Token valueToken() {
+    if (cursor.isObject()) return Token.START_OBJECT;
+    if (cursor.isArray()) return Token.START_ARRAY;
+    if (cursor.isString()) return Token.STRING;
+    if (cursor.isNumber()) return Token.NUMBER;
+    if (cursor.isBoolean()) return cursor.asBoolean() ? Token.TRUE : Token.FALSE;
+    return Token.NULL;
+  }
+
+  private Token endToken() {
+    return cursor.isObject() ? Token.END_OBJECT : Token.END_ARRAY;
+  }
+
+  @Override
+  public Token currentToken() {
+    return token;
+  }
+
+  @Override
+  public String text() {
+    if (token == null) throw new IllegalStateException();
+    switch (token) {
+      case FIELD_NAME:
+        return cursor.fieldName();
+      case STRING:
+        return cursor.asString();
+      case NUMBER:
+        // Only a tape keeps the JSON text of its numbers, other trees are normalized
+        if (cursor instanceof TapeJsonCursor tapeCursor) return tapeCursor.numberText();
+        return cursor.asNumber().toString();
+      case TRUE:
+        return "true";
+      case FALSE:
+        return "false";
+      case NULL:
+        return "null";
+      default:
+        throw new IllegalStateException();
+    }
+  }
+
+  @Override
+  public Number asNumber() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    return cursor.asNumber();
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    return cursor.asBigDecimal();
+  }
+
+  @Override
+  public void skipChildren() {
+    if (token != null && token.isStart()) token = endToken();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (source != null) source.close();
+  }
+
+}
@@ -15,10 +15,16 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 
@@ -32,30 +38,47 @@ import com.google.gson.JsonElement;
 public final class GsonJsonArray implements JsonArrayCore<GsonJsonValue> {
 
   private final JsonArray jsonArray;
+  private final WrapperCache<GsonJsonValue> cache;
 
   public GsonJsonArray(JsonArray jsonArray) {
+    this(jsonArray, false);
+  }
+
+  /**
+   * Creates a {@link GsonJsonArray} which optionally caches the wrappers of its elements.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonArray a {@link JsonArray}
+   * @param wrapperCache true if the wrappers of elements should be cached
+   */
+  public GsonJsonArray(JsonArray jsonArray, boolean wrapperCache) {
     if (jsonArray == null) throw new NullPointerException();
     this.jsonArray = jsonArray;
+    cache = wrapperCache ? new WrapperCache<>() : null;
   }
 
   @Override
   public void add(JsonSource jsonValue) {
-    jsonArray.add((JsonElement) jsonValue.getSource());
+    jsonArray.add(GsonJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public void set(int index, JsonSource jsonValue) {
-    jsonArray.set(index, (JsonElement) jsonValue.getSource());
+    jsonArray.set(index, GsonJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public GsonJsonValue remove(int index) {
+    if (cache != null) cache.evictElements(index);
     return new GsonJsonValue(jsonArray.remove(index));
   }
 
   @Override
   public GsonJsonValue get(int index) {
-    return new GsonJsonValue(jsonArray.get(index));
+    if (cache == null) return new GsonJsonValue(jsonArray.get(index));
+    return cache.element(index, jsonArray.size(), jsonArray.get(index),
+        n -> new GsonJsonValue((JsonElement) n, true));
   }
 
   @Override
@@ -65,10 +88,68 @@ public final class GsonJsonArray implements JsonArrayCore<GsonJsonValue> {
 
   @Override
   public Iterator<GsonJsonValue> iterator() {
+    if (cache != null) return Spliterators.iterator(spliterator());
     return new TransformIterator<JsonElement, GsonJsonValue>(jsonArray.iterator(),
         GsonJsonValue::new);
   }
 
+  @Override
+  public int[] toIntArray() {
+    int size = jsonArray.size();
+    int[] array = new int[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).getAsInt();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).getAsInt());
+    }
+  }
+
+  @Override
+  public long[] toLongArray() {
+    int size = jsonArray.size();
+    long[] array = new long[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).getAsLong();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachLong(LongConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).getAsLong());
+    }
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    int size = jsonArray.size();
+    double[] array = new double[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).getAsDouble();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachDouble(DoubleConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).getAsDouble());
+    }
+  }
+
   @Override
   public boolean isObject() {
     return false;
@@ -146,7 +227,8 @@ public final class GsonJsonArray implements JsonArrayCore<GsonJsonValue> {
 
   @Override
   public GsonJsonValue asValue() {
-    return new GsonJsonValue(jsonArray);
+    if (cache == null) return new GsonJsonValue(jsonArray);
+    return cache.view(jsonArray, node -> new GsonJsonValue((JsonElement) node, true));
   }
 
   @Override
@@ -154,11 +236,21 @@ public final class GsonJsonArray implements JsonArrayCore<GsonJsonValue> {
     return jsonArray;
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new GsonJsonCursor(jsonArray);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    GsonJsonCore.writeJson(jsonArray, writer);
+  }
+
   @Override
   public int hashCode() {
     return jsonArray.hashCode();
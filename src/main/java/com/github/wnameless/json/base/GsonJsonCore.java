@@ -16,10 +16,21 @@
 package com.github.wnameless.json.base;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * 
@@ -31,32 +42,120 @@ import com.google.gson.JsonElement;
 public class GsonJsonCore implements JsonCore<GsonJsonValue> {
 
   private final Gson gson;
+  private final boolean wrapperCache;
 
   private static class LazyHolder {
     public static final Gson INSTANCE = new GsonBuilder().serializeNulls().create();
   }
 
+  private static class AdapterHolder {
+    public static final TypeAdapter<JsonElement> INSTANCE =
+        LazyHolder.INSTANCE.getAdapter(JsonElement.class);
+  }
+
   private Gson getInstance() {
     return gson == null ? LazyHolder.INSTANCE : gson;
   }
 
   public GsonJsonCore() {
-    gson = null;
+    this(false);
   }
 
   public GsonJsonCore(Gson gson) {
+    this(gson, false);
+  }
+
+  /**
+   * Creates a {@link GsonJsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link GsonJsonValue#GsonJsonValue(JsonElement, boolean)}.
+   * 
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public GsonJsonCore(boolean wrapperCache) {
+    gson = null;
+    this.wrapperCache = wrapperCache;
+  }
+
+  /**
+   * Creates a {@link GsonJsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link GsonJsonValue#GsonJsonValue(JsonElement, boolean)}.
+   * 
+   * @param gson a {@link Gson}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public GsonJsonCore(Gson gson, boolean wrapperCache) {
     if (gson == null) throw new NullPointerException();
     this.gson = gson;
+    this.wrapperCache = wrapperCache;
   }
 
   @Override
   public GsonJsonValue parse(String json) {
-    return new GsonJsonValue(getInstance().fromJson(json, JsonElement.class));
+    return new GsonJsonValue(getInstance().fromJson(json, JsonElement.class), wrapperCache);
   }
 
   @Override
   public GsonJsonValue parse(Reader jsonReader) throws IOException {
-    return new GsonJsonValue(getInstance().fromJson(jsonReader, JsonElement.class));
+    return new GsonJsonValue(getInstance().fromJson(jsonReader, JsonElement.class),
+        wrapperCache);
+  }
+
+  @Override
+  public GsonJsonValue parse(String json, JsonProjection projection) {
+    try {
+      return parse(new StringReader(json), projection);
+    } catch (IOException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  @Override
+  public GsonJsonValue parse(Reader jsonReader, JsonProjection projection) throws IOException {
+    if (projection == null) throw new NullPointerException();
+    JsonReader reader = newJsonReader(jsonReader);
+    JsonElement jsonValue =
+        GsonJsonTranscoder.INSTANCE.transcode(new GsonJsonPullParser(reader), projection);
+    if (reader.peek() != JsonToken.END_DOCUMENT) {
+      throw new JsonSyntaxException("JSON document was not fully consumed.");
+    }
+    return new GsonJsonValue(jsonValue, wrapperCache);
+  }
+
+  @Override
+  public GsonJsonPullParser pullParser(String json) {
+    return new GsonJsonPullParser(newJsonReader(new StringReader(json)));
+  }
+
+  @Override
+  public GsonJsonPullParser pullParser(Reader jsonReader) {
+    return new GsonJsonPullParser(newJsonReader(jsonReader));
+  }
+
+  @Override
+  public GsonJsonPullParser pullParser(InputStream jsonStream) {
+    return pullParser(new InputStreamReader(jsonStream, StandardCharsets.UTF_8));
+  }
+
+  private JsonReader newJsonReader(Reader jsonReader) {
+    JsonReader reader = getInstance().newJsonReader(jsonReader);
+    // Gson#fromJson reads leniently unless a strictness is set
+    if (reader.getStrictness() == Strictness.LEGACY_STRICT) {
+      reader.setStrictness(Strictness.LENIENT);
+    }
+    return reader;
+  }
+
+  @Override
+  public GsonJsonValue transcode(JsonValueBase<?> jsonValue) {
+    return new GsonJsonValue(GsonJsonTranscoder.INSTANCE.transcode(jsonValue), wrapperCache);
+  }
+
+  static void writeJson(JsonElement jsonElement, Writer writer) throws IOException {
+    // Same settings as JsonElement#toString
+    JsonWriter jsonWriter = new JsonWriter(writer);
+    jsonWriter.setStrictness(Strictness.LENIENT);
+    AdapterHolder.INSTANCE.write(jsonWriter, jsonElement);
+    jsonWriter.flush();
   }
 
 }
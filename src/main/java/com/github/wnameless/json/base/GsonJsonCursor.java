@@ -0,0 +1,137 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import com.google.gson.JsonElement;
+
+/**
+ * 
+ * The Gson implementation of {@link JsonCursor}, which walks {@link JsonElement}s directly.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class GsonJsonCursor extends AbstractJsonCursor<JsonElement> {
+
+  GsonJsonCursor(JsonElement root) {
+    super(root);
+  }
+
+  @Override
+  boolean isObject(JsonElement node) {
+    return node.isJsonObject();
+  }
+
+  @Override
+  boolean isArray(JsonElement node) {
+    return node.isJsonArray();
+  }
+
+  @Override
+  int objectSize(JsonElement object) {
+    return object.getAsJsonObject().size();
+  }
+
+  @Override
+  Iterator<?> memberIterator(JsonElement object) {
+    return object.getAsJsonObject().entrySet().iterator();
+  }
+
+  @Override
+  String memberName(Object member) {
+    return ((Entry<?, ?>) member).getKey().toString();
+  }
+
+  @Override
+  JsonElement memberValue(JsonElement object, Object member) {
+    return (JsonElement) ((Entry<?, ?>) member).getValue();
+  }
+
+  @Override
+  int arraySize(JsonElement array) {
+    return array.getAsJsonArray().size();
+  }
+
+  @Override
+  JsonElement element(JsonElement array, int index) {
+    return array.getAsJsonArray().get(index);
+  }
+
+  @Override
+  public boolean isString() {
+    return node().isJsonPrimitive() ? node().getAsJsonPrimitive().isString() : false;
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return node().isJsonPrimitive() ? node().getAsJsonPrimitive().isBoolean() : false;
+  }
+
+  @Override
+  public boolean isNumber() {
+    return node().isJsonPrimitive() ? node().getAsJsonPrimitive().isNumber() : false;
+  }
+
+  @Override
+  public boolean isNull() {
+    return node().isJsonNull();
+  }
+
+  @Override
+  public String asString() {
+    return node().getAsString();
+  }
+
+  @Override
+  public boolean asBoolean() {
+    return node().getAsBoolean();
+  }
+
+  @Override
+  public int asInt() {
+    return node().getAsInt();
+  }
+
+  @Override
+  public long asLong() {
+    return node().getAsLong();
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    return node().getAsBigInteger();
+  }
+
+  @Override
+  public double asDouble() {
+    return node().getAsDouble();
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    return node().getAsBigDecimal();
+  }
+
+  @Override
+  public Number asNumber() {
+    return GsonJsonValue.asNumber(node());
+  }
+
+}
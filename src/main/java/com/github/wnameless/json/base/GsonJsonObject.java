@@ -15,9 +15,12 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -34,22 +37,49 @@ import com.google.gson.JsonObject;
 public final class GsonJsonObject implements JsonObjectCore<GsonJsonValue> {
 
   private final JsonObject jsonObject;
+  private final WrapperCache<GsonJsonValue> cache;
 
   public GsonJsonObject(JsonObject jsonObject) {
+    this(jsonObject, false);
+  }
+
+  /**
+   * Creates a {@link GsonJsonObject} which optionally caches the wrappers of its members.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonObject a {@link JsonObject}
+   * @param wrapperCache true if the wrappers of members should be cached
+   */
+  public GsonJsonObject(JsonObject jsonObject, boolean wrapperCache) {
     if (jsonObject == null) throw new NullPointerException();
     this.jsonObject = jsonObject;
+    cache = wrapperCache ? new WrapperCache<>() : null;
   }
 
   @Override
   public void set(String name, JsonSource jsonValue) {
-    jsonObject.add(name, (JsonElement) jsonValue.getSource());
+    jsonObject.add(name, GsonJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public boolean remove(String name) {
+    if (cache != null) cache.evictMember(name);
     return jsonObject.remove(name) != null;
   }
 
+  @Override
+  public boolean removeAll(Collection<String> names) {
+    if (cache != null) cache.evictMembers(names);
+    return jsonObject.asMap().keySet().removeAll(names);
+  }
+
+  @Override
+  public boolean retainAll(Collection<String> names) {
+    if (cache != null) cache.retainMembers(names);
+    return jsonObject.asMap().keySet().retainAll(names);
+  }
+
   @Override
   public boolean contains(String name) {
     return jsonObject.has(name);
@@ -58,7 +88,9 @@ public final class GsonJsonObject implements JsonObjectCore<GsonJsonValue> {
   @Override
   public GsonJsonValue get(String name) {
     JsonElement element = jsonObject.get(name);
-    return element == null ? null : new GsonJsonValue(element);
+    if (element == null) return null;
+    if (cache == null) return new GsonJsonValue(element);
+    return cache.member(name, element, n -> new GsonJsonValue((JsonElement) n, true));
   }
 
   @Override
@@ -73,6 +105,11 @@ public final class GsonJsonObject implements JsonObjectCore<GsonJsonValue> {
 
   @Override
   public Iterator<Entry<String, GsonJsonValue>> iterator() {
+    if (cache != null) {
+      return new TransformIterator<Entry<String, JsonElement>, Entry<String, GsonJsonValue>>(
+          jsonObject.entrySet().iterator(), member -> cache.entry(member.getKey(),
+              member.getValue(), n -> new GsonJsonValue((JsonElement) n, true)));
+    }
     return new TransformIterator<Entry<String, JsonElement>, Entry<String, GsonJsonValue>>(
         jsonObject.entrySet().iterator(), member -> new SimpleImmutableEntry<>(member.getKey(),
             new GsonJsonValue(member.getValue())));
@@ -155,7 +192,8 @@ public final class GsonJsonObject implements JsonObjectCore<GsonJsonValue> {
 
   @Override
   public GsonJsonValue asValue() {
-    return new GsonJsonValue(jsonObject);
+    if (cache == null) return new GsonJsonValue(jsonObject);
+    return cache.view(jsonObject, node -> new GsonJsonValue((JsonElement) node, true));
   }
 
   @Override
@@ -163,11 +201,21 @@ public final class GsonJsonObject implements JsonObjectCore<GsonJsonValue> {
     return jsonObject;
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new GsonJsonCursor(jsonObject);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    GsonJsonCore.writeJson(jsonObject, writer);
+  }
+
   @Override
   public int hashCode() {
     return jsonObject.hashCode();
@@ -0,0 +1,138 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * 
+ * The GSON implementation of {@link JsonPullParser}, which reads tokens from a
+ * {@link JsonReader}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class GsonJsonPullParser implements JsonPullParser {
+
+  private final JsonReader jsonReader;
+  private Token token;
+  private String text;
+  private Number number;
+
+  /**
+   * Creates a {@link GsonJsonPullParser} by given {@link JsonReader}, which is positioned before
+   * the JSON value to read.
+   * 
+   * @param jsonReader a {@link JsonReader}
+   */
+  public GsonJsonPullParser(JsonReader jsonReader) {
+    if (jsonReader == null) throw new NullPointerException();
+    this.jsonReader = jsonReader;
+  }
+
+  @Override
+  public Token next() throws IOException {
+    text = null;
+    number = null;
+    switch (jsonReader.peek()) {
+      case BEGIN_OBJECT:
+        jsonReader.beginObject();
+        return token = Token.START_OBJECT;
+      case END_OBJECT:
+        jsonReader.endObject();
+        return token = Token.END_OBJECT;
+      case BEGIN_ARRAY:
+        jsonReader.beginArray();
+        return token = Token.START_ARRAY;
+      case END_ARRAY:
+        jsonReader.endArray();
+        return token = Token.END_ARRAY;
+      case NAME:
+        text = jsonReader.nextName();
+        return token = Token.FIELD_NAME;
+      case STRING:
+        text = jsonReader.nextString();
+        return token = Token.STRING;
+      case NUMBER:
+        // Read as Gson parses numbers, which keeps their JSON text
+        number = ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(jsonReader);
+        text = number.toString();
+        return token = Token.NUMBER;
+      case BOOLEAN:
+        return token = jsonReader.nextBoolean() ? Token.TRUE : Token.FALSE;
+      case NULL:
+        jsonReader.nextNull();
+        return token = Token.NULL;
+      default:
+        return token = null;
+    }
+  }
+
+  @Override
+  public Token currentToken() {
+    return token;
+  }
+
+  @Override
+  public String text() {
+    if (text != null) return text;
+    if (token == Token.TRUE) return "true";
+    if (token == Token.FALSE) return "false";
+    if (token == Token.NULL) return "null";
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public Number asNumber() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    return JsonValueUtils.toJavaNumber(text);
+  }
+
+  /**
+   * Returns the current number as Gson parses it, which keeps its JSON text.
+   * 
+   * @return a {@link Number}
+   */
+  Number lazilyParsedNumber() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    return number;
+  }
+
+  @Override
+  public void skipChildren() throws IOException {
+    if (token == null || !token.isStart()) return;
+
+    while (jsonReader.hasNext()) {
+      if (token == Token.START_OBJECT) jsonReader.nextName();
+      jsonReader.skipValue();
+    }
+    if (token == Token.START_OBJECT) {
+      jsonReader.endObject();
+      token = Token.END_OBJECT;
+    } else {
+      jsonReader.endArray();
+      token = Token.END_ARRAY;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    jsonReader.close();
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * 
+ * The Gson implementation of {@link JsonTranscoder}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class GsonJsonTranscoder extends JsonTranscoder<JsonElement> {
+
+  static final GsonJsonTranscoder INSTANCE = new GsonJsonTranscoder();
+
+  private GsonJsonTranscoder() {}
+
+  @Override
+  boolean isNative(Object source) {
+    return source instanceof JsonElement;
+  }
+
+  @Override
+  Object newObject(int size) {
+    return new JsonObject();
+  }
+
+  @Override
+  Object newArray(int size) {
+    return new JsonArray(size);
+  }
+
+  @Override
+  void put(Object object, String name, JsonElement value) {
+    ((JsonObject) object).add(name, value);
+  }
+
+  @Override
+  void add(Object array, JsonElement value) {
+    ((JsonArray) array).add(value);
+  }
+
+  @Override
+  JsonElement build(Object container) {
+    return (JsonElement) container;
+  }
+
+  @Override
+  JsonElement nullValue() {
+    return JsonNull.INSTANCE;
+  }
+
+  @Override
+  JsonElement booleanValue(boolean value) {
+    return new JsonPrimitive(value);
+  }
+
+  @Override
+  JsonElement stringValue(String value) {
+    return new JsonPrimitive(value);
+  }
+
+  @Override
+  JsonElement numberValue(Number value) {
+    return new JsonPrimitive(value);
+  }
+
+  @Override
+  JsonElement numberValue(JsonPullParser parser) {
+    if (parser instanceof GsonJsonPullParser) {
+      return new JsonPrimitive(((GsonJsonPullParser) parser).lazilyParsedNumber());
+    }
+    return numberValue(parser.asNumber());
+  }
+
+}
@@ -15,10 +15,14 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Objects;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 /**
  * 
@@ -30,10 +34,26 @@ import com.google.gson.JsonElement;
 public final class GsonJsonValue implements JsonValueCore<GsonJsonValue> {
 
   private final JsonElement jsonValue;
+  private final WrapperCache<GsonJsonValue> cache;
 
   public GsonJsonValue(JsonElement jsonValue) {
+    this(jsonValue, false);
+  }
+
+  /**
+   * Creates a {@link GsonJsonValue} which optionally caches the wrappers of its descendants.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonValue a {@link JsonElement}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public GsonJsonValue(JsonElement jsonValue, boolean wrapperCache) {
     if (jsonValue == null) throw new NullPointerException();
     this.jsonValue = jsonValue;
+    cache = wrapperCache && (jsonValue.isJsonObject() || jsonValue.isJsonArray())
+        ? new WrapperCache<>()
+        : null;
   }
 
   @Override
@@ -68,12 +88,18 @@ public final class GsonJsonValue implements JsonValueCore<GsonJsonValue> {
 
   @Override
   public GsonJsonObject asObject() {
-    return new GsonJsonObject(jsonValue.getAsJsonObject());
+    if (cache == null || !jsonValue.isJsonObject()) {
+      return new GsonJsonObject(jsonValue.getAsJsonObject());
+    }
+    return cache.view(jsonValue, node -> new GsonJsonObject((JsonObject) node, true));
   }
 
   @Override
   public GsonJsonArray asArray() {
-    return new GsonJsonArray(jsonValue.getAsJsonArray());
+    if (cache == null || !jsonValue.isJsonArray()) {
+      return new GsonJsonArray(jsonValue.getAsJsonArray());
+    }
+    return cache.view(jsonValue, node -> new GsonJsonArray((JsonArray) node, true));
   }
 
   @Override
@@ -106,6 +132,33 @@ public final class GsonJsonValue implements JsonValueCore<GsonJsonValue> {
     return jsonValue.getAsBigDecimal();
   }
 
+  @Override
+  public Number asNumber() {
+    return asNumber(jsonValue);
+  }
+
+  /**
+   * Converts given {@link JsonElement} to a Java {@link Number} as {@link JsonValueBase#asNumber()}
+   * does, without creating any {@link BigDecimal} whenever possible.
+   * 
+   * @param jsonValue a {@link JsonElement}
+   * @return a {@link Number}
+   */
+  static Number asNumber(JsonElement jsonValue) {
+    if (jsonValue.isJsonPrimitive() && jsonValue.getAsJsonPrimitive().isNumber()) {
+      Number number = jsonValue.getAsNumber();
+      if (number instanceof Integer || number instanceof Long || number instanceof Short
+          || number instanceof Byte) {
+        return JsonValueUtils.toJavaNumber(number.longValue());
+      }
+      // Any other number, including the lazily parsed one, converts to BigDecimal by its String
+      if (!(number instanceof BigDecimal)) {
+        return JsonValueUtils.toJavaNumber(number.toString());
+      }
+    }
+    return JsonValueUtils.toJavaNumber(jsonValue.getAsBigDecimal());
+  }
+
   @Override
   public String asString() {
     return jsonValue.getAsString();
@@ -132,11 +185,21 @@ public final class GsonJsonValue implements JsonValueCore<GsonJsonValue> {
     return jsonValue.toString();
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new GsonJsonCursor(jsonValue);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    GsonJsonCore.writeJson(jsonValue, writer);
+  }
+
   @Override
   public JsonElement getSource() {
     return jsonValue;
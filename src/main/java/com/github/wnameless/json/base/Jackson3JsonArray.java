@@ -15,10 +15,19 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
 
@@ -32,30 +41,55 @@ import tools.jackson.databind.node.ArrayNode;
 public final class Jackson3JsonArray implements JsonArrayCore<Jackson3JsonValue> {
 
   private final ArrayNode jsonArray;
+  private final WrapperCache<Jackson3JsonValue> cache;
 
   public Jackson3JsonArray(ArrayNode jsonArray) {
+    this(jsonArray, false);
+  }
+
+  /**
+   * Creates a {@link Jackson3JsonArray} which optionally caches the wrappers of its elements.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonArray an {@link ArrayNode}
+   * @param wrapperCache true if the wrappers of elements should be cached
+   */
+  public Jackson3JsonArray(ArrayNode jsonArray, boolean wrapperCache) {
     if (jsonArray == null) throw new NullPointerException();
     this.jsonArray = jsonArray;
+    cache = wrapperCache ? new WrapperCache<>() : null;
   }
 
   @Override
   public void add(JsonSource jsonValue) {
-    jsonArray.add((JsonNode) jsonValue.getSource());
+    jsonArray.add(Jackson3JsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public void set(int index, JsonSource jsonValue) {
-    jsonArray.set(index, (JsonNode) jsonValue.getSource());
+    jsonArray.set(index, Jackson3JsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public Jackson3JsonValue remove(int index) {
+    if (cache != null) cache.evictElements(index);
     return new Jackson3JsonValue(jsonArray.remove(index));
   }
 
+  @Override
+  public void addAll(Iterable<? extends JsonSource> jsonValues) {
+    List<JsonNode> nodes = new ArrayList<>();
+    jsonValues.forEach(jsonValue -> nodes.add(Jackson3JsonTranscoder.INSTANCE.toNative(jsonValue)));
+    jsonArray.addAll(nodes);
+  }
+
   @Override
   public Jackson3JsonValue get(int index) {
-    return new Jackson3JsonValue(jsonArray.get(index));
+    JsonNode node = jsonArray.get(index);
+    if (cache == null || node == null) return new Jackson3JsonValue(node);
+    return cache.element(index, jsonArray.size(), node,
+        n -> new Jackson3JsonValue((JsonNode) n, true));
   }
 
   @Override
@@ -65,10 +99,68 @@ public final class Jackson3JsonArray implements JsonArrayCore<Jackson3JsonValue>
 
   @Override
   public Iterator<Jackson3JsonValue> iterator() {
+    if (cache != null) return Spliterators.iterator(spliterator());
     return new TransformIterator<JsonNode, Jackson3JsonValue>(jsonArray.iterator(),
         Jackson3JsonValue::new);
   }
 
+  @Override
+  public int[] toIntArray() {
+    int size = jsonArray.size();
+    int[] array = new int[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).asInt();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).asInt());
+    }
+  }
+
+  @Override
+  public long[] toLongArray() {
+    int size = jsonArray.size();
+    long[] array = new long[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).asLong();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachLong(LongConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).asLong());
+    }
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    int size = jsonArray.size();
+    double[] array = new double[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).asDouble();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachDouble(DoubleConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).asDouble());
+    }
+  }
+
   @Override
   public boolean isObject() {
     return false;
@@ -146,7 +238,8 @@ public final class Jackson3JsonArray implements JsonArrayCore<Jackson3JsonValue>
 
   @Override
   public Jackson3JsonValue asValue() {
-    return new Jackson3JsonValue(jsonArray);
+    if (cache == null) return new Jackson3JsonValue(jsonArray);
+    return cache.view(jsonArray, node -> new Jackson3JsonValue((JsonNode) node, true));
   }
 
   @Override
@@ -154,11 +247,26 @@ public final class Jackson3JsonArray implements JsonArrayCore<Jackson3JsonValue>
     return jsonArray;
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new Jackson3JsonCursor(jsonArray);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    Jackson3JsonCore.writeJson(jsonArray, writer);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    Jackson3JsonCore.writeJson(jsonArray, out);
+  }
+
   @Override
   public int hashCode() {
     return jsonArray.hashCode();
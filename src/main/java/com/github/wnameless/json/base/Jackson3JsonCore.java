@@ -16,8 +16,24 @@
 package com.github.wnameless.json.base;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import com.github.wnameless.json.base.JsonLinesIterator.LineParser;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
 
 /**
  * 
@@ -29,32 +45,193 @@ import tools.jackson.databind.ObjectMapper;
 public class Jackson3JsonCore implements JsonCore<Jackson3JsonValue> {
 
   private ObjectMapper mapper;
+  private final boolean wrapperCache;
 
   private static class LazyHolder {
     public static final ObjectMapper INSTANCE = new ObjectMapper();
   }
 
+  private static class WriterHolder {
+    public static final ObjectWriter INSTANCE =
+        LazyHolder.INSTANCE.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+  }
+
   private ObjectMapper getInstance() {
     return mapper == null ? LazyHolder.INSTANCE : mapper;
   }
 
   public Jackson3JsonCore() {
-    mapper = null;
+    this(false);
   }
 
   public Jackson3JsonCore(ObjectMapper mapper) {
+    this(mapper, false);
+  }
+
+  /**
+   * Creates a {@link Jackson3JsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link Jackson3JsonValue#Jackson3JsonValue(JsonNode, boolean)}.
+   * 
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public Jackson3JsonCore(boolean wrapperCache) {
+    mapper = null;
+    this.wrapperCache = wrapperCache;
+  }
+
+  /**
+   * Creates a {@link Jackson3JsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link Jackson3JsonValue#Jackson3JsonValue(JsonNode, boolean)}.
+   * 
+   * @param mapper an {@link ObjectMapper}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public Jackson3JsonCore(ObjectMapper mapper, boolean wrapperCache) {
     if (mapper == null) throw new NullPointerException();
     this.mapper = mapper;
+    this.wrapperCache = wrapperCache;
   }
 
   @Override
   public Jackson3JsonValue parse(String json) {
-    return new Jackson3JsonValue(getInstance().readTree(json));
+    return new Jackson3JsonValue(getInstance().readTree(json), wrapperCache);
   }
 
   @Override
   public Jackson3JsonValue parse(Reader jsonReader) throws IOException {
-    return new Jackson3JsonValue(getInstance().readTree(jsonReader));
+    return new Jackson3JsonValue(getInstance().readTree(jsonReader), wrapperCache);
+  }
+
+  @Override
+  public Jackson3JsonValue parse(byte[] json) {
+    return new Jackson3JsonValue(getInstance().readTree(json), wrapperCache);
+  }
+
+  @Override
+  public Jackson3JsonValue parse(byte[] json, int offset, int length) {
+    return new Jackson3JsonValue(getInstance().readTree(json, offset, length), wrapperCache);
+  }
+
+  @Override
+  public Jackson3JsonValue parse(InputStream jsonStream) throws IOException {
+    return new Jackson3JsonValue(getInstance().readTree(jsonStream), wrapperCache);
+  }
+
+  @Override
+  public Jackson3JsonValue parse(String json, JsonProjection projection) {
+    return parse(getInstance().createParser(json), projection);
+  }
+
+  @Override
+  public Jackson3JsonValue parse(Reader jsonReader, JsonProjection projection) {
+    return parse(getInstance().createParser(jsonReader), projection);
+  }
+
+  @Override
+  public Jackson3JsonValue parse(InputStream jsonStream, JsonProjection projection) {
+    return parse(getInstance().createParser(jsonStream), projection);
+  }
+
+  private Jackson3JsonValue parse(JsonParser jsonParser, JsonProjection projection) {
+    if (projection == null) throw new NullPointerException();
+    try (JsonParser parser = jsonParser) {
+      // An empty input is read as a missing node, as the unprojected parse does
+      if (parser.nextToken() == null) {
+        return new Jackson3JsonValue(getInstance().missingNode(), wrapperCache);
+      }
+      JsonNode jsonNode = project(parser,
+          getInstance().reader().without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS),
+          projection);
+      if (getInstance().isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+          && parser.nextToken() != null) {
+        throw MismatchedInputException.from(parser, JsonNode.class,
+            "Trailing token found after value");
+      }
+      return new Jackson3JsonValue(jsonNode, wrapperCache);
+    }
+  }
+
+  // Reads the current JSON value, unprojected values are skipped as tokens and fully projected
+  // values are read through the mapper, so its configuration still applies
+  private JsonNode project(JsonParser parser, ObjectReader reader, JsonProjection projection) {
+    if (projection.isAll() || !parser.isExpectedStartObjectToken()
+        && !parser.isExpectedStartArrayToken()) {
+      return reader.readTree(parser);
+    }
+
+    if (parser.isExpectedStartObjectToken()) {
+      ObjectNode objectNode = getInstance().createObjectNode();
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        String name = parser.currentName();
+        JsonProjection child = projection.child(name);
+        parser.nextToken();
+        if (child == null) {
+          parser.skipChildren();
+        } else {
+          objectNode.set(name, project(parser, reader, child));
+        }
+      }
+      return objectNode;
+    }
+
+    ArrayNode arrayNode = getInstance().createArrayNode();
+    for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+      JsonProjection child = projection.child(i);
+      if (child == null) {
+        parser.skipChildren();
+      } else {
+        arrayNode.add(project(parser, reader, child));
+      }
+    }
+    return arrayNode;
+  }
+
+  @Override
+  public Jackson3JsonPullParser pullParser(String json) {
+    return new Jackson3JsonPullParser(getInstance().createParser(json));
+  }
+
+  @Override
+  public Jackson3JsonPullParser pullParser(Reader jsonReader) {
+    return new Jackson3JsonPullParser(getInstance().createParser(jsonReader));
+  }
+
+  @Override
+  public Jackson3JsonPullParser pullParser(InputStream jsonStream) {
+    return new Jackson3JsonPullParser(getInstance().createParser(jsonStream));
+  }
+
+  @Override
+  public Stream<JsonValueCore<Jackson3JsonValue>> parseNdjson(InputStream jsonStream) {
+    return JsonLinesIterator.stream(newLineParser(), jsonStream);
+  }
+
+  @Override
+  public Stream<JsonValueCore<Jackson3JsonValue>> parseNdjsonParallel(Path jsonPath,
+      boolean ordered) throws IOException {
+    return NdjsonSpliterator.stream(newLineParser(), jsonPath, ordered);
+  }
+
+  // Each NDJSON line must hold exactly one JSON value, whatever the mapper allows
+  private LineParser<Jackson3JsonValue> newLineParser() {
+    ObjectReader reader =
+        getInstance().reader().with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    return (json, offset, length) -> new Jackson3JsonValue(reader.readTree(json, offset, length),
+        wrapperCache);
+  }
+
+  @Override
+  public Jackson3JsonValue transcode(JsonValueBase<?> jsonValue) {
+    return new Jackson3JsonValue(Jackson3JsonTranscoder.INSTANCE.transcode(jsonValue),
+        wrapperCache);
+  }
+
+  static void writeJson(JsonNode jsonNode, Writer writer) {
+    WriterHolder.INSTANCE.writeValue(writer, jsonNode);
+  }
+
+  static void writeJson(JsonNode jsonNode, OutputStream out) {
+    WriterHolder.INSTANCE.writeValue(out, jsonNode);
   }
 
 }
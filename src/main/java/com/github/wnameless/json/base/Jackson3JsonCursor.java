@@ -0,0 +1,143 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * 
+ * The Jackson 3 implementation of {@link JsonCursor}, which walks {@link JsonNode}s directly.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class Jackson3JsonCursor extends AbstractJsonCursor<JsonNode> {
+
+  Jackson3JsonCursor(JsonNode root) {
+    super(root);
+  }
+
+  @Override
+  boolean isObject(JsonNode node) {
+    return node.isObject();
+  }
+
+  @Override
+  boolean isArray(JsonNode node) {
+    return node.isArray();
+  }
+
+  @Override
+  int objectSize(JsonNode object) {
+    return object.size();
+  }
+
+  @Override
+  Iterator<?> memberIterator(JsonNode object) {
+    return object.properties().iterator();
+  }
+
+  @Override
+  String memberName(Object member) {
+    return ((Entry<?, ?>) member).getKey().toString();
+  }
+
+  @Override
+  JsonNode memberValue(JsonNode object, Object member) {
+    return (JsonNode) ((Entry<?, ?>) member).getValue();
+  }
+
+  @Override
+  int arraySize(JsonNode array) {
+    return array.size();
+  }
+
+  @Override
+  JsonNode element(JsonNode array, int index) {
+    return array.get(index);
+  }
+
+  @Override
+  public boolean isString() {
+    return node().isString() || node().isBinary() || node().isEmbeddedValue();
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return node().isBoolean();
+  }
+
+  @Override
+  public boolean isNumber() {
+    return node().isNumber();
+  }
+
+  @Override
+  public boolean isNull() {
+    return node().isNull();
+  }
+
+  @Override
+  public String asString() {
+    JsonNode node = node();
+    if (node.isEmbeddedValue()) {
+      return new String(Base64.getEncoder().encode(node.binaryValue()), StandardCharsets.UTF_8);
+    }
+    return node.asString();
+  }
+
+  @Override
+  public boolean asBoolean() {
+    return node().asBoolean();
+  }
+
+  @Override
+  public int asInt() {
+    return node().asInt();
+  }
+
+  @Override
+  public long asLong() {
+    return node().asLong();
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    return node().bigIntegerValue();
+  }
+
+  @Override
+  public double asDouble() {
+    return node().asDouble();
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    return node().decimalValue();
+  }
+
+  @Override
+  public Number asNumber() {
+    return Jackson3JsonValue.asNumber(node());
+  }
+
+}
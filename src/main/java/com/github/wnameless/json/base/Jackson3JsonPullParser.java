@@ -0,0 +1,125 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonParser.NumberType;
+import tools.jackson.core.JsonToken;
+
+/**
+ * 
+ * The Jackson 3 implementation of {@link JsonPullParser}, which reads tokens from a
+ * {@link JsonParser}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class Jackson3JsonPullParser implements JsonPullParser {
+
+  private final JsonParser jsonParser;
+  private Token token;
+
+  /**
+   * Creates a {@link Jackson3JsonPullParser} by given {@link JsonParser}, which is positioned
+   * before the JSON value to read.
+   * 
+   * @param jsonParser a {@link JsonParser}
+   */
+  public Jackson3JsonPullParser(JsonParser jsonParser) {
+    if (jsonParser == null) throw new NullPointerException();
+    this.jsonParser = jsonParser;
+  }
+
+  @Override
+  public Token next() {
+    return token = toToken(jsonParser.nextToken());
+  }
+
+  private static Token toToken(JsonToken jsonToken) {
+    if (jsonToken == null) return null;
+
+    switch (jsonToken) {
+      case START_OBJECT:
+        return Token.START_OBJECT;
+      case END_OBJECT:
+        return Token.END_OBJECT;
+      case START_ARRAY:
+        return Token.START_ARRAY;
+      case END_ARRAY:
+        return Token.END_ARRAY;
+      case PROPERTY_NAME:
+        return Token.FIELD_NAME;
+      case VALUE_STRING:
+        return Token.STRING;
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return Token.NUMBER;
+      case VALUE_TRUE:
+        return Token.TRUE;
+      case VALUE_FALSE:
+        return Token.FALSE;
+      case VALUE_NULL:
+        return Token.NULL;
+      default:
+        throw new IllegalStateException("Unsupported token: " + jsonToken);
+    }
+  }
+
+  @Override
+  public Token currentToken() {
+    return token;
+  }
+
+  @Override
+  public String text() {
+    if (token == null || token.isStart() || token.isEnd()) throw new IllegalStateException();
+    return jsonParser.getString();
+  }
+
+  @Override
+  public Number asNumber() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    NumberType numberType = jsonParser.getNumberType();
+    if (numberType == NumberType.INT || numberType == NumberType.LONG) {
+      return JsonValueUtils.toJavaNumber(jsonParser.getLongValue());
+    }
+    if (numberType == NumberType.FLOAT || numberType == NumberType.DOUBLE) {
+      return JsonValueUtils.toJavaNumber(jsonParser.getDoubleValue());
+    }
+    return JsonValueUtils.toJavaNumber(jsonParser.getDecimalValue());
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    return jsonParser.getDecimalValue();
+  }
+
+  @Override
+  public void skipChildren() {
+    if (token == null || !token.isStart()) return;
+
+    jsonParser.skipChildren();
+    token = toToken(jsonParser.currentToken());
+  }
+
+  @Override
+  public void close() {
+    jsonParser.close();
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.DecimalNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * 
+ * The Jackson 3 implementation of {@link JsonTranscoder}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class Jackson3JsonTranscoder extends JsonTranscoder<JsonNode> {
+
+  static final Jackson3JsonTranscoder INSTANCE =
+      new Jackson3JsonTranscoder(JsonNodeFactory.instance);
+
+  private final JsonNodeFactory factory;
+
+  Jackson3JsonTranscoder(JsonNodeFactory factory) {
+    if (factory == null) throw new NullPointerException();
+    this.factory = factory;
+  }
+
+  @Override
+  boolean isNative(Object source) {
+    return source instanceof JsonNode;
+  }
+
+  @Override
+  Object newObject(int size) {
+    return new ObjectNode(factory, new LinkedHashMap<>((int) (size / 0.75f) + 1));
+  }
+
+  @Override
+  Object newArray(int size) {
+    return factory.arrayNode(size);
+  }
+
+  @Override
+  void put(Object object, String name, JsonNode value) {
+    ((ObjectNode) object).set(name, value);
+  }
+
+  @Override
+  void add(Object array, JsonNode value) {
+    ((ArrayNode) array).add(value);
+  }
+
+  @Override
+  JsonNode build(Object container) {
+    return (JsonNode) container;
+  }
+
+  @Override
+  JsonNode nullValue() {
+    return factory.nullNode();
+  }
+
+  @Override
+  JsonNode booleanValue(boolean value) {
+    return factory.booleanNode(value);
+  }
+
+  @Override
+  JsonNode stringValue(String value) {
+    return factory.stringNode(value);
+  }
+
+  @Override
+  JsonNode numberValue(Number value) {
+    if (value instanceof Integer) return factory.numberNode(value.intValue());
+    if (value instanceof Long) return factory.numberNode(value.longValue());
+    if (value instanceof BigInteger) return factory.numberNode((BigInteger) value);
+    if (value instanceof Double) return factory.numberNode(value.doubleValue());
+    // DecimalNode keeps the scale, which the factory may normalize
+    if (value instanceof BigDecimal) return DecimalNode.valueOf((BigDecimal) value);
+    return DecimalNode.valueOf(new BigDecimal(value.toString()));
+  }
+
+}
@@ -15,6 +15,9 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -34,10 +37,24 @@ import tools.jackson.databind.node.ObjectNode;
 public final class Jackson3JsonValue implements JsonValueCore<Jackson3JsonValue> {
 
   private final JsonNode jsonValue;
+  private final WrapperCache<Jackson3JsonValue> cache;
 
   public Jackson3JsonValue(JsonNode jsonValue) {
+    this(jsonValue, false);
+  }
+
+  /**
+   * Creates a {@link Jackson3JsonValue} which optionally caches the wrappers of its descendants.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonValue a {@link JsonNode}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public Jackson3JsonValue(JsonNode jsonValue, boolean wrapperCache) {
     if (jsonValue == null) throw new NullPointerException();
     this.jsonValue = jsonValue;
+    cache = wrapperCache && jsonValue.isContainer() ? new WrapperCache<>() : null;
   }
 
   @Override
@@ -72,12 +89,18 @@ public final class Jackson3JsonValue implements JsonValueCore<Jackson3JsonValue>
 
   @Override
   public Jackson3JsonObject asObject() {
-    return new Jackson3JsonObject((ObjectNode) jsonValue);
+    if (cache == null || !jsonValue.isObject()) {
+      return new Jackson3JsonObject((ObjectNode) jsonValue);
+    }
+    return cache.view(jsonValue, node -> new Jackson3JsonObject((ObjectNode) node, true));
   }
 
   @Override
   public Jackson3JsonArray asArray() {
-    return new Jackson3JsonArray((ArrayNode) jsonValue);
+    if (cache == null || !jsonValue.isArray()) {
+      return new Jackson3JsonArray((ArrayNode) jsonValue);
+    }
+    return cache.view(jsonValue, node -> new Jackson3JsonArray((ArrayNode) node, true));
   }
 
   @Override
@@ -124,6 +147,28 @@ public final class Jackson3JsonValue implements JsonValueCore<Jackson3JsonValue>
     return jsonValue.decimalValue();
   }
 
+  @Override
+  public Number asNumber() {
+    return asNumber(jsonValue);
+  }
+
+  /**
+   * Converts given {@link JsonNode} to a Java {@link Number} as {@link JsonValueBase#asNumber()}
+   * does, without creating any {@link BigDecimal} whenever possible.
+   * 
+   * @param jsonValue a {@link JsonNode}
+   * @return a {@link Number}
+   */
+  static Number asNumber(JsonNode jsonValue) {
+    if (jsonValue.isInt() || jsonValue.isLong() || jsonValue.isShort()) {
+      return JsonValueUtils.toJavaNumber(jsonValue.longValue());
+    }
+    if (jsonValue.isDouble() || jsonValue.isFloat()) {
+      return JsonValueUtils.toJavaNumber(jsonValue.doubleValue());
+    }
+    return JsonValueUtils.toJavaNumber(jsonValue.decimalValue());
+  }
+
   @Override
   public int hashCode() {
     return jsonValue.hashCode();
@@ -140,11 +185,26 @@ public final class Jackson3JsonValue implements JsonValueCore<Jackson3JsonValue>
     return jsonValue.toString();
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new Jackson3JsonCursor(jsonValue);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    Jackson3JsonCore.writeJson(jsonValue, writer);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    Jackson3JsonCore.writeJson(jsonValue, out);
+  }
+
   @Override
   public JsonNode getSource() {
     return jsonValue;
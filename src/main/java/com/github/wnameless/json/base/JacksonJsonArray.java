@@ -15,10 +15,19 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
@@ -32,30 +41,55 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 public final class JacksonJsonArray implements JsonArrayCore<JacksonJsonValue> {
 
   private final ArrayNode jsonArray;
+  private final WrapperCache<JacksonJsonValue> cache;
 
   public JacksonJsonArray(ArrayNode jsonArray) {
+    this(jsonArray, false);
+  }
+
+  /**
+   * Creates a {@link JacksonJsonArray} which optionally caches the wrappers of its elements.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonArray an {@link ArrayNode}
+   * @param wrapperCache true if the wrappers of elements should be cached
+   */
+  public JacksonJsonArray(ArrayNode jsonArray, boolean wrapperCache) {
     if (jsonArray == null) throw new NullPointerException();
     this.jsonArray = jsonArray;
+    cache = wrapperCache ? new WrapperCache<>() : null;
   }
 
   @Override
   public void add(JsonSource jsonValue) {
-    jsonArray.add((JsonNode) jsonValue.getSource());
+    jsonArray.add(JacksonJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public void set(int index, JsonSource jsonValue) {
-    jsonArray.set(index, (JsonNode) jsonValue.getSource());
+    jsonArray.set(index, JacksonJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public JacksonJsonValue remove(int index) {
+    if (cache != null) cache.evictElements(index);
     return new JacksonJsonValue(jsonArray.remove(index));
   }
 
+  @Override
+  public void addAll(Iterable<? extends JsonSource> jsonValues) {
+    List<JsonNode> nodes = new ArrayList<>();
+    jsonValues.forEach(jsonValue -> nodes.add(JacksonJsonTranscoder.INSTANCE.toNative(jsonValue)));
+    jsonArray.addAll(nodes);
+  }
+
   @Override
   public JacksonJsonValue get(int index) {
-    return new JacksonJsonValue(jsonArray.get(index));
+    JsonNode node = jsonArray.get(index);
+    if (cache == null || node == null) return new JacksonJsonValue(node);
+    return cache.element(index, jsonArray.size(), node,
+        n -> new JacksonJsonValue((JsonNode) n, true));
   }
 
   @Override
@@ -65,10 +99,68 @@ public final class JacksonJsonArray implements JsonArrayCore<JacksonJsonValue> {
 
   @Override
   public Iterator<JacksonJsonValue> iterator() {
+    if (cache != null) return Spliterators.iterator(spliterator());
     return new TransformIterator<JsonNode, JacksonJsonValue>(jsonArray.iterator(),
         JacksonJsonValue::new);
   }
 
+  @Override
+  public int[] toIntArray() {
+    int size = jsonArray.size();
+    int[] array = new int[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).asInt();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).asInt());
+    }
+  }
+
+  @Override
+  public long[] toLongArray() {
+    int size = jsonArray.size();
+    long[] array = new long[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).asLong();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachLong(LongConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).asLong());
+    }
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    int size = jsonArray.size();
+    double[] array = new double[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = jsonArray.get(i).asDouble();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachDouble(DoubleConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(jsonArray.get(i).asDouble());
+    }
+  }
+
   @Override
   public boolean isObject() {
     return false;
@@ -146,7 +238,8 @@ public final class JacksonJsonArray implements JsonArrayCore<JacksonJsonValue> {
 
   @Override
   public JacksonJsonValue asValue() {
-    return new JacksonJsonValue(jsonArray);
+    if (cache == null) return new JacksonJsonValue(jsonArray);
+    return cache.view(jsonArray, node -> new JacksonJsonValue((JsonNode) node, true));
   }
 
   @Override
@@ -154,11 +247,26 @@ public final class JacksonJsonArray implements JsonArrayCore<JacksonJsonValue> {
     return jsonArray;
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new JacksonJsonCursor(jsonArray);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    JacksonJsonCore.writeJson(jsonArray, writer);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    JacksonJsonCore.writeJson(jsonArray, out);
+  }
+
   @Override
   public int hashCode() {
     return jsonArray.hashCode();
@@ -16,9 +16,26 @@
 package com.github.wnameless.json.base;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.wnameless.json.base.JsonLinesIterator.LineParser;
 
 /**
  * 
@@ -30,28 +47,57 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class JacksonJsonCore implements JsonCore<JacksonJsonValue> {
 
   private ObjectMapper mapper;
+  private final boolean wrapperCache;
 
   private static class LazyHolder {
     public static final ObjectMapper INSTANCE = new ObjectMapper();
   }
 
+  private static class WriterHolder {
+    public static final ObjectWriter INSTANCE =
+        LazyHolder.INSTANCE.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
   private ObjectMapper getInstance() {
     return mapper == null ? LazyHolder.INSTANCE : mapper;
   }
 
   public JacksonJsonCore() {
-    mapper = null;
+    this(false);
   }
 
   public JacksonJsonCore(ObjectMapper mapper) {
+    this(mapper, false);
+  }
+
+  /**
+   * Creates a {@link JacksonJsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link JacksonJsonValue#JacksonJsonValue(JsonNode, boolean)}.
+   * 
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public JacksonJsonCore(boolean wrapperCache) {
+    mapper = null;
+    this.wrapperCache = wrapperCache;
+  }
+
+  /**
+   * Creates a {@link JacksonJsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link JacksonJsonValue#JacksonJsonValue(JsonNode, boolean)}.
+   * 
+   * @param mapper an {@link ObjectMapper}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public JacksonJsonCore(ObjectMapper mapper, boolean wrapperCache) {
     if (mapper == null) throw new NullPointerException();
     this.mapper = mapper;
+    this.wrapperCache = wrapperCache;
   }
 
   @Override
   public JacksonJsonValue parse(String json) {
     try {
-      return new JacksonJsonValue(getInstance().readTree(json));
+      return new JacksonJsonValue(getInstance().readTree(json), wrapperCache);
     } catch (JsonProcessingException e) {
       throw new RuntimeException(e);
     }
@@ -59,7 +105,164 @@ public class JacksonJsonCore implements JsonCore<JacksonJsonValue> {
 
   @Override
   public JacksonJsonValue parse(Reader jsonReader) throws IOException {
-    return new JacksonJsonValue(getInstance().readTree(jsonReader));
+    return new JacksonJsonValue(getInstance().readTree(jsonReader), wrapperCache);
+  }
+
+  @Override
+  public JacksonJsonValue parse(byte[] json) {
+    try {
+      return new JacksonJsonValue(getInstance().readTree(json), wrapperCache);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public JacksonJsonValue parse(byte[] json, int offset, int length) {
+    try {
+      return new JacksonJsonValue(getInstance().readTree(json, offset, length), wrapperCache);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public JacksonJsonValue parse(InputStream jsonStream) throws IOException {
+    return new JacksonJsonValue(getInstance().readTree(jsonStream), wrapperCache);
+  }
+
+  @Override
+  public JacksonJsonValue parse(String json, JsonProjection projection) {
+    try {
+      return parse(getInstance().createParser(json), projection);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public JacksonJsonValue parse(Reader jsonReader, JsonProjection projection)
+      throws IOException {
+    return parse(getInstance().createParser(jsonReader), projection);
+  }
+
+  @Override
+  public JacksonJsonValue parse(InputStream jsonStream, JsonProjection projection)
+      throws IOException {
+    return parse(getInstance().createParser(jsonStream), projection);
+  }
+
+  private JacksonJsonValue parse(JsonParser jsonParser, JsonProjection projection)
+      throws IOException {
+    if (projection == null) throw new NullPointerException();
+    try (JsonParser parser = jsonParser) {
+      // An empty input is read as a missing node, as the unprojected parse does
+      if (parser.nextToken() == null) {
+        return new JacksonJsonValue(getInstance().missingNode(), wrapperCache);
+      }
+      JsonNode jsonNode = project(parser,
+          getInstance().reader().without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS),
+          projection);
+      if (getInstance().isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+          && parser.nextToken() != null) {
+        throw MismatchedInputException.from(parser, JsonNode.class,
+            "Trailing token found after value");
+      }
+      return new JacksonJsonValue(jsonNode, wrapperCache);
+    }
+  }
+
+  // Reads the current JSON value, unprojected values are skipped as tokens and fully projected
+  // values are read through the mapper, so its configuration still applies
+  private JsonNode project(JsonParser parser, ObjectReader reader, JsonProjection projection)
+      throws IOException {
+    if (projection.isAll() || !parser.isExpectedStartObjectToken()
+        && !parser.isExpectedStartArrayToken()) {
+      return reader.readTree(parser);
+    }
+
+    if (parser.isExpectedStartObjectToken()) {
+      ObjectNode objectNode = getInstance().createObjectNode();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        JsonProjection child = projection.child(name);
+        parser.nextToken();
+        if (child == null) {
+          parser.skipChildren();
+        } else {
+          objectNode.set(name, project(parser, reader, child));
+        }
+      }
+      return objectNode;
+    }
+
+    ArrayNode arrayNode = getInstance().createArrayNode();
+    for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+      JsonProjection child = projection.child(i);
+      if (child == null) {
+        parser.skipChildren();
+      } else {
+        arrayNode.add(project(parser, reader, child));
+      }
+    }
+    return arrayNode;
+  }
+
+  @Override
+  public JacksonJsonPullParser pullParser(String json) {
+    try {
+      return new JacksonJsonPullParser(getInstance().createParser(json));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public JacksonJsonPullParser pullParser(Reader jsonReader) throws IOException {
+    return new JacksonJsonPullParser(getInstance().createParser(jsonReader));
+  }
+
+  @Override
+  public JacksonJsonPullParser pullParser(InputStream jsonStream) throws IOException {
+    return new JacksonJsonPullParser(getInstance().createParser(jsonStream));
+  }
+
+  @Override
+  public Stream<JsonValueCore<JacksonJsonValue>> parseNdjson(InputStream jsonStream) {
+    return JsonLinesIterator.stream(newLineParser(), jsonStream);
+  }
+
+  @Override
+  public Stream<JsonValueCore<JacksonJsonValue>> parseNdjsonParallel(Path jsonPath,
+      boolean ordered) throws IOException {
+    return NdjsonSpliterator.stream(newLineParser(), jsonPath, ordered);
+  }
+
+  // Each NDJSON line must hold exactly one JSON value, whatever the mapper allows
+  private LineParser<JacksonJsonValue> newLineParser() {
+    ObjectReader reader =
+        getInstance().reader().with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    return (json, offset, length) -> {
+      try {
+        return new JacksonJsonValue(reader.readTree(json, offset, length), wrapperCache);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
+  @Override
+  public JacksonJsonValue transcode(JsonValueBase<?> jsonValue) {
+    return new JacksonJsonValue(JacksonJsonTranscoder.INSTANCE.transcode(jsonValue),
+        wrapperCache);
+  }
+
+  static void writeJson(JsonNode jsonNode, Writer writer) throws IOException {
+    WriterHolder.INSTANCE.writeValue(writer, jsonNode);
+  }
+
+  static void writeJson(JsonNode jsonNode, OutputStream out) throws IOException {
+    WriterHolder.INSTANCE.writeValue(out, jsonNode);
   }
 
 }
@@ -15,10 +15,16 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -34,22 +40,61 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 public final class JacksonJsonObject implements JsonObjectCore<JacksonJsonValue> {
 
   private final ObjectNode jsonObject;
+  private final WrapperCache<JacksonJsonValue> cache;
 
   public JacksonJsonObject(ObjectNode jsonObject) {
+    this(jsonObject, false);
+  }
+
+  /**
+   * Creates a {@link JacksonJsonObject} which optionally caches the wrappers of its members.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonObject an {@link ObjectNode}
+   * @param wrapperCache true if the wrappers of members should be cached
+   */
+  public JacksonJsonObject(ObjectNode jsonObject, boolean wrapperCache) {
     if (jsonObject == null) throw new NullPointerException();
     this.jsonObject = jsonObject;
+    cache = wrapperCache ? new WrapperCache<>() : null;
   }
 
   @Override
   public void set(String name, JsonSource jsonValue) {
-    jsonObject.set(name, (JsonNode) jsonValue.getSource());
+    jsonObject.set(name, JacksonJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public boolean remove(String name) {
+    if (cache != null) cache.evictMember(name);
     return jsonObject.remove(name) != null;
   }
 
+  @Override
+  public void setAll(Map<String, ? extends JsonSource> members) {
+    Map<String, JsonNode> nodes = new LinkedHashMap<>((int) (members.size() / 0.75f) + 1);
+    members.forEach(
+        (name, jsonValue) -> nodes.put(name, JacksonJsonTranscoder.INSTANCE.toNative(jsonValue)));
+    jsonObject.setAll(nodes);
+  }
+
+  @Override
+  public boolean removeAll(Collection<String> names) {
+    if (cache != null) cache.evictMembers(names);
+    int size = jsonObject.size();
+    jsonObject.remove(names);
+    return jsonObject.size() != size;
+  }
+
+  @Override
+  public boolean retainAll(Collection<String> names) {
+    if (cache != null) cache.retainMembers(names);
+    int size = jsonObject.size();
+    jsonObject.retain(names);
+    return jsonObject.size() != size;
+  }
+
   @Override
   public boolean contains(String name) {
     return jsonObject.has(name);
@@ -58,7 +103,9 @@ public final class JacksonJsonObject implements JsonObjectCore<JacksonJsonValue>
   @Override
   public JacksonJsonValue get(String name) {
     JsonNode node = jsonObject.get(name);
-    return node == null ? null : new JacksonJsonValue(node);
+    if (node == null) return null;
+    if (cache == null) return new JacksonJsonValue(node);
+    return cache.member(name, node, n -> new JacksonJsonValue((JsonNode) n, true));
   }
 
   @Override
@@ -73,6 +120,11 @@ public final class JacksonJsonObject implements JsonObjectCore<JacksonJsonValue>
 
   @Override
   public Iterator<Entry<String, JacksonJsonValue>> iterator() {
+    if (cache != null) {
+      return new TransformIterator<Entry<String, JsonNode>, Entry<String, JacksonJsonValue>>(
+          jsonObject.properties().iterator(), member -> cache.entry(member.getKey(),
+              member.getValue(), n -> new JacksonJsonValue((JsonNode) n, true)));
+    }
     return new TransformIterator<Entry<String, JsonNode>, Entry<String, JacksonJsonValue>>(
         jsonObject.properties().iterator(), member -> new SimpleImmutableEntry<>(member.getKey(),
             new JacksonJsonValue(member.getValue())));
@@ -155,7 +207,8 @@ public final class JacksonJsonObject implements JsonObjectCore<JacksonJsonValue>
 
   @Override
   public JacksonJsonValue asValue() {
-    return new JacksonJsonValue(jsonObject);
+    if (cache == null) return new JacksonJsonValue(jsonObject);
+    return cache.view(jsonObject, node -> new JacksonJsonValue((JsonNode) node, true));
   }
 
   @Override
@@ -163,11 +216,26 @@ public final class JacksonJsonObject implements JsonObjectCore<JacksonJsonValue>
     return jsonObject;
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new JacksonJsonCursor(jsonObject);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    JacksonJsonCore.writeJson(jsonObject, writer);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    JacksonJsonCore.writeJson(jsonObject, out);
+  }
+
   @Override
   public int hashCode() {
     return jsonObject.hashCode();
@@ -15,9 +15,13 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Objects;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -32,10 +36,24 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 public final class JacksonJsonValue implements JsonValueCore<JacksonJsonValue> {
 
   private final JsonNode jsonValue;
+  private final WrapperCache<JacksonJsonValue> cache;
 
   public JacksonJsonValue(JsonNode jsonValue) {
+    this(jsonValue, false);
+  }
+
+  /**
+   * Creates a {@link JacksonJsonValue} which optionally caches the wrappers of its descendants.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonValue a {@link JsonNode}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public JacksonJsonValue(JsonNode jsonValue, boolean wrapperCache) {
     if (jsonValue == null) throw new NullPointerException();
     this.jsonValue = jsonValue;
+    cache = wrapperCache && jsonValue.isContainerNode() ? new WrapperCache<>() : null;
   }
 
   @Override
@@ -70,12 +88,18 @@ public final class JacksonJsonValue implements JsonValueCore<JacksonJsonValue> {
 
   @Override
   public JacksonJsonObject asObject() {
-    return new JacksonJsonObject((ObjectNode) jsonValue);
+    if (cache == null || !jsonValue.isObject()) {
+      return new JacksonJsonObject((ObjectNode) jsonValue);
+    }
+    return cache.view(jsonValue, node -> new JacksonJsonObject((ObjectNode) node, true));
   }
 
   @Override
   public JacksonJsonArray asArray() {
-    return new JacksonJsonArray((ArrayNode) jsonValue);
+    if (cache == null || !jsonValue.isArray()) {
+      return new JacksonJsonArray((ArrayNode) jsonValue);
+    }
+    return cache.view(jsonValue, node -> new JacksonJsonArray((ArrayNode) node, true));
   }
 
   @Override
@@ -118,6 +142,29 @@ public final class JacksonJsonValue implements JsonValueCore<JacksonJsonValue> {
     return jsonValue.decimalValue();
   }
 
+  @Override
+  public Number asNumber() {
+    return asNumber(jsonValue);
+  }
+
+  /**
+   * Converts given {@link JsonNode} to a Java {@link Number} as {@link JsonValueBase#asNumber()}
+   * does, without creating any {@link BigDecimal} whenever possible.
+   * 
+   * @param jsonValue a {@link JsonNode}
+   * @return a {@link Number}
+   */
+  static Number asNumber(JsonNode jsonValue) {
+    NumberType numberType = jsonValue.numberType();
+    if (numberType == NumberType.INT || numberType == NumberType.LONG) {
+      return JsonValueUtils.toJavaNumber(jsonValue.longValue());
+    }
+    if (numberType == NumberType.FLOAT || numberType == NumberType.DOUBLE) {
+      return JsonValueUtils.toJavaNumber(jsonValue.doubleValue());
+    }
+    return JsonValueUtils.toJavaNumber(jsonValue.decimalValue());
+  }
+
   @Override
   public int hashCode() {
     return jsonValue.hashCode();
@@ -134,11 +181,26 @@ public final class JacksonJsonValue implements JsonValueCore<JacksonJsonValue> {
     return jsonValue.toString();
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new JacksonJsonCursor(jsonValue);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    JacksonJsonCore.writeJson(jsonValue, writer);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    JacksonJsonCore.writeJson(jsonValue, out);
+  }
+
   @Override
   public JsonNode getSource() {
     return jsonValue;
@@ -15,17 +15,34 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonValue;
 
 /**
  * 
  * The Jakarta implementation of {@link JsonArrayCore}.
+ * <p>
+ * Since a Jakarta {@link JsonArray} is immutable, the first mutation copies its elements into a
+ * mutable overlay, which takes all following mutations in amortized constant time. An immutable
+ * {@link JsonArray} is built from the overlay only when it is needed, such as by
+ * {@link #getSource()} or {@link #toJson()}, so a JSON array of n elements can be constructed in
+ * O(n) time.
  * 
  * @author Wei-Ming Wu
  *
@@ -33,46 +50,174 @@ import jakarta.json.JsonValue;
 public final class JakartaJsonArray implements JsonArrayCore<JakartaJsonValue> {
 
   private JsonArray jsonArray;
+  private List<JsonValue> elements;
+  private final WrapperCache<JakartaJsonValue> cache;
 
   public JakartaJsonArray(JsonArray jsonArray) {
+    this(jsonArray, false);
+  }
+
+  /**
+   * Creates a {@link JakartaJsonArray} which optionally caches the wrappers of its elements.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonArray a {@link JsonArray}
+   * @param wrapperCache true if the wrappers of elements should be cached
+   */
+  public JakartaJsonArray(JsonArray jsonArray, boolean wrapperCache) {
     if (jsonArray == null) throw new NullPointerException();
     this.jsonArray = jsonArray;
+    cache = wrapperCache ? new WrapperCache<>() : null;
+  }
+
+  /**
+   * Returns the current elements, which are either the overlay or the immutable
+   * {@link JsonArray}.
+   */
+  private List<JsonValue> elements() {
+    return elements != null ? elements : jsonArray;
+  }
+
+  /**
+   * Returns the overlay for a mutation, and discards the immutable {@link JsonArray} which is
+   * going to be out of date.
+   */
+  private List<JsonValue> mutableElements() {
+    if (elements == null) elements = new ArrayList<>(jsonArray);
+    jsonArray = null;
+    return elements;
+  }
+
+  /**
+   * Returns the immutable {@link JsonArray}, which is built from the overlay if there are
+   * mutations since it was built last time.
+   */
+  private JsonArray jsonArray() {
+    if (jsonArray == null) {
+      JsonArrayBuilder builder = Json.createArrayBuilder();
+      elements.forEach(builder::add);
+      jsonArray = builder.build();
+    }
+    return jsonArray;
   }
 
   @Override
   public void add(JsonSource jsonValue) {
-    jsonArray = Json.createArrayBuilder(jsonArray).add((JsonValue) jsonValue.getSource()).build();
+    JsonValue value = JakartaJsonTranscoder.INSTANCE.toNative(jsonValue);
+    if (value == null) throw new NullPointerException();
+    mutableElements().add(value);
   }
 
   @Override
   public void set(int index, JsonSource jsonValue) {
-    jsonArray =
-        Json.createArrayBuilder(jsonArray).set(index, (JsonValue) jsonValue.getSource()).build();
+    JsonValue value = JakartaJsonTranscoder.INSTANCE.toNative(jsonValue);
+    if (value == null) throw new NullPointerException();
+    Objects.checkIndex(index, elements().size());
+    mutableElements().set(index, value);
   }
 
   @Override
   public JakartaJsonValue remove(int index) {
-    JakartaJsonValue value = new JakartaJsonValue(jsonArray.get(index));
-    jsonArray = Json.createArrayBuilder(jsonArray).remove(index).build();
-    return value;
+    Objects.checkIndex(index, elements().size());
+    if (cache != null) cache.evictElements(index);
+    return new JakartaJsonValue(mutableElements().remove(index));
+  }
+
+  @Override
+  public void addAll(Iterable<? extends JsonSource> jsonValues) {
+    List<JsonValue> values = new ArrayList<>();
+    jsonValues.forEach(jsonValue -> {
+      JsonValue value = JakartaJsonTranscoder.INSTANCE.toNative(jsonValue);
+      if (value == null) throw new NullPointerException();
+      values.add(value);
+    });
+    if (!values.isEmpty()) mutableElements().addAll(values);
   }
 
   @Override
   public JakartaJsonValue get(int index) {
-    return new JakartaJsonValue(jsonArray.get(index));
+    List<JsonValue> elements = elements();
+    if (cache == null) return new JakartaJsonValue(elements.get(index));
+    return cache.element(index, elements.size(), elements.get(index),
+        n -> new JakartaJsonValue((JsonValue) n, true));
   }
 
   @Override
   public int size() {
-    return jsonArray.size();
+    return elements().size();
   }
 
   @Override
   public Iterator<JakartaJsonValue> iterator() {
-    return new TransformIterator<JsonValue, JakartaJsonValue>(jsonArray.iterator(),
+    if (cache != null) return Spliterators.iterator(spliterator());
+    return new TransformIterator<JsonValue, JakartaJsonValue>(elements().iterator(),
         JakartaJsonValue::new);
   }
 
+  @Override
+  public int[] toIntArray() {
+    List<JsonValue> elements = elements();
+    int size = elements.size();
+    int[] array = new int[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = ((JsonNumber) elements.get(i)).intValue();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    if (action == null) throw new NullPointerException();
+    List<JsonValue> elements = elements();
+    int size = elements.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(((JsonNumber) elements.get(i)).intValue());
+    }
+  }
+
+  @Override
+  public long[] toLongArray() {
+    List<JsonValue> elements = elements();
+    int size = elements.size();
+    long[] array = new long[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = ((JsonNumber) elements.get(i)).longValue();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachLong(LongConsumer action) {
+    if (action == null) throw new NullPointerException();
+    List<JsonValue> elements = elements();
+    int size = elements.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(((JsonNumber) elements.get(i)).longValue());
+    }
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    List<JsonValue> elements = elements();
+    int size = elements.size();
+    double[] array = new double[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = ((JsonNumber) elements.get(i)).doubleValue();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachDouble(DoubleConsumer action) {
+    if (action == null) throw new NullPointerException();
+    List<JsonValue> elements = elements();
+    int size = elements.size();
+    for (int i = 0; i < size; i++) {
+      action.accept(((JsonNumber) elements.get(i)).doubleValue());
+    }
+  }
+
   @Override
   public boolean isObject() {
     return false;
@@ -150,12 +295,18 @@ public final class JakartaJsonArray implements JsonArrayCore<JakartaJsonValue> {
 
   @Override
   public JakartaJsonValue asValue() {
-    return new JakartaJsonValue(jsonArray);
+    if (cache == null) return new JakartaJsonValue(jsonArray());
+    return cache.view(jsonArray(), node -> new JakartaJsonValue((JsonValue) node, true));
   }
 
   @Override
   public Object getSource() {
-    return jsonArray;
+    return jsonArray();
+  }
+
+  @Override
+  public JsonCursor cursor() {
+    return new JakartaJsonCursor(jsonArray());
   }
 
   @Override
@@ -163,20 +314,30 @@ public final class JakartaJsonArray implements JsonArrayCore<JakartaJsonValue> {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    JakartaJsonCore.writeJson(jsonArray(), writer);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    JakartaJsonCore.writeJson(jsonArray(), out);
+  }
+
   @Override
   public int hashCode() {
-    return jsonArray.hashCode();
+    return elements().hashCode();
   }
 
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
-    return o instanceof JakartaJsonArray ja && Objects.equals(jsonArray, ja.jsonArray);
+    return o instanceof JakartaJsonArray ja && Objects.equals(elements(), ja.elements());
   }
 
   @Override
   public String toString() {
-    return jsonArray.toString();
+    return jsonArray().toString();
   }
 
 }
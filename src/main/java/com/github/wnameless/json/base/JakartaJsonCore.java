@@ -15,11 +15,25 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Stream;
 import jakarta.json.Json;
 import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+import jakarta.json.stream.JsonParsingException;
 
 /**
  * 
@@ -31,30 +45,174 @@ import jakarta.json.JsonReaderFactory;
 public class JakartaJsonCore implements JsonCore<JakartaJsonValue> {
 
   private final JsonReaderFactory factory;
+  private final JsonParserFactory parserFactory;
+  private final boolean wrapperCache;
+
+  private static class ParserFactoryHolder {
+    public static final JsonParserFactory INSTANCE =
+        Json.createParserFactory(Collections.emptyMap());
+  }
+
+  private static class GeneratorFactoryHolder {
+    public static final JsonGeneratorFactory INSTANCE =
+        Json.createGeneratorFactory(Collections.emptyMap());
+  }
 
   public JakartaJsonCore() {
-    factory = null;
+    this(false);
   }
 
   public JakartaJsonCore(JsonReaderFactory factory) {
+    this(factory, false);
+  }
+
+  /**
+   * Creates a {@link JakartaJsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link JakartaJsonValue#JakartaJsonValue(JsonValue, boolean)}.
+   * 
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public JakartaJsonCore(boolean wrapperCache) {
+    factory = null;
+    parserFactory = null;
+    this.wrapperCache = wrapperCache;
+  }
+
+  /**
+   * Creates a {@link JakartaJsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link JakartaJsonValue#JakartaJsonValue(JsonValue, boolean)}.
+   * 
+   * @param factory a {@link JsonReaderFactory}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public JakartaJsonCore(JsonReaderFactory factory, boolean wrapperCache) {
     if (factory == null) throw new NullPointerException();
     this.factory = factory;
+    parserFactory = Json.createParserFactory(factory.getConfigInUse());
+    this.wrapperCache = wrapperCache;
   }
 
   @Override
   public JakartaJsonValue parse(String json) {
     if (factory != null) {
-      return new JakartaJsonValue(factory.createReader(new StringReader(json)).readValue());
+      return new JakartaJsonValue(factory.createReader(new StringReader(json)).readValue(),
+          wrapperCache);
     }
-    return new JakartaJsonValue(Json.createReader(new StringReader(json)).readValue());
+    return new JakartaJsonValue(Json.createReader(new StringReader(json)).readValue(),
+        wrapperCache);
   }
 
   @Override
   public JakartaJsonValue parse(Reader jsonReader) throws IOException {
     if (factory != null) {
-      return new JakartaJsonValue(factory.createReader(jsonReader).readValue());
+      return new JakartaJsonValue(factory.createReader(jsonReader).readValue(), wrapperCache);
+    }
+    return new JakartaJsonValue(Json.createReader(jsonReader).readValue(), wrapperCache);
+  }
+
+  @Override
+  public JakartaJsonValue parse(byte[] json, int offset, int length) {
+    InputStream jsonStream = new ByteArrayInputStream(json, offset, length);
+    if (factory != null) {
+      return new JakartaJsonValue(factory.createReader(jsonStream).readValue(), wrapperCache);
     }
-    return new JakartaJsonValue(Json.createReader(jsonReader).readValue());
+    return new JakartaJsonValue(Json.createReader(jsonStream).readValue(), wrapperCache);
+  }
+
+  @Override
+  public JakartaJsonValue parse(InputStream jsonStream) throws IOException {
+    if (factory != null) {
+      return new JakartaJsonValue(factory.createReader(jsonStream).readValue(), wrapperCache);
+    }
+    return new JakartaJsonValue(Json.createReader(jsonStream).readValue(), wrapperCache);
+  }
+
+  @Override
+  public JakartaJsonValue parse(String json, JsonProjection projection) {
+    return parse(getParserFactory().createParser(new StringReader(json)), projection);
+  }
+
+  @Override
+  public JakartaJsonValue parse(Reader jsonReader, JsonProjection projection) {
+    return parse(getParserFactory().createParser(jsonReader), projection);
+  }
+
+  @Override
+  public JakartaJsonValue parse(InputStream jsonStream, JsonProjection projection) {
+    return parse(getParserFactory().createParser(jsonStream), projection);
+  }
+
+  @Override
+  public JakartaJsonPullParser pullParser(String json) {
+    return new JakartaJsonPullParser(getParserFactory().createParser(new StringReader(json)));
+  }
+
+  @Override
+  public JakartaJsonPullParser pullParser(Reader jsonReader) {
+    return new JakartaJsonPullParser(getParserFactory().createParser(jsonReader));
+  }
+
+  @Override
+  public JakartaJsonPullParser pullParser(InputStream jsonStream) {
+    return new JakartaJsonPullParser(getParserFactory().createParser(jsonStream));
+  }
+
+  @Override
+  public Stream<JsonValueCore<JakartaJsonValue>> parseNdjson(InputStream jsonStream) {
+    return JsonLinesIterator.stream(this::parseLine, jsonStream);
+  }
+
+  @Override
+  public Stream<JsonValueCore<JakartaJsonValue>> parseNdjsonParallel(Path jsonPath,
+      boolean ordered) throws IOException {
+    return NdjsonSpliterator.stream(this::parseLine, jsonPath, ordered);
+  }
+
+  // JsonReader ignores anything after the first JSON value, but JsonParser rejects it
+  private JakartaJsonValue parseLine(byte[] json, int offset, int length) {
+    try (JsonParser jsonParser =
+        getParserFactory().createParser(new ByteArrayInputStream(json, offset, length))) {
+      jsonParser.next();
+      JsonValue jsonValue = jsonParser.getValue();
+      if (jsonParser.hasNext()) {
+        throw new JsonParsingException("Expected only one JSON value in a line",
+            jsonParser.getLocation());
+      }
+      return new JakartaJsonValue(jsonValue, wrapperCache);
+    }
+  }
+
+  private JsonParserFactory getParserFactory() {
+    return parserFactory == null ? ParserFactoryHolder.INSTANCE : parserFactory;
+  }
+
+  private JakartaJsonValue parse(JsonParser jsonParser, JsonProjection projection) {
+    if (projection == null) throw new NullPointerException();
+    try {
+      return new JakartaJsonValue(JakartaJsonTranscoder.INSTANCE
+          .transcode(new JakartaJsonPullParser(jsonParser), projection), wrapperCache);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public JakartaJsonValue transcode(JsonValueBase<?> jsonValue) {
+    return new JakartaJsonValue(JakartaJsonTranscoder.INSTANCE.transcode(jsonValue),
+        wrapperCache);
+  }
+
+  static void writeJson(JsonValue jsonValue, Writer writer) {
+    // The generator is flushed instead of closed, so the writer stays open
+    JsonGenerator generator = GeneratorFactoryHolder.INSTANCE.createGenerator(writer);
+    generator.write(jsonValue);
+    generator.flush();
+  }
+
+  static void writeJson(JsonValue jsonValue, OutputStream out) {
+    JsonGenerator generator = GeneratorFactoryHolder.INSTANCE.createGenerator(out);
+    generator.write(jsonValue);
+    generator.flush();
   }
 
 }
@@ -0,0 +1,142 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * 
+ * The Jakarta implementation of {@link JsonCursor}, which walks {@link JsonValue}s directly.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class JakartaJsonCursor extends AbstractJsonCursor<JsonValue> {
+
+  JakartaJsonCursor(JsonValue root) {
+    super(root);
+  }
+
+  @Override
+  boolean isObject(JsonValue node) {
+    return node.getValueType() == JsonValue.ValueType.OBJECT;
+  }
+
+  @Override
+  boolean isArray(JsonValue node) {
+    return node.getValueType() == JsonValue.ValueType.ARRAY;
+  }
+
+  @Override
+  int objectSize(JsonValue object) {
+    return object.asJsonObject().size();
+  }
+
+  @Override
+  Iterator<?> memberIterator(JsonValue object) {
+    return object.asJsonObject().entrySet().iterator();
+  }
+
+  @Override
+  String memberName(Object member) {
+    return ((Entry<?, ?>) member).getKey().toString();
+  }
+
+  @Override
+  JsonValue memberValue(JsonValue object, Object member) {
+    return (JsonValue) ((Entry<?, ?>) member).getValue();
+  }
+
+  @Override
+  int arraySize(JsonValue array) {
+    return array.asJsonArray().size();
+  }
+
+  @Override
+  JsonValue element(JsonValue array, int index) {
+    return array.asJsonArray().get(index);
+  }
+
+  @Override
+  public boolean isString() {
+    return node().getValueType() == JsonValue.ValueType.STRING;
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return node().getValueType() == JsonValue.ValueType.FALSE
+        || node().getValueType() == JsonValue.ValueType.TRUE;
+  }
+
+  @Override
+  public boolean isNumber() {
+    return node().getValueType() == JsonValue.ValueType.NUMBER;
+  }
+
+  @Override
+  public boolean isNull() {
+    return node().getValueType() == JsonValue.ValueType.NULL;
+  }
+
+  @Override
+  public String asString() {
+    return JsonString.class.cast(node()).getString();
+  }
+
+  @Override
+  public boolean asBoolean() {
+    if (node().getValueType() == JsonValue.ValueType.FALSE) return false;
+    if (node().getValueType() == JsonValue.ValueType.TRUE) return true;
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int asInt() {
+    return JsonNumber.class.cast(node()).intValue();
+  }
+
+  @Override
+  public long asLong() {
+    return JsonNumber.class.cast(node()).longValue();
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    return JsonNumber.class.cast(node()).bigIntegerValue();
+  }
+
+  @Override
+  public double asDouble() {
+    return JsonNumber.class.cast(node()).doubleValue();
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    return JsonNumber.class.cast(node()).bigDecimalValue();
+  }
+
+  @Override
+  public Number asNumber() {
+    return JakartaJsonValue.asNumber(node());
+  }
+
+}
@@ -15,19 +15,33 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonValue;
 
 /**
  * 
  * The Jakarta implementation of {@link JsonObjectCore}.
+ * <p>
+ * Since a Jakarta {@link JsonObject} is immutable, the first mutation copies its members into a
+ * mutable overlay, which takes all following mutations in constant time. An immutable
+ * {@link JsonObject} is built from the overlay only when it is needed, such as by
+ * {@link #getSource()} or {@link #toJson()}, so a JSON object of n members can be constructed in
+ * O(n) time.
  * 
  * @author Wei-Ming Wu
  *
@@ -35,50 +49,135 @@ import jakarta.json.JsonValue;
 public final class JakartaJsonObject implements JsonObjectCore<JakartaJsonValue> {
 
   private JsonObject jsonObject;
+  private Map<String, JsonValue> members;
+  private final WrapperCache<JakartaJsonValue> cache;
 
   public JakartaJsonObject(JsonObject jsonObject) {
+    this(jsonObject, false);
+  }
+
+  /**
+   * Creates a {@link JakartaJsonObject} which optionally caches the wrappers of its members.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonObject a {@link JsonObject}
+   * @param wrapperCache true if the wrappers of members should be cached
+   */
+  public JakartaJsonObject(JsonObject jsonObject, boolean wrapperCache) {
     if (jsonObject == null) throw new NullPointerException();
     this.jsonObject = jsonObject;
+    cache = wrapperCache ? new WrapperCache<>() : null;
+  }
+
+  /**
+   * Returns the current members, which are either the overlay or the immutable
+   * {@link JsonObject}.
+   */
+  private Map<String, JsonValue> members() {
+    return members != null ? members : jsonObject;
+  }
+
+  /**
+   * Returns the overlay for a mutation, and discards the immutable {@link JsonObject} which is
+   * going to be out of date.
+   */
+  private Map<String, JsonValue> mutableMembers() {
+    if (members == null) members = new LinkedHashMap<>(jsonObject);
+    jsonObject = null;
+    return members;
+  }
+
+  /**
+   * Returns the immutable {@link JsonObject}, which is built from the overlay if there are
+   * mutations since it was built last time.
+   */
+  private JsonObject jsonObject() {
+    if (jsonObject == null) {
+      JsonObjectBuilder builder = Json.createObjectBuilder();
+      members.forEach(builder::add);
+      jsonObject = builder.build();
+    }
+    return jsonObject;
   }
 
   @Override
   public void set(String name, JsonSource jsonValue) {
-    jsonObject =
-        Json.createObjectBuilder(jsonObject).add(name, (JsonValue) jsonValue.getSource()).build();
+    JsonValue value = JakartaJsonTranscoder.INSTANCE.toNative(jsonValue);
+    if (name == null) throw new NullPointerException();
+    if (value == null) throw new NullPointerException();
+    mutableMembers().put(name, value);
   }
 
   @Override
   public boolean remove(String name) {
-    boolean isRemovable = jsonObject.containsKey(name);
-    jsonObject = Json.createObjectBuilder(jsonObject).remove(name).build();
-    return isRemovable;
+    if (name == null) throw new NullPointerException();
+    if (cache != null) cache.evictMember(name);
+    if (!members().containsKey(name)) return false;
+    mutableMembers().remove(name);
+    return true;
+  }
+
+  @Override
+  public void setAll(Map<String, ? extends JsonSource> members) {
+    if (members.isEmpty()) return;
+    Map<String, JsonValue> overlay = mutableMembers();
+    members.forEach((name, jsonValue) -> {
+      JsonValue value = JakartaJsonTranscoder.INSTANCE.toNative(jsonValue);
+      if (name == null) throw new NullPointerException();
+      if (value == null) throw new NullPointerException();
+      overlay.put(name, value);
+    });
+  }
+
+  @Override
+  public boolean removeAll(Collection<String> names) {
+    if (cache != null) cache.evictMembers(names);
+    for (String name : names) {
+      if (members().containsKey(name)) return mutableMembers().keySet().removeAll(names);
+    }
+    return false;
+  }
+
+  @Override
+  public boolean retainAll(Collection<String> names) {
+    if (cache != null) cache.retainMembers(names);
+    if (names.containsAll(members().keySet())) return false;
+    return mutableMembers().keySet().retainAll(names);
   }
 
   @Override
   public boolean contains(String name) {
-    return jsonObject.containsKey(name);
+    return members().containsKey(name);
   }
 
   @Override
   public JakartaJsonValue get(String name) {
-    JsonValue value = jsonObject.get(name);
-    return value == null ? null : new JakartaJsonValue(value);
+    JsonValue value = members().get(name);
+    if (value == null) return null;
+    if (cache == null) return new JakartaJsonValue(value);
+    return cache.member(name, value, n -> new JakartaJsonValue((JsonValue) n, true));
   }
 
   @Override
   public int size() {
-    return jsonObject.size();
+    return members().size();
   }
 
   @Override
   public Iterator<String> names() {
-    return jsonObject.keySet().iterator();
+    return Collections.unmodifiableSet(members().keySet()).iterator();
   }
 
   @Override
   public Iterator<Entry<String, JakartaJsonValue>> iterator() {
+    if (cache != null) {
+      return new TransformIterator<Entry<String, JsonValue>, Entry<String, JakartaJsonValue>>(
+          members().entrySet().iterator(), member -> cache.entry(member.getKey(),
+              member.getValue(), n -> new JakartaJsonValue((JsonValue) n, true)));
+    }
     return new TransformIterator<Entry<String, JsonValue>, Entry<String, JakartaJsonValue>>(
-        jsonObject.entrySet().iterator(), member -> new SimpleImmutableEntry<>(member.getKey(),
+        members().entrySet().iterator(), member -> new SimpleImmutableEntry<>(member.getKey(),
             new JakartaJsonValue(member.getValue())));
   }
 
@@ -159,12 +258,18 @@ public final class JakartaJsonObject implements JsonObjectCore<JakartaJsonValue>
 
   @Override
   public JakartaJsonValue asValue() {
-    return new JakartaJsonValue(jsonObject);
+    if (cache == null) return new JakartaJsonValue(jsonObject());
+    return cache.view(jsonObject(), node -> new JakartaJsonValue((JsonValue) node, true));
   }
 
   @Override
   public Object getSource() {
-    return jsonObject;
+    return jsonObject();
+  }
+
+  @Override
+  public JsonCursor cursor() {
+    return new JakartaJsonCursor(jsonObject());
   }
 
   @Override
@@ -172,20 +277,30 @@ public final class JakartaJsonObject implements JsonObjectCore<JakartaJsonValue>
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    JakartaJsonCore.writeJson(jsonObject(), writer);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    JakartaJsonCore.writeJson(jsonObject(), out);
+  }
+
   @Override
   public int hashCode() {
-    return jsonObject.hashCode();
+    return members().hashCode();
   }
 
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
-    return o instanceof JakartaJsonObject jo && Objects.equals(jsonObject, jo.jsonObject);
+    return o instanceof JakartaJsonObject jo && Objects.equals(members(), jo.members());
   }
 
   @Override
   public String toString() {
-    return jsonObject.toString();
+    return jsonObject().toString();
   }
 
 }
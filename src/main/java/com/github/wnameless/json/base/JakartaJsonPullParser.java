@@ -0,0 +1,125 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * 
+ * The Jakarta implementation of {@link JsonPullParser}, which reads tokens from a
+ * {@link JsonParser}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class JakartaJsonPullParser implements JsonPullParser {
+
+  private final JsonParser jsonParser;
+  private Token token;
+
+  /**
+   * Creates a {@link JakartaJsonPullParser} by given {@link JsonParser}, which is positioned before
+   * the JSON value to read.
+   * 
+   * @param jsonParser a {@link JsonParser}
+   */
+  public JakartaJsonPullParser(JsonParser jsonParser) {
+    if (jsonParser == null) throw new NullPointerException();
+    this.jsonParser = jsonParser;
+  }
+
+  @Override
+  public Token next() {
+    if (!jsonParser.hasNext()) return token = null;
+
+    switch (jsonParser.next()) {
+      case START_OBJECT:
+        return token = Token.START_OBJECT;
+      case END_OBJECT:
+        return token = Token.END_OBJECT;
+      case START_ARRAY:
+        return token = Token.START_ARRAY;
+      case END_ARRAY:
+        return token = Token.END_ARRAY;
+      case KEY_NAME:
+        return token = Token.FIELD_NAME;
+      case VALUE_STRING:
+        return token = Token.STRING;
+      case VALUE_NUMBER:
+        return token = Token.NUMBER;
+      case VALUE_TRUE:
+        return token = Token.TRUE;
+      case VALUE_FALSE:
+        return token = Token.FALSE;
+      default:
+        return token = Token.NULL;
+    }
+  }
+
+  @Override
+  public Token currentToken() {
+    return token;
+  }
+
+  @Override
+  public String text() {
+    if (token == null) throw new IllegalStateException();
+    switch (token) {
+      case FIELD_NAME:
+      case STRING:
+      case NUMBER:
+        return jsonParser.getString();
+      case TRUE:
+        return "true";
+      case FALSE:
+        return "false";
+      case NULL:
+        return "null";
+      default:
+        throw new IllegalStateException();
+    }
+  }
+
+  @Override
+  public Number asNumber() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    return JsonValueUtils.toJavaNumber(jsonParser.getBigDecimal());
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    return jsonParser.getBigDecimal();
+  }
+
+  @Override
+  public void skipChildren() {
+    if (token == Token.START_OBJECT) {
+      jsonParser.skipObject();
+      token = Token.END_OBJECT;
+    } else if (token == Token.START_ARRAY) {
+      jsonParser.skipArray();
+      token = Token.END_ARRAY;
+    }
+  }
+
+  @Override
+  public void close() {
+    jsonParser.close();
+  }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * 
+ * The Jakarta implementation of {@link JsonTranscoder}. Since Jakarta JSON structures are
+ * immutable, JSON objects and arrays are collected by builders of a single {@link JsonProvider},
+ * which is looked up only once.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class JakartaJsonTranscoder extends JsonTranscoder<JsonValue> {
+
+  static final JakartaJsonTranscoder INSTANCE = new JakartaJsonTranscoder(JsonProvider.provider());
+
+  private final JsonProvider provider;
+
+  JakartaJsonTranscoder(JsonProvider provider) {
+    if (provider == null) throw new NullPointerException();
+    this.provider = provider;
+  }
+
+  @Override
+  boolean isNative(Object source) {
+    return source instanceof JsonValue;
+  }
+
+  @Override
+  Object newObject(int size) {
+    return provider.createObjectBuilder();
+  }
+
+  @Override
+  Object newArray(int size) {
+    return provider.createArrayBuilder();
+  }
+
+  @Override
+  void put(Object object, String name, JsonValue value) {
+    ((JsonObjectBuilder) object).add(name, value);
+  }
+
+  @Override
+  void add(Object array, JsonValue value) {
+    ((JsonArrayBuilder) array).add(value);
+  }
+
+  @Override
+  JsonValue build(Object container) {
+    if (container instanceof JsonObjectBuilder) return ((JsonObjectBuilder) container).build();
+    return ((JsonArrayBuilder) container).build();
+  }
+
+  @Override
+  JsonValue nullValue() {
+    return JsonValue.NULL;
+  }
+
+  @Override
+  JsonValue booleanValue(boolean value) {
+    return value ? JsonValue.TRUE : JsonValue.FALSE;
+  }
+
+  @Override
+  JsonValue stringValue(String value) {
+    return provider.createValue(value);
+  }
+
+  @Override
+  JsonValue numberValue(Number value) {
+    if (value instanceof Integer) return provider.createValue(value.intValue());
+    if (value instanceof Long) return provider.createValue(value.longValue());
+    if (value instanceof BigInteger) return provider.createValue((BigInteger) value);
+    if (value instanceof Double) return provider.createValue(value.doubleValue());
+    if (value instanceof BigDecimal) return provider.createValue((BigDecimal) value);
+    return provider.createValue(new BigDecimal(value.toString()));
+  }
+
+}
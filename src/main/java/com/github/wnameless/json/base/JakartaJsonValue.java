@@ -15,10 +15,15 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Objects;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 
@@ -32,10 +37,24 @@ import jakarta.json.JsonValue;
 public final class JakartaJsonValue implements JsonValueCore<JakartaJsonValue> {
 
   private final JsonValue jsonValue;
+  private final WrapperCache<JakartaJsonValue> cache;
 
   public JakartaJsonValue(JsonValue jsonValue) {
+    this(jsonValue, false);
+  }
+
+  /**
+   * Creates a {@link JakartaJsonValue} which optionally caches the wrappers of its descendants.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonValue a {@link JsonValue}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public JakartaJsonValue(JsonValue jsonValue, boolean wrapperCache) {
     if (jsonValue == null) throw new NullPointerException();
     this.jsonValue = jsonValue;
+    cache = wrapperCache && (isObject() || isArray()) ? new WrapperCache<>() : null;
   }
 
   @Override
@@ -106,11 +125,46 @@ public final class JakartaJsonValue implements JsonValueCore<JakartaJsonValue> {
     return JsonNumber.class.cast(jsonValue).bigDecimalValue();
   }
 
+  @Override
+  public Number asNumber() {
+    return asNumber(jsonValue);
+  }
+
+  /**
+   * Converts given {@link JsonValue} to a Java {@link Number} as {@link JsonValueBase#asNumber()}
+   * does, without creating any {@link BigDecimal} whenever possible.
+   * 
+   * @param jsonValue a {@link JsonValue}
+   * @return a {@link Number}
+   */
+  static Number asNumber(JsonValue jsonValue) {
+    if (jsonValue.getValueType() == JsonValue.ValueType.NUMBER) {
+      // JsonNumber#toString is always the String form of JsonNumber#bigDecimalValue
+      return JsonValueUtils.toJavaNumber(jsonValue.toString());
+    }
+    return JsonValueUtils.toJavaNumber(JsonNumber.class.cast(jsonValue).bigDecimalValue());
+  }
+
+  @Override
+  public JsonCursor cursor() {
+    return new JakartaJsonCursor(jsonValue);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    JakartaJsonCore.writeJson(jsonValue, writer);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    JakartaJsonCore.writeJson(jsonValue, out);
+  }
+
   @Override
   public Object getSource() {
     return jsonValue;
@@ -118,12 +172,14 @@ public final class JakartaJsonValue implements JsonValueCore<JakartaJsonValue> {
 
   @Override
   public JakartaJsonObject asObject() {
-    return new JakartaJsonObject(jsonValue.asJsonObject());
+    if (cache == null || !isObject()) return new JakartaJsonObject(jsonValue.asJsonObject());
+    return cache.view(jsonValue, node -> new JakartaJsonObject((JsonObject) node, true));
   }
 
   @Override
   public JakartaJsonArray asArray() {
-    return new JakartaJsonArray(jsonValue.asJsonArray());
+    if (cache == null || !isArray()) return new JakartaJsonArray(jsonValue.asJsonArray());
+    return cache.view(jsonValue, node -> new JakartaJsonArray((JsonArray) node, true));
   }
 
   @Override
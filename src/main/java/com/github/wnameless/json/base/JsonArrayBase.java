@@ -16,6 +16,10 @@
 package com.github.wnameless.json.base;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -64,6 +68,115 @@ public interface JsonArrayBase<JVB extends JsonValueBase<JVB>>
     return JsonValueUtils.toList(this);
   }
 
+  /**
+   * Returns a read-only {@link List} view of this JSON array. Unlike {@link #toList()}, nothing is
+   * copied up front: elements are converted when they are accessed, nested JSON objects and arrays
+   * become views as well, and the view reflects any later change of this JSON array.
+   * 
+   * @return a {@link List}
+   */
+  default List<Object> asListView() {
+    return new JsonArrayListView(this);
+  }
+
+  /**
+   * Converts this JSON array to a Java int array by {@link JsonValueBase#asInt()} of each element.
+   * 
+   * @return a int array
+   */
+  default int[] toIntArray() {
+    int size = size();
+    int[] array = new int[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = get(i).asInt();
+    }
+    return array;
+  }
+
+  /**
+   * Performs given action on each element of this JSON array as a Java int, which is converted by
+   * {@link JsonValueBase#asInt()}.
+   * 
+   * @param action a {@link IntConsumer}
+   */
+  default void forEachInt(IntConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = size();
+    for (int i = 0; i < size; i++) {
+      action.accept(get(i).asInt());
+    }
+  }
+
+  /**
+   * Converts this JSON array to a Java long array by {@link JsonValueBase#asLong()} of each
+   * element.
+   * 
+   * @return a long array
+   */
+  default long[] toLongArray() {
+    int size = size();
+    long[] array = new long[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = get(i).asLong();
+    }
+    return array;
+  }
+
+  /**
+   * Performs given action on each element of this JSON array as a Java long, which is converted by
+   * {@link JsonValueBase#asLong()}.
+   * 
+   * @param action a {@link LongConsumer}
+   */
+  default void forEachLong(LongConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = size();
+    for (int i = 0; i < size; i++) {
+      action.accept(get(i).asLong());
+    }
+  }
+
+  /**
+   * Converts this JSON array to a Java double array by {@link JsonValueBase#asDouble()} of each
+   * element.
+   * 
+   * @return a double array
+   */
+  default double[] toDoubleArray() {
+    int size = size();
+    double[] array = new double[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = get(i).asDouble();
+    }
+    return array;
+  }
+
+  /**
+   * Performs given action on each element of this JSON array as a Java double, which is converted
+   * by {@link JsonValueBase#asDouble()}.
+   * 
+   * @param action a {@link DoubleConsumer}
+   */
+  default void forEachDouble(DoubleConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = size();
+    for (int i = 0; i < size; i++) {
+      action.accept(get(i).asDouble());
+    }
+  }
+
+  /**
+   * Returns an index-based {@link Spliterator} which is {@link Spliterator#SIZED},
+   * {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}, so it can be split evenly by
+   * {@link #get(int)} for parallel processing.
+   * 
+   * @return a {@link Spliterator}
+   */
+  @Override
+  default Spliterator<JVB> spliterator() {
+    return new JsonArraySpliterator<>(this);
+  }
+
   /**
    * Turns this JSON array into a Stream of {@link JsonValueBase}.
    * 
@@ -73,4 +186,13 @@ public interface JsonArrayBase<JVB extends JsonValueBase<JVB>>
     return StreamSupport.stream(spliterator(), false);
   }
 
+  /**
+   * Turns this JSON array into a parallel Stream of {@link JsonValueBase}.
+   * 
+   * @return a parallel {@link Stream}
+   */
+  default Stream<JVB> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
 }
@@ -50,4 +50,14 @@ public interface JsonArrayCore<JVC extends JsonValueCore<JVC>>
    */
   JVC remove(int index);
 
+  /**
+   * Adds all elements by given {@link JsonSource}s in iteration order.
+   * 
+   * @param jsonSources an {@link Iterable} of {@link JsonSource}s
+   */
+  default void addAll(Iterable<? extends JsonSource> jsonSources) {
+    if (jsonSources == null) throw new NullPointerException();
+    jsonSources.forEach(this::add);
+  }
+
 }
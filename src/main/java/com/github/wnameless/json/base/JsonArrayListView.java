@@ -0,0 +1,57 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 
+ * A read-only {@link java.util.List} view of a {@link JsonArrayBase}. Nothing is copied when the
+ * view is created: elements are converted to Java objects only when they are accessed, and nested
+ * JSON objects and arrays become views as well. The view reflects any later change of the
+ * underlying JSON array.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class JsonArrayListView extends AbstractList<Object> implements RandomAccess {
+
+  private final JsonArrayBase<?> jsonArray;
+
+  JsonArrayListView(JsonArrayBase<?> jsonArray) {
+    if (jsonArray == null) throw new NullPointerException();
+    this.jsonArray = jsonArray;
+  }
+
+  @Override
+  public Object get(int index) {
+    Objects.checkIndex(index, jsonArray.size());
+    return JsonValueUtils.toView(jsonArray.get(index));
+  }
+
+  @Override
+  public int size() {
+    return jsonArray.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return jsonArray.isEmpty();
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * 
+ * An index-based {@link Spliterator} over a {@link JsonArrayBase}, which reads elements by
+ * {@link JsonArrayBase#get(int)} and splits evenly by halving its index range. The size of the JSON
+ * array is bound at the first traversal or split.
+ * 
+ * @author Wei-Ming Wu
+ *
+ * @param <JVB> the type of a JSON implementation wrapper
+ */
+final class JsonArraySpliterator<JVB extends JsonValueBase<JVB>> implements Spliterator<JVB> {
+
+  private final JsonArrayBase<JVB> jsonArray;
+  private int index;
+  private int fence;
+
+  JsonArraySpliterator(JsonArrayBase<JVB> jsonArray) {
+    this(jsonArray, 0, -1);
+  }
+
+  private JsonArraySpliterator(JsonArrayBase<JVB> jsonArray, int index, int fence) {
+    if (jsonArray == null) throw new NullPointerException();
+    this.jsonArray = jsonArray;
+    this.index = index;
+    this.fence = fence;
+  }
+
+  private int getFence() {
+    if (fence < 0) fence = jsonArray.size();
+    return fence;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super JVB> action) {
+    if (action == null) throw new NullPointerException();
+    if (index >= getFence()) return false;
+    action.accept(jsonArray.get(index++));
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super JVB> action) {
+    if (action == null) throw new NullPointerException();
+    int hi = getFence();
+    for (int i = index; i < hi; i++) {
+      action.accept(jsonArray.get(i));
+    }
+    index = hi;
+  }
+
+  @Override
+  public Spliterator<JVB> trySplit() {
+    int hi = getFence();
+    int lo = index;
+    int mid = (lo + hi) >>> 1;
+    if (lo >= mid) return null;
+    index = mid;
+    return new JsonArraySpliterator<>(jsonArray, lo, mid);
+  }
+
+  @Override
+  public long estimateSize() {
+    return getFence() - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED;
+  }
+
+}
@@ -16,11 +16,25 @@
 package com.github.wnameless.json.base;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
 
 /**
  * 
- * {@link JsonCore} provides a wrapper to all kinds of JSON parsers.
+ * {@link JsonCore} provides a wrapper to all kinds of JSON parsers.<br>
+ * <br>
+ * All byte oriented parse methods expect UTF-8 encoded JSON. Their default implementations decode
+ * the bytes into chars, implementations should override them if the underlying JSON parser can
+ * read bytes natively.
  * 
  * @author Wei-Ming Wu
  *
@@ -45,4 +59,253 @@ public interface JsonCore<JVC extends JsonValueCore<JVC>> {
    */
   JsonValueCore<JVC> parse(Reader jsonReader) throws IOException;
 
+  /**
+   * Creates a {@link JsonValueCore} by given UTF-8 JSON bytes.
+   * 
+   * @param json any UTF-8 JSON bytes
+   * @return a {@link JsonValueCore}
+   */
+  default JsonValueCore<JVC> parse(byte[] json) {
+    return parse(json, 0, json.length);
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by given range of UTF-8 JSON bytes.
+   * 
+   * @param json any UTF-8 JSON bytes
+   * @param offset the index of the first byte to parse
+   * @param length the number of bytes to parse
+   * @return a {@link JsonValueCore}
+   */
+  default JsonValueCore<JVC> parse(byte[] json, int offset, int length) {
+    return parse(new String(json, offset, length, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by the remaining UTF-8 JSON bytes of given {@link ByteBuffer}.
+   * The position of given {@link ByteBuffer} is not changed.
+   * 
+   * @param json a {@link ByteBuffer} of UTF-8 JSON bytes
+   * @return a {@link JsonValueCore}
+   */
+  default JsonValueCore<JVC> parse(ByteBuffer json) {
+    if (json.hasArray()) {
+      return parse(json.array(), json.arrayOffset() + json.position(), json.remaining());
+    }
+    try {
+      return parse(new ByteBufferInputStream(json.duplicate()));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by given UTF-8 JSON input stream.
+   * 
+   * @param jsonStream any UTF-8 JSON input stream
+   * @return a {@link JsonValueCore}
+   * @throws IOException if error occurs during reading
+   */
+  default JsonValueCore<JVC> parse(InputStream jsonStream) throws IOException {
+    return parse(new InputStreamReader(jsonStream, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by given UTF-8 JSON file.
+   * 
+   * @param jsonPath the path of any UTF-8 JSON file
+   * @return a {@link JsonValueCore}
+   * @throws IOException if error occurs during reading
+   */
+  default JsonValueCore<JVC> parse(Path jsonPath) throws IOException {
+    try (InputStream jsonStream = Files.newInputStream(jsonPath)) {
+      return parse(jsonStream);
+    }
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by given UTF-8 JSON file, which is read through memory-mapped
+   * regions of the file instead of buffered stream reads.<br>
+   * <br>
+   * It is meant for very large files: the raw JSON bytes are fed into the parser straight from the
+   * page cache without being copied onto the Java heap, and files larger than 2 GB are mapped
+   * region by region.
+   * 
+   * @param jsonPath the path of any UTF-8 JSON file
+   * @return a {@link JsonValueCore}
+   * @throws IOException if error occurs during reading
+   */
+  default JsonValueCore<JVC> parseMapped(Path jsonPath) throws IOException {
+    try (FileChannel channel = FileChannel.open(jsonPath, StandardOpenOption.READ);
+        InputStream jsonStream = new MappedFileInputStream(channel)) {
+      return parse(jsonStream);
+    }
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by given JSON string, which only holds the JSON values selected
+   * by given {@link JsonProjection}.<br>
+   * <br>
+   * The default implementation parses the whole JSON and then removes the members and elements
+   * which are not projected, the built-in implementations skip them while reading the JSON
+   * instead, so they are never built.
+   * 
+   * @param json any JSON string
+   * @param projection a {@link JsonProjection}
+   * @return a {@link JsonValueCore}
+   */
+  default JsonValueCore<JVC> parse(String json, JsonProjection projection) {
+    if (projection == null) throw new NullPointerException();
+    JsonValueCore<JVC> jsonValue = parse(json);
+    projection.retain(jsonValue);
+    return jsonValue;
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by given JSON string reader, which only holds the JSON values
+   * selected by given {@link JsonProjection}, see {@link #parse(String, JsonProjection)}.
+   * 
+   * @param jsonReader any JSON string reader
+   * @param projection a {@link JsonProjection}
+   * @return a {@link JsonValueCore}
+   * @throws IOException if error occurs during reading
+   */
+  default JsonValueCore<JVC> parse(Reader jsonReader, JsonProjection projection)
+      throws IOException {
+    if (projection == null) throw new NullPointerException();
+    JsonValueCore<JVC> jsonValue = parse(jsonReader);
+    projection.retain(jsonValue);
+    return jsonValue;
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by given UTF-8 JSON input stream, which only holds the JSON
+   * values selected by given {@link JsonProjection}, see {@link #parse(String, JsonProjection)}.
+   * 
+   * @param jsonStream any UTF-8 JSON input stream
+   * @param projection a {@link JsonProjection}
+   * @return a {@link JsonValueCore}
+   * @throws IOException if error occurs during reading
+   */
+  default JsonValueCore<JVC> parse(InputStream jsonStream, JsonProjection projection)
+      throws IOException {
+    return parse(new InputStreamReader(jsonStream, StandardCharsets.UTF_8), projection);
+  }
+
+  /**
+   * Creates a {@link JsonPullParser} by given JSON string.<br>
+   * <br>
+   * The default implementation parses the whole JSON and walks it by a {@link JsonCursor}, so the
+   * text of a number is normalized, e.g. 100 for 1e2, unless the parsed JSON keeps it as a
+   * {@link TapeJsonCore} does. The other built-in implementations read tokens from their streaming
+   * parsers instead, so JSON documents larger than the heap can be processed.
+   * 
+   * @param json any JSON string
+   * @return a {@link JsonPullParser}
+   */
+  default JsonPullParser pullParser(String json) {
+    return new CursorJsonPullParser(parse(json).cursor(), null);
+  }
+
+  /**
+   * Creates a {@link JsonPullParser} by given JSON string reader, see
+   * {@link #pullParser(String)}. Closing the {@link JsonPullParser} closes given reader as well.
+   * 
+   * @param jsonReader any JSON string reader
+   * @return a {@link JsonPullParser}
+   * @throws IOException if error occurs during reading
+   */
+  default JsonPullParser pullParser(Reader jsonReader) throws IOException {
+    return new CursorJsonPullParser(parse(jsonReader).cursor(), jsonReader);
+  }
+
+  /**
+   * Creates a {@link JsonPullParser} by given UTF-8 JSON input stream, see
+   * {@link #pullParser(String)}. Closing the {@link JsonPullParser} closes given input stream as
+   * well.
+   * 
+   * @param jsonStream any UTF-8 JSON input stream
+   * @return a {@link JsonPullParser}
+   * @throws IOException if error occurs during reading
+   */
+  default JsonPullParser pullParser(InputStream jsonStream) throws IOException {
+    return pullParser(new InputStreamReader(jsonStream, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Creates a {@link Stream} of {@link JsonValueCore} by given UTF-8 newline-delimited JSON (NDJSON
+   * or JSON Lines) input stream. Each non-blank line is parsed lazily as an independent JSON value
+   * while the {@link Stream} is consumed, so a JSON value which spans multiple lines or shares a
+   * line with another value is rejected.<br>
+   * <br>
+   * Given input stream is not closed by closing the returned {@link Stream}. Any
+   * {@link IOException} during reading is rethrown as an {@link UncheckedIOException}.
+   * 
+   * @param jsonStream any UTF-8 NDJSON input stream
+   * @return a {@link Stream} of {@link JsonValueCore}
+   */
+  default Stream<JsonValueCore<JVC>> parseNdjson(InputStream jsonStream) {
+    return JsonLinesIterator.stream(this::parse, jsonStream);
+  }
+
+  /**
+   * Creates a {@link Stream} of {@link JsonValueCore} by given UTF-8 newline-delimited JSON (NDJSON
+   * or JSON Lines) file. Each non-blank line is parsed lazily as an independent JSON value while
+   * the {@link Stream} is consumed.<br>
+   * <br>
+   * The returned {@link Stream} should be closed to release the file, e.g. by a try-with-resources
+   * statement.
+   * 
+   * @param jsonPath the path of any UTF-8 NDJSON file
+   * @return a {@link Stream} of {@link JsonValueCore}
+   * @throws IOException if error occurs during opening the file
+   */
+  default Stream<JsonValueCore<JVC>> parseNdjson(Path jsonPath) throws IOException {
+    InputStream jsonStream = Files.newInputStream(jsonPath);
+    try {
+      return parseNdjson(jsonStream).onClose(() -> {
+        try {
+          jsonStream.close();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (RuntimeException e) {
+      jsonStream.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Creates a parallel {@link Stream} of {@link JsonValueCore} by given UTF-8 newline-delimited
+   * JSON (NDJSON or JSON Lines) file. The file is split into byte ranges on line boundaries and
+   * each range is parsed concurrently, so the work can be spread over the common fork-join
+   * pool.<br>
+   * <br>
+   * The returned {@link Stream} should be closed to release the file, e.g. by a try-with-resources
+   * statement.
+   * 
+   * @param jsonPath the path of any UTF-8 NDJSON file
+   * @param ordered whether the values should keep the order of lines, an unordered {@link Stream}
+   *          may be processed faster by some terminal operations
+   * @return a parallel {@link Stream} of {@link JsonValueCore}
+   * @throws IOException if error occurs during opening the file
+   */
+  default Stream<JsonValueCore<JVC>> parseNdjsonParallel(Path jsonPath, boolean ordered)
+      throws IOException {
+    return NdjsonSpliterator.stream(this::parse, jsonPath, ordered);
+  }
+
+  /**
+   * Creates a {@link JsonValueCore} by given {@link JsonValueBase} of any JSON implementation.
+   * The default implementation serializes and re-parses the JSON value, the built-in
+   * implementations build their native JSON trees directly instead.
+   * 
+   * @param jsonValue any {@link JsonValueBase}
+   * @return a {@link JsonValueCore}
+   */
+  default JsonValueCore<JVC> transcode(JsonValueBase<?> jsonValue) {
+    return parse(jsonValue.toJson());
+  }
+
 }
@@ -0,0 +1,191 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 
+ * {@link JsonCursor} walks a JSON tree node by node without creating any JSON value wrapper. A
+ * cursor always points at one node, which starts at the root, and can be moved to the first child,
+ * the next sibling or the parent of the current node. The typed getters always read the current
+ * node.<br>
+ * <br>
+ * A cursor is not thread-safe and can be reused for another walk by {@link #reset()}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public interface JsonCursor {
+
+  /**
+   * Moves this cursor to the first child of the current node if the current node is a non-empty
+   * JSON object or array.
+   * 
+   * @return true if this cursor is moved, false otherwise
+   */
+  boolean moveToFirstChild();
+
+  /**
+   * Moves this cursor to the next sibling of the current node.
+   * 
+   * @return true if this cursor is moved, false if the current node is the last child or the root
+   */
+  boolean moveToNext();
+
+  /**
+   * Moves this cursor to the parent of the current node.
+   * 
+   * @return true if this cursor is moved, false if the current node is the root
+   */
+  boolean moveToParent();
+
+  /**
+   * Moves this cursor back to the root.
+   */
+  void reset();
+
+  /**
+   * Returns the depth of the current node, the root is at depth 0.
+   * 
+   * @return an int
+   */
+  int depth();
+
+  /**
+   * Returns the name of the current node if the current node is a member of a JSON object.
+   * 
+   * @return a member name or null
+   */
+  String fieldName();
+
+  /**
+   * Returns the position of the current node in its parent JSON object or array.
+   * 
+   * @return a position, or -1 if the current node is the root
+   */
+  int index();
+
+  /**
+   * Returns the number of children of the current node.
+   * 
+   * @return the size of the current JSON object or array
+   * @throws UnsupportedOperationException if the current node is neither a JSON object nor array
+   */
+  int size();
+
+  /**
+   * Checks if the current node is represented as a JSON object.
+   * 
+   * @return true if the current node is represented as a JSON object, false otherwise
+   */
+  boolean isObject();
+
+  /**
+   * Checks if the current node is represented as a JSON array.
+   * 
+   * @return true if the current node is represented as a JSON array, false otherwise
+   */
+  boolean isArray();
+
+  /**
+   * Checks if the current node is represented as a JSON string.
+   * 
+   * @return true if the current node is represented as a JSON string, false otherwise
+   */
+  boolean isString();
+
+  /**
+   * Checks if the current node is represented as a JSON boolean.
+   * 
+   * @return true if the current node is represented as a JSON boolean, false otherwise
+   */
+  boolean isBoolean();
+
+  /**
+   * Checks if the current node is represented as a JSON number.
+   * 
+   * @return true if the current node is represented as a JSON number, false otherwise
+   */
+  boolean isNumber();
+
+  /**
+   * Checks if the current node is represented as a JSON null.
+   * 
+   * @return true if the current node is represented as a JSON null, false otherwise
+   */
+  boolean isNull();
+
+  /**
+   * Converts the current node to a Java String.
+   * 
+   * @return a String
+   */
+  String asString();
+
+  /**
+   * Converts the current node to a Java boolean.
+   * 
+   * @return a boolean
+   */
+  boolean asBoolean();
+
+  /**
+   * Converts the current node to a Java int.
+   * 
+   * @return an int
+   */
+  int asInt();
+
+  /**
+   * Converts the current node to a Java long.
+   * 
+   * @return a long
+   */
+  long asLong();
+
+  /**
+   * Converts the current node to a Java {@link BigInteger}.
+   * 
+   * @return a {@link BigInteger}
+   */
+  BigInteger asBigInteger();
+
+  /**
+   * Converts the current node to a Java double.
+   * 
+   * @return a double
+   */
+  double asDouble();
+
+  /**
+   * Converts the current node to a Java {@link BigDecimal}.
+   * 
+   * @return a {@link BigDecimal}
+   */
+  BigDecimal asBigDecimal();
+
+  /**
+   * Converts the current node to a Java {@link Number} as {@link JsonValueBase#asNumber()} does.
+   * 
+   * @return a {@link Number}
+   */
+  default Number asNumber() {
+    return JsonValueUtils.toJavaNumber(asBigDecimal());
+  }
+
+}
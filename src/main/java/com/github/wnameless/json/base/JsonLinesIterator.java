@@ -0,0 +1,163 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 
+ * An {@link Iterator} which parses every non-blank line of a newline-delimited JSON (NDJSON or
+ * JSON Lines) input stream by {@link JsonCore#parse(byte[], int, int)} or a given
+ * {@link LineParser}. Lines are framed before parsing, so a JSON value can never span multiple
+ * lines. The line buffer is reused across records, so no String is allocated per line.
+ * 
+ * @author Wei-Ming Wu
+ *
+ * @param <JVC> the type of a JSON implementation wrapper
+ */
+final class JsonLinesIterator<JVC extends JsonValueCore<JVC>>
+    implements Iterator<JsonValueCore<JVC>> {
+
+  /**
+   * Parses a single line of JSON bytes, which should fail if the line holds anything but one JSON
+   * value.
+   *
+   * @param <JVC> the type of a JSON implementation wrapper
+   */
+  @FunctionalInterface
+  interface LineParser<JVC extends JsonValueCore<JVC>> {
+
+    JsonValueCore<JVC> parse(byte[] json, int offset, int length);
+
+  }
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final LineParser<JVC> lineParser;
+  private final InputStream jsonStream;
+  private byte[] buffer = new byte[BUFFER_SIZE];
+  private int start = 0;
+  private int end = 0;
+  private boolean endOfStream = false;
+  private JsonValueCore<JVC> nextValue;
+
+  JsonLinesIterator(JsonCore<JVC> jsonCore, InputStream jsonStream) {
+    this(jsonCore::parse, jsonStream);
+  }
+
+  JsonLinesIterator(LineParser<JVC> lineParser, InputStream jsonStream) {
+    if (lineParser == null) throw new NullPointerException();
+    if (jsonStream == null) throw new NullPointerException();
+    this.lineParser = lineParser;
+    this.jsonStream = jsonStream;
+  }
+
+  /**
+   * Creates a sequential {@link Stream} of the JSON values of given NDJSON input stream.
+   * 
+   * @param <JVC> the type of a JSON implementation wrapper
+   * @param lineParser a {@link LineParser}
+   * @param jsonStream any UTF-8 NDJSON input stream
+   * @return a {@link Stream} of {@link JsonValueCore}
+   */
+  static <JVC extends JsonValueCore<JVC>> Stream<JsonValueCore<JVC>> stream(
+      LineParser<JVC> lineParser, InputStream jsonStream) {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(new JsonLinesIterator<>(lineParser, jsonStream),
+            Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextValue != null) return true;
+    try {
+      nextValue = readValue();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return nextValue != null;
+  }
+
+  @Override
+  public JsonValueCore<JVC> next() {
+    if (!hasNext()) throw new NoSuchElementException();
+    JsonValueCore<JVC> value = nextValue;
+    nextValue = null;
+    return value;
+  }
+
+  private JsonValueCore<JVC> readValue() throws IOException {
+    int searchFrom = start;
+    while (true) {
+      int lineEnd = indexOfNewLine(searchFrom);
+      if (lineEnd >= 0 || endOfStream) {
+        int lineStart = start;
+        if (lineEnd < 0) lineEnd = end;
+        start = lineEnd < end ? lineEnd + 1 : end;
+        searchFrom = start;
+
+        while (lineStart < lineEnd && isBlank(buffer[lineStart])) lineStart++;
+        while (lineEnd > lineStart && isBlank(buffer[lineEnd - 1])) lineEnd--;
+        if (lineStart < lineEnd) {
+          return lineParser.parse(buffer, lineStart, lineEnd - lineStart);
+        }
+        if (endOfStream && start == end) return null;
+      } else {
+        searchFrom = end - start;
+        fillBuffer();
+      }
+    }
+  }
+
+  private int indexOfNewLine(int from) {
+    for (int i = from; i < end; i++) {
+      if (buffer[i] == '\n') return i;
+    }
+    return -1;
+  }
+
+  private void fillBuffer() throws IOException {
+    if (start > 0) {
+      System.arraycopy(buffer, start, buffer, 0, end - start);
+      end -= start;
+      start = 0;
+    }
+    if (end == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+    int count = jsonStream.read(buffer, end, buffer.length - end);
+    if (count < 0) {
+      endOfStream = true;
+    } else {
+      end += count;
+    }
+  }
+
+  private static boolean isBlank(byte b) {
+    return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+  }
+
+}
@@ -18,6 +18,8 @@ package com.github.wnameless.json.base;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -81,6 +83,29 @@ public interface JsonObjectBase<JVB extends JsonValueBase<JVB>>
     return JsonValueUtils.toMap(this);
   }
 
+  /**
+   * Returns a read-only {@link Map} view of this JSON object. Unlike {@link #toMap()}, nothing is
+   * copied up front: member values are converted when they are accessed, nested JSON objects and
+   * arrays become views as well, and the view reflects any later change of this JSON object.
+   * 
+   * @return a {@link Map}
+   */
+  default Map<String, Object> asMapView() {
+    return new JsonObjectMapView(this);
+  }
+
+  /**
+   * Returns a {@link Spliterator} which reports the size of this JSON object, so it can be split in
+   * batches for parallel processing.
+   * 
+   * @return a {@link Spliterator}
+   */
+  @Override
+  default Spliterator<Entry<String, JVB>> spliterator() {
+    return Spliterators.spliterator(iterator(), size(),
+        Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
   /**
    * Turns this JSON object into a Stream of Entry&lt;String, {@link JsonValueBase}&gt;.
    * 
@@ -90,4 +115,13 @@ public interface JsonObjectBase<JVB extends JsonValueBase<JVB>>
     return StreamSupport.stream(spliterator(), false);
   }
 
+  /**
+   * Turns this JSON object into a parallel Stream of Entry&lt;String, {@link JsonValueBase}&gt;.
+   * 
+   * @return a parallel {@link Stream}
+   */
+  default Stream<Entry<String, JVB>> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
 }
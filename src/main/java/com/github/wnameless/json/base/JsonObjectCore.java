@@ -15,6 +15,11 @@
  */
 package com.github.wnameless.json.base;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 
  * {@link JsonObjectCore} extends {@link JsonObjectBase}, {@link JsonValueCore} and adds few methods
@@ -43,4 +48,46 @@ public interface JsonObjectCore<JVC extends JsonValueCore<JVC>>
    */
   boolean remove(String name);
 
+  /**
+   * Sets all elements by given field names and {@link JsonSource}s in the iteration order of given
+   * {@link Map}.
+   * 
+   * @param members a {@link Map} of field names and {@link JsonSource}s
+   */
+  default void setAll(Map<String, ? extends JsonSource> members) {
+    if (members == null) throw new NullPointerException();
+    members.forEach(this::set);
+  }
+
+  /**
+   * Removes all elements by given field names.
+   * 
+   * @param names a {@link Collection} of field names
+   * @return true if any element removed, false otherwise
+   */
+  default boolean removeAll(Collection<String> names) {
+    if (names == null) throw new NullPointerException();
+    boolean removed = false;
+    for (String name : names) {
+      removed |= remove(name);
+    }
+    return removed;
+  }
+
+  /**
+   * Removes all elements whose field names are not in given field names.
+   * 
+   * @param names a {@link Collection} of field names to keep
+   * @return true if any element removed, false otherwise
+   */
+  default boolean retainAll(Collection<String> names) {
+    if (names == null) throw new NullPointerException();
+    List<String> removals = new ArrayList<>();
+    names().forEachRemaining(name -> {
+      if (!names.contains(name)) removals.add(name);
+    });
+    removals.forEach(this::remove);
+    return !removals.isEmpty();
+  }
+
 }
@@ -0,0 +1,101 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * 
+ * A read-only {@link java.util.Map} view of a {@link JsonObjectBase}. Nothing is copied when the
+ * view is created: member values are converted to Java objects only when they are accessed, and
+ * nested JSON objects and arrays become views as well. The view reflects any later change of the
+ * underlying JSON object.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class JsonObjectMapView extends AbstractMap<String, Object> {
+
+  private final JsonObjectBase<?> jsonObject;
+  private Set<Entry<String, Object>> entrySet;
+
+  JsonObjectMapView(JsonObjectBase<?> jsonObject) {
+    if (jsonObject == null) throw new NullPointerException();
+    this.jsonObject = jsonObject;
+  }
+
+  @Override
+  public int size() {
+    return jsonObject.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return jsonObject.isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String && jsonObject.contains((String) key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (!(key instanceof String)) return null;
+    JsonValueBase<?> value = jsonObject.get((String) key);
+    return value == null ? null : JsonValueUtils.toView(value);
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new AbstractSet<Entry<String, Object>>() {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+          Iterator<? extends Entry<String, ?>> members = jsonObject.iterator();
+          return new Iterator<Entry<String, Object>>() {
+
+            @Override
+            public boolean hasNext() {
+              return members.hasNext();
+            }
+
+            @Override
+            public Entry<String, Object> next() {
+              Entry<String, ?> member = members.next();
+              return new SimpleImmutableEntry<>(member.getKey(),
+                  JsonValueUtils.toView((JsonValueBase<?>) member.getValue()));
+            }
+
+          };
+        }
+
+        @Override
+        public int size() {
+          return jsonObject.size();
+        }
+
+      };
+    }
+    return entrySet;
+  }
+
+}
@@ -15,10 +15,22 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * 
  * {@link JsonPrinter} reprints any JSON input into minimal or pretty form. It only uses Java native
- * string processing to generate the output and no additional explicit JSON library is required.
+ * string processing to generate the output and no additional explicit JSON library is required.<br>
+ * <br>
+ * Besides the String based methods, every print method can also stream from a {@link Reader} or
+ * {@link CharSequence} into an {@link Appendable} (e.g. a {@link Writer}) or an UTF-8
+ * {@link OutputStream}, which keeps the memory usage constant regardless of the input size.
  * 
  * @author Wei-Ming Wu
  *
@@ -27,6 +39,28 @@ public final class JsonPrinter {
 
   private JsonPrinter() {}
 
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final String DEFAULT_INDENT = "  ";
+
+  /**
+   * Characters matched by the regular expression "\s", which are [ \t\n\x0B\f\r].
+   */
+  private static final boolean[] WHITESPACES = new boolean[128];
+
+  static {
+    WHITESPACES[' '] = true;
+    WHITESPACES['\t'] = true;
+    WHITESPACES['\n'] = true;
+    WHITESPACES[0x0B] = true;
+    WHITESPACES['\f'] = true;
+    WHITESPACES['\r'] = true;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c < WHITESPACES.length && WHITESPACES[c];
+  }
+
   /**
    * Returns a minimal print JSON of any JSON input.
    * 
@@ -34,36 +68,54 @@ public final class JsonPrinter {
    * @return a minimal print JSON
    */
   public static String minimalPrint(String json) {
-    if (json == null) new NullPointerException();
-    StringBuilder minimalPrintBuilder = new StringBuilder();
-
-    int lookback = -1;
-    int backslashCount = 0;
-    boolean inQuote = false;
-    for (char jsonChar : json.toCharArray()) {
-      switch (jsonChar) {
-        case '"':
-          if (lookback != '\\' || backslashCount % 2 == 0) {
-            inQuote = !inQuote;
-            minimalPrintBuilder.append(jsonChar);
-            break;
-          }
-        default:
-          if (inQuote || !Character.toString(jsonChar).matches("\\s")) {
-            minimalPrintBuilder.append(jsonChar);
-          }
-      }
-      if (jsonChar == '\\') {
-        backslashCount++;
-      } else {
-        backslashCount = 0;
-      }
-      lookback = jsonChar;
+    if (json == null) throw new NullPointerException();
+    StringBuilder minimalPrintBuilder = new StringBuilder(json.length());
+    try {
+      minimalPrint(json, minimalPrintBuilder);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
     }
-
     return minimalPrintBuilder.toString();
   }
 
+  /**
+   * Writes a minimal print JSON of any JSON input into given {@link Appendable}.
+   * 
+   * @param json any JSON
+   * @param out an {@link Appendable} to write the minimal print JSON
+   * @throws IOException if error occurs during writing
+   */
+  public static void minimalPrint(CharSequence json, Appendable out) throws IOException {
+    print(json, new Printer(out, null));
+  }
+
+  /**
+   * Reads any JSON input from given {@link Reader} and writes a minimal print JSON into given
+   * {@link Appendable}.
+   * 
+   * @param json a {@link Reader} of any JSON
+   * @param out an {@link Appendable} to write the minimal print JSON
+   * @throws IOException if error occurs during reading or writing
+   */
+  public static void minimalPrint(Reader json, Appendable out) throws IOException {
+    print(json, new Printer(out, null));
+  }
+
+  /**
+   * Reads any JSON input from given {@link Reader} and writes a minimal print JSON into given
+   * {@link OutputStream} in UTF-8.
+   * 
+   * @param json a {@link Reader} of any JSON
+   * @param out an {@link OutputStream} to write the minimal print JSON
+   * @throws IOException if error occurs during reading or writing
+   */
+  public static void minimalPrint(Reader json, OutputStream out) throws IOException {
+    if (out == null) throw new NullPointerException();
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    minimalPrint(json, writer);
+    writer.flush();
+  }
+
   /**
    * Returns a pretty print JSON of any JSON input.
    * 
@@ -71,7 +123,7 @@ public final class JsonPrinter {
    * @return a pretty print JSON
    */
   public static String prettyPrint(String json) {
-    return prettyPrint(json, "  ");
+    return prettyPrint(json, DEFAULT_INDENT);
   }
 
   /**
@@ -82,91 +134,261 @@ public final class JsonPrinter {
    * @return a pretty print JSON
    */
   public static String prettyPrint(String json, String indentStr) {
-    if (json == null) new NullPointerException();
-    StringBuilder prettyPrintBuilder = new StringBuilder();
-
-    int lookback = -1;
-    int backslashCount = 0;
-    int indentLevel = 0;
-    boolean inQuote = false;
-    boolean inBracket = false;
-    for (char jsonChar : json.toCharArray()) {
+    if (json == null) throw new NullPointerException();
+    StringBuilder prettyPrintBuilder = new StringBuilder(json.length() + (json.length() >> 1));
+    try {
+      prettyPrint(json, prettyPrintBuilder, indentStr);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return prettyPrintBuilder.toString();
+  }
+
+  /**
+   * Writes a pretty print JSON of any JSON input into given {@link Appendable}.
+   * 
+   * @param json any JSON
+   * @param out an {@link Appendable} to write the pretty print JSON
+   * @throws IOException if error occurs during writing
+   */
+  public static void prettyPrint(CharSequence json, Appendable out) throws IOException {
+    prettyPrint(json, out, DEFAULT_INDENT);
+  }
+
+  /**
+   * Writes a pretty print JSON of any JSON input into given {@link Appendable}.
+   * 
+   * @param json any JSON
+   * @param out an {@link Appendable} to write the pretty print JSON
+   * @param indentStr a string to use as an indent
+   * @throws IOException if error occurs during writing
+   */
+  public static void prettyPrint(CharSequence json, Appendable out, String indentStr)
+      throws IOException {
+    if (indentStr == null) throw new NullPointerException();
+    print(json, new Printer(out, indentStr));
+  }
+
+  /**
+   * Reads any JSON input from given {@link Reader} and writes a pretty print JSON into given
+   * {@link Appendable}.
+   * 
+   * @param json a {@link Reader} of any JSON
+   * @param out an {@link Appendable} to write the pretty print JSON
+   * @throws IOException if error occurs during reading or writing
+   */
+  public static void prettyPrint(Reader json, Appendable out) throws IOException {
+    prettyPrint(json, out, DEFAULT_INDENT);
+  }
+
+  /**
+   * Reads any JSON input from given {@link Reader} and writes a pretty print JSON into given
+   * {@link Appendable}.
+   * 
+   * @param json a {@link Reader} of any JSON
+   * @param out an {@link Appendable} to write the pretty print JSON
+   * @param indentStr a string to use as an indent
+   * @throws IOException if error occurs during reading or writing
+   */
+  public static void prettyPrint(Reader json, Appendable out, String indentStr)
+      throws IOException {
+    if (indentStr == null) throw new NullPointerException();
+    print(json, new Printer(out, indentStr));
+  }
+
+  /**
+   * Reads any JSON input from given {@link Reader} and writes a pretty print JSON into given
+   * {@link OutputStream} in UTF-8.
+   * 
+   * @param json a {@link Reader} of any JSON
+   * @param out an {@link OutputStream} to write the pretty print JSON
+   * @throws IOException if error occurs during reading or writing
+   */
+  public static void prettyPrint(Reader json, OutputStream out) throws IOException {
+    prettyPrint(json, out, DEFAULT_INDENT);
+  }
+
+  /**
+   * Reads any JSON input from given {@link Reader} and writes a pretty print JSON into given
+   * {@link OutputStream} in UTF-8.
+   * 
+   * @param json a {@link Reader} of any JSON
+   * @param out an {@link OutputStream} to write the pretty print JSON
+   * @param indentStr a string to use as an indent
+   * @throws IOException if error occurs during reading or writing
+   */
+  public static void prettyPrint(Reader json, OutputStream out, String indentStr)
+      throws IOException {
+    if (out == null) throw new NullPointerException();
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    prettyPrint(json, writer, indentStr);
+    writer.flush();
+  }
+
+  private static void print(CharSequence json, Printer printer) throws IOException {
+    if (json == null) throw new NullPointerException();
+    for (int i = 0, length = json.length(); i < length; i++) {
+      printer.print(json.charAt(i));
+    }
+    printer.flush();
+  }
+
+  private static void print(Reader json, Printer printer) throws IOException {
+    if (json == null) throw new NullPointerException();
+    char[] chunk = new char[BUFFER_SIZE];
+    int length;
+    while ((length = json.read(chunk)) != -1) {
+      for (int i = 0; i < length; i++) {
+        printer.print(chunk[i]);
+      }
+    }
+    printer.flush();
+  }
+
+  /**
+   * A single pass JSON reprinter which keeps its scanning state between characters, so the input
+   * can be fed in chunks. The output is buffered and flushed into the {@link Appendable} in blocks.
+   */
+  private static final class Printer {
+
+    private final Appendable out;
+    private final String indentStr;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int count = 0;
+
+    private int lookback = -1;
+    private int backslashCount = 0;
+    private int indentLevel = 0;
+    private boolean inQuote = false;
+    private boolean inBracket = false;
+
+    /**
+     * @param out an {@link Appendable}
+     * @param indentStr a string to use as an indent, null for minimal print
+     */
+    private Printer(Appendable out, String indentStr) {
+      if (out == null) throw new NullPointerException();
+      this.out = out;
+      this.indentStr = indentStr;
+    }
+
+    private void print(char jsonChar) throws IOException {
+      if (indentStr == null) {
+        printMinimal(jsonChar);
+      } else {
+        printPretty(jsonChar);
+      }
+      if (jsonChar == '\\') {
+        backslashCount++;
+      } else {
+        backslashCount = 0;
+      }
+      lookback = jsonChar;
+    }
+
+    private void printMinimal(char jsonChar) throws IOException {
       switch (jsonChar) {
         case '"':
           if (lookback != '\\' || backslashCount % 2 == 0) {
             inQuote = !inQuote;
-            prettyPrintBuilder.append(jsonChar);
+            append(jsonChar);
+            break;
+          }
+        default:
+          if (inQuote || !isWhitespace(jsonChar)) {
+            append(jsonChar);
+          }
+      }
+    }
+
+    private void printPretty(char jsonChar) throws IOException {
+      switch (jsonChar) {
+        case '"':
+          if (lookback != '\\' || backslashCount % 2 == 0) {
+            inQuote = !inQuote;
+            append(jsonChar);
             break;
           }
         case '{':
-          prettyPrintBuilder.append(jsonChar);
+          append(jsonChar);
           if (!inQuote) {
             indentLevel++;
-            appendNewLine(prettyPrintBuilder, indentLevel, indentStr);
+            appendNewLine();
           }
           break;
         case '}':
           if (!inQuote) {
             indentLevel--;
-            appendNewLine(prettyPrintBuilder, indentLevel, indentStr);
+            appendNewLine();
           }
-          prettyPrintBuilder.append(jsonChar);
+          append(jsonChar);
           break;
         case '[':
-          prettyPrintBuilder.append(jsonChar);
+          append(jsonChar);
           if (!inQuote) {
             inBracket = true;
-            prettyPrintBuilder.append(' ');
+            append(' ');
           }
           break;
         case ']':
           if (!inQuote) {
             inBracket = false;
-            prettyPrintBuilder.append(' ');
+            append(' ');
           }
-          prettyPrintBuilder.append(jsonChar);
+          append(jsonChar);
           break;
         case ',':
-          prettyPrintBuilder.append(jsonChar);
+          append(jsonChar);
           if (!inQuote) {
             if (inBracket) {
-              prettyPrintBuilder.append(' ');
+              append(' ');
             } else {
-              appendNewLine(prettyPrintBuilder, indentLevel, indentStr);
+              appendNewLine();
             }
           }
           break;
         case ':':
           if (inQuote) {
-            prettyPrintBuilder.append(jsonChar);
+            append(jsonChar);
           } else {
-            prettyPrintBuilder.append(' ');
-            prettyPrintBuilder.append(jsonChar);
-            prettyPrintBuilder.append(' ');
+            append(' ');
+            append(jsonChar);
+            append(' ');
           }
           break;
         default:
-          if (inQuote || !Character.toString(jsonChar).matches("\\s")) {
-            prettyPrintBuilder.append(jsonChar);
+          if (inQuote || !isWhitespace(jsonChar)) {
+            append(jsonChar);
           }
       }
-      if (jsonChar == '\\') {
-        backslashCount++;
-      } else {
-        backslashCount = 0;
+    }
+
+    private void appendNewLine() throws IOException {
+      append('\n');
+      for (int i = 0; i < indentLevel; i++) {
+        for (int j = 0; j < indentStr.length(); j++) {
+          append(indentStr.charAt(j));
+        }
       }
-      lookback = jsonChar;
     }
 
-    return prettyPrintBuilder.toString();
-  }
+    private void append(char c) throws IOException {
+      if (count == buffer.length) flush();
+      buffer[count++] = c;
+    }
 
-  private static void appendNewLine(StringBuilder stringBuilder, int indentLevel,
-      String indentStr) {
-    stringBuilder.append('\n');
-    for (int i = 0; i < indentLevel; i++) {
-      stringBuilder.append(indentStr);
+    private void flush() throws IOException {
+      if (count == 0) return;
+      if (out instanceof StringBuilder sb) {
+        sb.append(buffer, 0, count);
+      } else if (out instanceof Writer writer) {
+        writer.write(buffer, 0, count);
+      } else {
+        out.append(CharBuffer.wrap(buffer, 0, count));
+      }
+      count = 0;
     }
+
   }
 
   /**
@@ -181,41 +403,63 @@ public final class JsonPrinter {
       return "\"\"";
     }
 
-    StringBuilder sb = new StringBuilder();
+    StringBuilder sb = new StringBuilder(javaString.length() + 2);
+    try {
+      toJsonString(javaString, sb);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Writes the JSON string representation, which is quoted and escaped properly, of any Java
+   * {@link CharSequence} into given {@link Appendable}.
+   * 
+   * @param javaString any Java {@link CharSequence}
+   * @param out an {@link Appendable} to write the JSON string
+   * @throws IOException if error occurs during writing
+   */
+  public static void toJsonString(CharSequence javaString, Appendable out) throws IOException {
+    if (out == null) throw new NullPointerException();
 
-    sb.append('"');
-    for (int i = 0; i < javaString.length(); i++) {
+    out.append('"');
+    int length = javaString == null ? 0 : javaString.length();
+    int start = 0;
+    for (int i = 0; i < length; i++) {
       char c = javaString.charAt(i);
+      String escaped;
       switch (c) {
         case '"':
-          sb.append('\\');
-          sb.append(c);
+          escaped = "\\\"";
           break;
         case '\\':
-          sb.append("\\\\");
+          escaped = "\\\\";
           break;
         case '\b':
-          sb.append("\\b");
+          escaped = "\\b";
           break;
         case '\n':
-          sb.append("\\n");
+          escaped = "\\n";
           break;
         case '\t':
-          sb.append("\\t");
+          escaped = "\\t";
           break;
         case '\f':
-          sb.append("\\f");
+          escaped = "\\f";
           break;
         case '\r':
-          sb.append("\\r");
+          escaped = "\\r";
           break;
         default:
-          sb.append(c);
+          continue;
       }
+      out.append(javaString, start, i);
+      out.append(escaped);
+      start = i + 1;
     }
-    sb.append('"');
-
-    return sb.toString();
+    out.append(javaString == null ? "" : javaString, start, length);
+    out.append('"');
   }
 
 }
@@ -0,0 +1,217 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * 
+ * {@link JsonProjection} selects the parts of a JSON document which should be kept by
+ * {@link JsonCore#parse(String, JsonProjection)}. It is a tree of member names built from a set of
+ * JSON Pointers (RFC 6901): a JSON value matched by a pointer is kept with all its descendants, the
+ * JSON objects and arrays on the way to it are kept with only the projected members and elements,
+ * and everything else is skipped.<br>
+ * <br>
+ * A reference token of a pointer matches a member name of a JSON object, and if it is a
+ * non-negative integer, the element at that index of a JSON array as well. Projected elements
+ * keep their order in the array but not their indexes. A JSON value on a projected path is always
+ * kept, even if it's a scalar or none of its members or elements is projected, so the root is
+ * never dropped.<br>
+ * <br>
+ * A {@link JsonProjection} is immutable and can be shared between threads.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class JsonProjection {
+
+  // Null if the whole subtree is projected
+  private final Map<String, JsonProjection> children;
+  // Whether any member name can be an element index as well
+  private final boolean indexed;
+
+  private JsonProjection(Map<String, JsonProjection> children) {
+    this.children = children;
+    indexed = children != null && children.keySet().stream().anyMatch(JsonProjection::isIndex);
+  }
+
+  private static boolean isIndex(String token) {
+    if (token.isEmpty() || token.length() > 9) return false;
+    if (token.length() > 1 && token.charAt(0) == '0') return false;
+    return token.chars().allMatch(c -> c >= '0' && c <= '9');
+  }
+
+  /**
+   * Creates a {@link JsonProjection} by given JSON Pointers.
+   * 
+   * @param jsonPointers any JSON Pointers, e.g. "/user/name" or "/items/0"
+   * @return a {@link JsonProjection}
+   * @throws IllegalArgumentException if any given JSON Pointer is invalid
+   */
+  public static JsonProjection of(String... jsonPointers) {
+    if (jsonPointers == null) throw new NullPointerException();
+    return of(Arrays.asList(jsonPointers));
+  }
+
+  /**
+   * Creates a {@link JsonProjection} by given JSON Pointers.
+   * 
+   * @param jsonPointers a {@link Collection} of JSON Pointers, e.g. "/user/name" or "/items/0"
+   * @return a {@link JsonProjection}
+   * @throws IllegalArgumentException if any given JSON Pointer is invalid
+   */
+  public static JsonProjection of(Collection<String> jsonPointers) {
+    if (jsonPointers == null) throw new NullPointerException();
+    Node root = new Node();
+    for (String jsonPointer : jsonPointers) {
+      Node node = root;
+      for (String token : referenceTokens(jsonPointer)) {
+        if (node.all) break;
+        node = node.children.computeIfAbsent(token, k -> new Node());
+      }
+      node.all = true;
+      node.children.clear();
+    }
+    return root.toProjection();
+  }
+
+  private static List<String> referenceTokens(String jsonPointer) {
+    if (jsonPointer == null) throw new NullPointerException();
+    List<String> tokens = new ArrayList<>();
+    if (jsonPointer.isEmpty()) return tokens;
+    if (jsonPointer.charAt(0) != '/') {
+      throw new IllegalArgumentException("JSON Pointer must start with '/': " + jsonPointer);
+    }
+
+    StringBuilder token = new StringBuilder();
+    for (int i = 1; i <= jsonPointer.length(); i++) {
+      char c = i < jsonPointer.length() ? jsonPointer.charAt(i) : '/';
+      if (c == '/') {
+        tokens.add(token.toString());
+        token.setLength(0);
+      } else if (c == '~') {
+        char escaped = ++i < jsonPointer.length() ? jsonPointer.charAt(i) : 0;
+        if (escaped == '0') {
+          token.append('~');
+        } else if (escaped == '1') {
+          token.append('/');
+        } else {
+          throw new IllegalArgumentException("Invalid escape in JSON Pointer: " + jsonPointer);
+        }
+      } else {
+        token.append(c);
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * Checks if the whole JSON value is projected.
+   * 
+   * @return true if all members and elements are kept, false otherwise
+   */
+  boolean isAll() {
+    return children == null;
+  }
+
+  /**
+   * Returns the projection of a member of a JSON object.
+   * 
+   * @param name a member name
+   * @return a {@link JsonProjection}, or null if the member is not projected
+   */
+  JsonProjection child(String name) {
+    return children == null ? this : children.get(name);
+  }
+
+  /**
+   * Returns the projection of an element of a JSON array.
+   * 
+   * @param index an element index
+   * @return a {@link JsonProjection}, or null if the element is not projected
+   */
+  JsonProjection child(int index) {
+    if (children == null) return this;
+    return indexed ? children.get(Integer.toString(index)) : null;
+  }
+
+  /**
+   * Removes all members and elements which are not projected from given {@link JsonValueCore}, so
+   * any {@link JsonCore} can support projections by parsing the whole JSON first.
+   * 
+   * @param jsonValue a mutable {@link JsonValueCore}
+   */
+  void retain(JsonValueCore<?> jsonValue) {
+    if (children == null) return;
+
+    if (jsonValue.isObject()) {
+      JsonObjectCore<?> object = jsonValue.asObject();
+      object.retainAll(children.keySet());
+      for (Entry<String, JsonProjection> child : children.entrySet()) {
+        JsonValueCore<?> member = object.get(child.getKey());
+        if (member != null) child.getValue().retain(member);
+      }
+    } else if (jsonValue.isArray()) {
+      JsonArrayCore<?> array = jsonValue.asArray();
+      for (int i = array.size() - 1; i >= 0; i--) {
+        JsonProjection child = child(i);
+        if (child == null) {
+          array.remove(i);
+        } else {
+          child.retain(array.get(i));
+        }
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    List<String> jsonPointers = new ArrayList<>();
+    collect("", jsonPointers);
+    return jsonPointers.toString();
+  }
+
+  private void collect(String prefix, List<String> jsonPointers) {
+    if (children == null) {
+      jsonPointers.add(prefix);
+      return;
+    }
+    children.forEach((name, child) -> child
+        .collect(prefix + "/" + name.replace("~", "~0").replace("/", "~1"), jsonPointers));
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> children = new LinkedHashMap<>();
+    private boolean all;
+
+    JsonProjection toProjection() {
+      if (all) return new JsonProjection(null);
+      Map<String, JsonProjection> projections = new LinkedHashMap<>();
+      children.forEach((name, child) -> projections.put(name, child.toProjection()));
+      return new JsonProjection(Collections.unmodifiableMap(projections));
+    }
+
+  }
+
+}
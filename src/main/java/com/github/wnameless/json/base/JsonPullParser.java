@@ -0,0 +1,200 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 
+ * {@link JsonPullParser} reads a JSON document token by token on top of the streaming parser of a
+ * JSON implementation, so a document can be processed without building it into a JSON tree, and
+ * the values which are not needed can be skipped without being built at all.<br>
+ * <br>
+ * The typed getters always read the current token. A parser is not thread-safe, and closing it
+ * closes the underlying source as well.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public interface JsonPullParser extends Closeable {
+
+  /**
+   * The types of JSON tokens.
+   */
+  enum Token {
+    START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, FIELD_NAME, STRING, NUMBER, TRUE, FALSE,
+    NULL;
+
+    /**
+     * Checks if this token starts a JSON object or array.
+     * 
+     * @return true if this is {@link #START_OBJECT} or {@link #START_ARRAY}, false otherwise
+     */
+    public boolean isStart() {
+      return this == START_OBJECT || this == START_ARRAY;
+    }
+
+    /**
+     * Checks if this token ends a JSON object or array.
+     * 
+     * @return true if this is {@link #END_OBJECT} or {@link #END_ARRAY}, false otherwise
+     */
+    public boolean isEnd() {
+      return this == END_OBJECT || this == END_ARRAY;
+    }
+
+    /**
+     * Checks if this token is a JSON scalar.
+     * 
+     * @return true if this is a string, number, boolean or null, false otherwise
+     */
+    public boolean isScalar() {
+      return ordinal() > FIELD_NAME.ordinal();
+    }
+
+  }
+
+  /**
+   * Moves this parser to the next token.
+   * 
+   * @return the next {@link Token}, or null if the JSON document is fully read
+   * @throws IOException if error occurs during reading
+   */
+  Token next() throws IOException;
+
+  /**
+   * Returns the current token.
+   * 
+   * @return a {@link Token}, or null if no token is read yet or the JSON document is fully read
+   */
+  Token currentToken();
+
+  /**
+   * Returns the text of the current token, which is the member name of a
+   * {@link Token#FIELD_NAME}, the value of a {@link Token#STRING} and the JSON text of any other
+   * scalar.
+   * 
+   * @return a {@link String}
+   * @throws IllegalStateException if the current token is neither a member name nor a scalar
+   */
+  String text();
+
+  /**
+   * Returns the member name of the current {@link Token#FIELD_NAME}.
+   * 
+   * @return a member name
+   * @throws IllegalStateException if the current token is not a member name
+   */
+  default String fieldName() {
+    if (currentToken() != Token.FIELD_NAME) throw new IllegalStateException();
+    return text();
+  }
+
+  /**
+   * Returns the value of the current {@link Token#STRING}.
+   * 
+   * @return a {@link String}
+   * @throws IllegalStateException if the current token is not a string
+   */
+  default String asString() {
+    if (currentToken() != Token.STRING) throw new IllegalStateException();
+    return text();
+  }
+
+  /**
+   * Returns the value of the current {@link Token#TRUE} or {@link Token#FALSE}.
+   * 
+   * @return a boolean
+   * @throws IllegalStateException if the current token is not a boolean
+   */
+  default boolean asBoolean() {
+    Token token = currentToken();
+    if (token != Token.TRUE && token != Token.FALSE) throw new IllegalStateException();
+    return token == Token.TRUE;
+  }
+
+  /**
+   * Returns the value of the current {@link Token#NUMBER} as an int.
+   * 
+   * @return an int
+   * @throws IllegalStateException if the current token is not a number
+   */
+  default int asInt() {
+    return asNumber().intValue();
+  }
+
+  /**
+   * Returns the value of the current {@link Token#NUMBER} as a long.
+   * 
+   * @return a long
+   * @throws IllegalStateException if the current token is not a number
+   */
+  default long asLong() {
+    return asNumber().longValue();
+  }
+
+  /**
+   * Returns the value of the current {@link Token#NUMBER} as a {@link BigInteger}.
+   * 
+   * @return a {@link BigInteger}
+   * @throws IllegalStateException if the current token is not a number
+   */
+  default BigInteger asBigInteger() {
+    return asBigDecimal().toBigInteger();
+  }
+
+  /**
+   * Returns the value of the current {@link Token#NUMBER} as a double.
+   * 
+   * @return a double
+   * @throws IllegalStateException if the current token is not a number
+   */
+  default double asDouble() {
+    return asNumber().doubleValue();
+  }
+
+  /**
+   * Returns the value of the current {@link Token#NUMBER} as a {@link BigDecimal}.
+   * 
+   * @return a {@link BigDecimal}
+   * @throws IllegalStateException if the current token is not a number
+   */
+  default BigDecimal asBigDecimal() {
+    if (currentToken() != Token.NUMBER) throw new IllegalStateException();
+    return new BigDecimal(text());
+  }
+
+  /**
+   * Returns the value of the current {@link Token#NUMBER} as {@link JsonValueBase#asNumber()} of
+   * the same JSON implementation does.
+   * 
+   * @return a {@link Number}
+   * @throws IllegalStateException if the current token is not a number
+   */
+  Number asNumber();
+
+  /**
+   * Skips all the children of the current {@link Token#START_OBJECT} or {@link Token#START_ARRAY},
+   * and moves this parser to the matching end token. It does nothing on any other token.
+   * 
+   * @throws IOException if error occurs during reading
+   */
+  void skipChildren() throws IOException;
+
+}
@@ -0,0 +1,874 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 
+ * {@link JsonTape} is a parsed JSON document of the tape implementation. Instead of a tree of
+ * nodes, the document is kept as its UTF-8 bytes plus a flat tape of longs, which holds one entry
+ * per JSON value or member name in document order. Strings and numbers stay undecoded in the bytes
+ * until they are read.
+ * <p>
+ * The highest 8 bits of an entry are its type. An entry of a JSON object or array holds the
+ * number of its members in the next 24 bits and the tape index after its last descendant in the
+ * lowest 32 bits, so the whole container can be skipped in one step. A member of a JSON object is
+ * a string entry of its name followed by the entries of its value. An entry of a string or number
+ * holds the byte length of its raw text in the next 24 bits and the offset of the text in the
+ * lowest 32 bits. Counts and lengths which don't fit in 24 bits are recomputed when needed.
+ * <p>
+ * A lazily parsed tape only indexes its outermost container. A nested JSON object or array is a
+ * deferred entry which holds its byte range like a string, and it is parsed into a tape of its own
+ * on first access, which is then cached.
+ * <p>
+ * The bytes and the tape are either Java arrays or a region of a {@link TapeJsonArena} chunk,
+ * where the tape is followed by the bytes. A {@link JsonTape} is immutable and can be shared
+ * between threads.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class JsonTape {
+
+  static final int NULL = 0;
+  static final int FALSE = 1;
+  static final int TRUE = 2;
+  static final int INTEGER = 3;
+  static final int DECIMAL = 4;
+  static final int STRING = 5;
+  static final int ESCAPED_STRING = 6;
+  static final int OBJECT = 7;
+  static final int ARRAY = 8;
+  private static final int DEFERRED_OBJECT = 9;
+  private static final int DEFERRED_ARRAY = 10;
+
+  private static final int MAX_FIELD = 0xFFFFFF;
+  private static final int MAX_LONG_DIGITS = 18;
+  private static final byte[][] LITERALS = {"null".getBytes(StandardCharsets.US_ASCII),
+      "false".getBytes(StandardCharsets.US_ASCII), "true".getBytes(StandardCharsets.US_ASCII)};
+
+  // On-heap storage, which is null if the tape lives in an arena
+  private final byte[] json;
+  private final long[] tape;
+  // Off-heap storage
+  private final TapeJsonArena arena;
+  private final int chunk;
+  private final int tapeOffset;
+  private final int jsonOffset;
+  private final int jsonLength;
+  // The structural index and the expanded containers of a lazily parsed tape
+  private final Brackets brackets;
+  private volatile Map<Integer, JsonTape> expanded;
+
+  private JsonTape(byte[] json, long[] tape, Brackets brackets) {
+    this.json = json;
+    this.tape = tape;
+    this.brackets = brackets;
+    arena = null;
+    chunk = 0;
+    tapeOffset = 0;
+    jsonOffset = 0;
+    jsonLength = json.length;
+  }
+
+  private JsonTape(TapeJsonArena arena, long address, int tapeLength, int jsonLength) {
+    json = null;
+    tape = null;
+    brackets = null;
+    this.arena = arena;
+    chunk = (int) (address >>> 32);
+    tapeOffset = (int) address;
+    jsonOffset = tapeOffset + (tapeLength << 3);
+    this.jsonLength = jsonLength;
+  }
+
+  /**
+   * Parses given UTF-8 JSON bytes into a {@link JsonTape}. The bytes are kept by the tape, so they
+   * shouldn't be modified afterwards.
+   * 
+   * @param json any UTF-8 JSON bytes
+   * @return a {@link JsonTape}
+   * @throws IllegalArgumentException if given bytes are not a valid JSON
+   */
+  static JsonTape parse(byte[] json) {
+    return parse(json, false);
+  }
+
+  /**
+   * Parses given UTF-8 JSON bytes into a {@link JsonTape}, see {@link #parse(byte[])}. A lazy
+   * parse only matches the brackets of the whole JSON and validates the outermost container, and
+   * the nested containers are validated when they are expanded.
+   * 
+   * @param json any UTF-8 JSON bytes
+   * @param lazy true if nested containers should be deferred
+   * @return a {@link JsonTape}
+   * @throws IllegalArgumentException if given bytes are not a valid JSON
+   */
+  static JsonTape parse(byte[] json, boolean lazy) {
+    if (json == null) throw new NullPointerException();
+    Brackets brackets = lazy ? Brackets.scan(json, 0, json.length) : null;
+    return new Parser(json, 0, json.length, brackets).parse();
+  }
+
+  /**
+   * Parses given UTF-8 JSON bytes into a {@link JsonTape} which lives in given
+   * {@link TapeJsonArena}.
+   * 
+   * @param json any UTF-8 JSON bytes
+   * @param arena a {@link TapeJsonArena}
+   * @return a {@link JsonTape}
+   * @throws IllegalArgumentException if given bytes are not a valid JSON
+   * @throws IllegalStateException if given arena is closed
+   */
+  static JsonTape parse(byte[] json, TapeJsonArena arena) {
+    if (arena == null) throw new NullPointerException();
+    JsonTape heapTape = parse(json);
+    long[] tape = heapTape.tape;
+    long size = ((long) tape.length << 3) + json.length;
+    if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("JSON is too large");
+
+    long address = arena.allocate((int) size);
+    JsonTape offHeapTape = new JsonTape(arena, address, tape.length, json.length);
+    ByteBuffer buffer = arena.chunk(offHeapTape.chunk);
+    buffer.duplicate().order(buffer.order()).position(offHeapTape.tapeOffset).asLongBuffer()
+        .put(tape);
+    buffer.put(offHeapTape.jsonOffset, json);
+    return offHeapTape;
+  }
+
+  private long entry(int index) {
+    if (tape != null) return tape[index];
+    return arena.chunk(chunk).getLong(tapeOffset + (index << 3));
+  }
+
+  private byte byteAt(int i) {
+    if (json != null) return json[i];
+    return arena.chunk(chunk).get(jsonOffset + i);
+  }
+
+  private String decode(int offset, int length, Charset charset) {
+    if (json != null) return new String(json, offset, length, charset);
+    byte[] bytes = new byte[length];
+    arena.chunk(chunk).get(jsonOffset + offset, bytes);
+    return new String(bytes, charset);
+  }
+
+  /**
+   * Returns the type of given value, where a deferred container has the type of a JSON object or
+   * array as well.
+   * 
+   * @param index the tape index of a value
+   * @return a type
+   */
+  int type(int index) {
+    int type = (int) (entry(index) >>> 56);
+    return type >= DEFERRED_OBJECT ? type - DEFERRED_OBJECT + OBJECT : type;
+  }
+
+  boolean isDeferred(int index) {
+    return (int) (entry(index) >>> 56) >= DEFERRED_OBJECT;
+  }
+
+  /**
+   * Returns the tape of given deferred container, whose root is at tape index 0. The container is
+   * parsed on the first call and the tape is cached afterwards.
+   * 
+   * @param index the tape index of a deferred container
+   * @return a {@link JsonTape}
+   * @throws IllegalArgumentException if the container is not a valid JSON
+   */
+  JsonTape expand(int index) {
+    Map<Integer, JsonTape> expanded = this.expanded;
+    if (expanded == null) {
+      synchronized (this) {
+        expanded = this.expanded;
+        if (expanded == null) this.expanded = expanded = new ConcurrentHashMap<>();
+      }
+    }
+    return expanded.computeIfAbsent(index, i -> {
+      int offset = offset(i);
+      return new Parser(json, offset, offset + length(i), brackets).parse();
+    });
+  }
+
+  boolean isString(int index) {
+    int type = type(index);
+    return type == STRING || type == ESCAPED_STRING;
+  }
+
+  boolean isBoolean(int index) {
+    int type = type(index);
+    return type == TRUE || type == FALSE;
+  }
+
+  boolean isNumber(int index) {
+    int type = type(index);
+    return type == INTEGER || type == DECIMAL;
+  }
+
+  boolean isContainer(int index) {
+    return type(index) >= OBJECT;
+  }
+
+  /**
+   * Returns the tape index after given value and all its descendants, which is the index of its
+   * next sibling if there is one.
+   * 
+   * @param index the tape index of a value
+   * @return a tape index
+   */
+  int next(int index) {
+    long entry = entry(index);
+    int type = (int) (entry >>> 56);
+    return type == OBJECT || type == ARRAY ? (int) entry : index + 1;
+  }
+
+  /**
+   * Returns the number of members of given JSON object or elements of given JSON array.
+   * 
+   * @param index the tape index of a JSON object or array
+   * @return the size of the container
+   */
+  int size(int index) {
+    if (isDeferred(index)) return expand(index).size(0);
+    int size = field(index);
+    if (size < MAX_FIELD) return size;
+
+    size = 0;
+    boolean object = type(index) == OBJECT;
+    for (int i = index + 1, end = next(index); i < end; i = next(object ? i + 1 : i)) {
+      size++;
+    }
+    return size;
+  }
+
+  String string(int index) {
+    if (!isString(index)) throw new UnsupportedOperationException();
+    int offset = offset(index);
+    int length = length(index);
+    if (type(index) == STRING) return decode(offset, length, StandardCharsets.UTF_8);
+    return unescape(offset, length);
+  }
+
+  /**
+   * Checks if given string entry equals to given {@link String} without decoding the entry when
+   * possible.
+   * 
+   * @param index the tape index of a string
+   * @param str a {@link String}
+   * @return true if they are equal, false otherwise
+   */
+  boolean stringEquals(int index, String str) {
+    if (type(index) != STRING) return string(index).equals(str);
+    int offset = offset(index);
+    int length = length(index);
+    int strLength = str.length();
+    if (length < strLength) return false;
+    for (int i = 0; i < strLength; i++) {
+      char c = str.charAt(i);
+      if (c >= 0x80) return string(index).equals(str);
+      if (i >= length || byteAt(offset + i) != c) return false;
+    }
+    return length == strLength;
+  }
+
+  boolean booleanValue(int index) {
+    int type = type(index);
+    if (type == TRUE) return true;
+    if (type == FALSE) return false;
+    throw new UnsupportedOperationException();
+  }
+
+  long longValue(int index) {
+    if (!isNumber(index)) throw new UnsupportedOperationException();
+    int length = length(index);
+    if (type(index) == DECIMAL || length > MAX_LONG_DIGITS) {
+      return bigDecimalValue(index).longValue();
+    }
+
+    int offset = offset(index);
+    int end = offset + length;
+    boolean negative = byteAt(offset) == '-';
+    long value = 0;
+    for (int i = negative ? offset + 1 : offset; i < end; i++) {
+      value = value * 10 + (byteAt(i) - '0');
+    }
+    return negative ? -value : value;
+  }
+
+  double doubleValue(int index) {
+    return Double.parseDouble(numberText(index));
+  }
+
+  BigInteger bigIntegerValue(int index) {
+    if (type(index) == INTEGER) return new BigInteger(numberText(index));
+    return bigDecimalValue(index).toBigInteger();
+  }
+
+  BigDecimal bigDecimalValue(int index) {
+    return new BigDecimal(numberText(index));
+  }
+
+  Number numberValue(int index) {
+    if (type(index) == INTEGER && length(index) <= MAX_LONG_DIGITS) {
+      return JsonValueUtils.toJavaNumber(longValue(index));
+    }
+    return JsonValueUtils.toJavaNumber(numberText(index));
+  }
+
+  /**
+   * Returns given value as a JSON string. Strings and numbers are written as they appear in the
+   * parsed text, while all insignificant whitespace is dropped.
+   * 
+   * @param index the tape index of a value
+   * @return a JSON string
+   */
+  String toJson(int index) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    write(index, out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes given value as a JSON string in UTF-8, see {@link #toJson(int)}.
+   * 
+   * @param index the tape index of a value
+   * @param out an {@link OutputStream}
+   * @throws IOException if error occurs during writing
+   */
+  void toJson(int index, OutputStream out) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    write(index, bytes);
+    bytes.writeTo(out);
+  }
+
+  private void write(int index, ByteArrayOutputStream out) {
+    // The tape, the end and the kind of each open container, and the tape index to resume at in
+    // the enclosing tape after the container is closed
+    JsonTape[] tapes = new JsonTape[16];
+    int[] ends = new int[16];
+    int[] resumes = new int[16];
+    boolean[] objects = new boolean[16];
+    int depth = -1;
+    JsonTape tape = this;
+    boolean first = true;
+    int i = index;
+    while (true) {
+      while (depth >= 0 && ends[depth] == i) {
+        out.write(objects[depth] ? '}' : ']');
+        i = resumes[depth--];
+        if (depth < 0) return;
+        tape = tapes[depth];
+        first = false;
+      }
+
+      if (depth >= 0) {
+        if (!first) out.write(',');
+        if (objects[depth]) {
+          tape.writeRaw(i++, out);
+          out.write(':');
+        }
+      }
+      first = false;
+      switch (tape.type(i)) {
+        case OBJECT:
+        case ARRAY:
+          JsonTape container = tape.isDeferred(i) ? tape.expand(i) : tape;
+          int start = container == tape ? i : 0;
+          if (++depth == ends.length) {
+            tapes = Arrays.copyOf(tapes, depth << 1);
+            ends = Arrays.copyOf(ends, depth << 1);
+            resumes = Arrays.copyOf(resumes, depth << 1);
+            objects = Arrays.copyOf(objects, depth << 1);
+          }
+          tapes[depth] = container;
+          ends[depth] = container.next(start);
+          resumes[depth] = tape.next(i);
+          objects[depth] = container.type(start) == OBJECT;
+          out.write(objects[depth] ? '{' : '[');
+          first = true;
+          tape = container;
+          i = start + 1;
+          continue;
+        case NULL:
+          out.write(LITERALS[NULL], 0, 4);
+          break;
+        case FALSE:
+          out.write(LITERALS[FALSE], 0, 5);
+          break;
+        case TRUE:
+          out.write(LITERALS[TRUE], 0, 4);
+          break;
+        default:
+          tape.writeRaw(i, out);
+      }
+      if (depth < 0) return;
+      i++;
+    }
+  }
+
+  /**
+   * Returns given value as UTF-8 JSON bytes which only hold the JSON values selected by given
+   * {@link JsonProjection}. Deferred containers off the projected paths are never expanded.
+   * 
+   * @param index the tape index of a value
+   * @param projection a {@link JsonProjection}
+   * @return UTF-8 JSON bytes
+   */
+  byte[] project(int index, JsonProjection projection) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    write(index, projection, out);
+    return out.toByteArray();
+  }
+
+  // Only recurses as deep as the projection
+  private void write(int index, JsonProjection projection, ByteArrayOutputStream out) {
+    if (projection.isAll() || !isContainer(index)) {
+      write(index, out);
+      return;
+    }
+    if (isDeferred(index)) {
+      expand(index).write(0, projection, out);
+      return;
+    }
+
+    boolean object = type(index) == OBJECT;
+    out.write(object ? '{' : '[');
+    boolean first = true;
+    for (int i = index + 1, end = next(index), position = 0; i < end; position++) {
+      int value = object ? i + 1 : i;
+      JsonProjection child = object ? projection.child(string(i)) : projection.child(position);
+      if (child != null) {
+        if (!first) out.write(',');
+        first = false;
+        if (object) {
+          writeRaw(i, out);
+          out.write(':');
+        }
+        write(value, child, out);
+      }
+      i = next(value);
+    }
+    out.write(object ? '}' : ']');
+  }
+
+  private void writeRaw(int index, ByteArrayOutputStream out) {
+    boolean string = isString(index);
+    if (string) out.write('"');
+    int offset = offset(index);
+    int length = length(index);
+    if (json != null) {
+      out.write(json, offset, length);
+    } else {
+      byte[] bytes = new byte[length];
+      arena.chunk(chunk).get(jsonOffset + offset, bytes);
+      out.write(bytes, 0, length);
+    }
+    if (string) out.write('"');
+  }
+
+  boolean equals(int index, JsonTape other, int otherIndex) {
+    if (this == other && index == otherIndex) return true;
+    return Objects.equals(JsonValueUtils.toObject(new TapeJsonCursor(this, index)),
+        JsonValueUtils.toObject(new TapeJsonCursor(other, otherIndex)));
+  }
+
+  int hashCode(int index) {
+    return Objects.hashCode(JsonValueUtils.toObject(new TapeJsonCursor(this, index)));
+  }
+
+  private int field(int index) {
+    return (int) (entry(index) >>> 32) & MAX_FIELD;
+  }
+
+  private int offset(int index) {
+    return (int) entry(index);
+  }
+
+  private int length(int index) {
+    int length = field(index);
+    if (length < MAX_FIELD) return length;
+
+    int offset = offset(index);
+    if (isDeferred(index)) return brackets.close(offset) - offset;
+    int i = offset;
+    if (isString(index)) {
+      while (byteAt(i) != '"') {
+        i += byteAt(i) == '\\' ? 2 : 1;
+      }
+    } else {
+      while (i < jsonLength && isNumberByte(byteAt(i))) {
+        i++;
+      }
+    }
+    return i - offset;
+  }
+
+  private static boolean isNumberByte(byte b) {
+    return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+  }
+
+  String numberText(int index) {
+    if (!isNumber(index)) throw new UnsupportedOperationException();
+    return decode(offset(index), length(index), StandardCharsets.ISO_8859_1);
+  }
+
+  private String unescape(int offset, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    int end = offset + length;
+    int start = offset;
+    for (int i = offset; i < end; i++) {
+      if (byteAt(i) != '\\') continue;
+
+      sb.append(decode(start, i - start, StandardCharsets.UTF_8));
+      char c = (char) byteAt(++i);
+      switch (c) {
+        case 'b':
+          sb.append('\b');
+          break;
+        case 'f':
+          sb.append('\f');
+          break;
+        case 'n':
+          sb.append('\n');
+          break;
+        case 'r':
+          sb.append('\r');
+          break;
+        case 't':
+          sb.append('\t');
+          break;
+        case 'u':
+          sb.append((char) ((hex(byteAt(i + 1)) << 12) | (hex(byteAt(i + 2)) << 8)
+              | (hex(byteAt(i + 3)) << 4) | hex(byteAt(i + 4))));
+          i += 4;
+          break;
+        default:
+          sb.append(c);
+      }
+      start = i + 1;
+    }
+    sb.append(decode(start, end - start, StandardCharsets.UTF_8));
+    return sb.toString();
+  }
+
+  private static int hex(byte b) {
+    if (b >= '0' && b <= '9') return b - '0';
+    if (b >= 'a' && b <= 'f') return b - 'a' + 10;
+    if (b >= 'A' && b <= 'F') return b - 'A' + 10;
+    return -1;
+  }
+
+  private static long entry(int type, int field, int value) {
+    return ((long) type << 56) | ((long) Math.min(field, MAX_FIELD) << 32)
+        | (value & 0xFFFFFFFFL);
+  }
+
+  /**
+   * The structural index of a lazily parsed document, which maps the byte offset of the opening
+   * bracket of every JSON object and array to the byte offset after its closing bracket. It is
+   * built by a single scan which only tracks strings and brackets, so nested containers can be
+   * skipped in one step without being parsed.
+   */
+  private static final class Brackets {
+
+    private int[] opens;
+    private int[] closes;
+    private int size;
+
+    static Brackets scan(byte[] json, int start, int end) {
+      Brackets brackets = new Brackets();
+      brackets.opens = new int[16];
+      brackets.closes = new int[16];
+      int[] stack = new int[16];
+      int depth = 0;
+      for (int i = start; i < end; i++) {
+        byte b = json[i];
+        if (b == '"') {
+          while (++i < end && (b = json[i]) != '"') {
+            if (b == '\\') i++;
+          }
+        } else if (b == '{' || b == '[') {
+          if (depth == stack.length) stack = Arrays.copyOf(stack, depth << 1);
+          stack[depth++] = brackets.size;
+          brackets.add(i);
+        } else if (b == '}' || b == ']') {
+          if (depth == 0) throw new IllegalArgumentException("Unexpected character at byte " + i);
+          int open = stack[--depth];
+          if (json[brackets.opens[open]] != (b == '}' ? '{' : '[')) {
+            throw new IllegalArgumentException("Unexpected character at byte " + i);
+          }
+          brackets.closes[open] = i + 1;
+        }
+      }
+      if (depth > 0) throw new IllegalArgumentException("Unexpected end of JSON");
+      return brackets;
+    }
+
+    private void add(int open) {
+      if (size == opens.length) {
+        opens = Arrays.copyOf(opens, size << 1);
+        closes = Arrays.copyOf(closes, size << 1);
+      }
+      opens[size++] = open;
+    }
+
+    /**
+     * Returns the byte offset after the closing bracket of given opening bracket.
+     * 
+     * @param open the byte offset of an opening bracket
+     * @return a byte offset
+     */
+    int close(int open) {
+      return closes[Arrays.binarySearch(opens, 0, size, open)];
+    }
+
+  }
+
+  /**
+   * A single pass parser which validates the JSON bytes while filling the tape. Containers are
+   * tracked with an explicit stack, so the depth of the JSON is not limited by the call stack. A
+   * lazy parser only indexes the members of the outermost container, and any nested container is
+   * kept as a single deferred entry of its byte range, which is found by the {@link Brackets}.
+   */
+  private static final class Parser {
+
+    private final byte[] json;
+    private final int end;
+    private final Brackets brackets;
+    private long[] tape;
+    private int size;
+    private int pos;
+
+    Parser(byte[] json, int start, int end, Brackets brackets) {
+      this.json = json;
+      this.end = end;
+      this.brackets = brackets;
+      pos = start;
+      tape = new long[brackets != null ? 16 : Math.max(16, (end - start) >>> 2)];
+    }
+
+    JsonTape parse() {
+      int[] containers = new int[16];
+      int[] counts = new int[16];
+      int depth = -1;
+      skipWhitespace();
+      while (true) {
+        if (depth >= 0) counts[depth]++;
+        byte c = peek();
+        if (brackets != null && depth >= 0 && (c == '{' || c == '[')) {
+          int start = pos;
+          pos = brackets.close(start);
+          append(entry(c == '{' ? DEFERRED_OBJECT : DEFERRED_ARRAY, pos - start, start));
+          skipWhitespace();
+        } else if (c == '{' || c == '[') {
+          if (++depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth << 1);
+            counts = Arrays.copyOf(counts, depth << 1);
+          }
+          containers[depth] = size;
+          counts[depth] = 0;
+          append(entry(c == '{' ? OBJECT : ARRAY, 0, 0));
+          pos++;
+          skipWhitespace();
+          if (c == '{' && peek() != '}') {
+            member();
+            continue;
+          }
+          if (c == '[' && peek() != ']') continue;
+        } else {
+          scalar(c);
+          skipWhitespace();
+        }
+
+        while (true) {
+          if (depth < 0) {
+            if (pos != end) throw unexpected();
+            return new JsonTape(json, Arrays.copyOf(tape, size), brackets);
+          }
+          int container = containers[depth];
+          boolean object = (int) (tape[container] >>> 56) == OBJECT;
+          byte d = peek();
+          if (d == ',') {
+            pos++;
+            skipWhitespace();
+            if (object) member();
+            break;
+          }
+          if (d != (object ? '}' : ']')) throw unexpected();
+          pos++;
+          tape[container] = entry(object ? OBJECT : ARRAY, counts[depth--], size);
+          skipWhitespace();
+        }
+      }
+    }
+
+    private void member() {
+      if (peek() != '"') throw unexpected();
+      string();
+      skipWhitespace();
+      if (peek() != ':') throw unexpected();
+      pos++;
+      skipWhitespace();
+    }
+
+    private void scalar(byte c) {
+      switch (c) {
+        case '"':
+          string();
+          break;
+        case 't':
+          literal(TRUE);
+          break;
+        case 'f':
+          literal(FALSE);
+          break;
+        case 'n':
+          literal(NULL);
+          break;
+        default:
+          number();
+      }
+    }
+
+    private void string() {
+      int start = pos + 1;
+      boolean escaped = false;
+      int i = start;
+      while (true) {
+        if (i >= end) throw unexpectedEnd();
+        byte b = json[i];
+        if (b == '"') break;
+        if (b == '\\') {
+          escaped = true;
+          if (++i >= end) throw unexpectedEnd();
+          switch (json[i]) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+              break;
+            case 'u':
+              if (i + 4 >= end) throw unexpectedEnd();
+              for (int j = 1; j <= 4; j++) {
+                if (hex(json[i + j]) < 0) throw unexpected(i + j);
+              }
+              i += 4;
+              break;
+            default:
+              throw unexpected(i);
+          }
+        } else if ((b & 0xFF) < 0x20) {
+          throw unexpected(i);
+        }
+        i++;
+      }
+      append(entry(escaped ? ESCAPED_STRING : STRING, i - start, start));
+      pos = i + 1;
+    }
+
+    private void literal(int type) {
+      byte[] literal = LITERALS[type];
+      if (pos + literal.length > end) throw unexpectedEnd();
+      for (int i = 0; i < literal.length; i++) {
+        if (json[pos + i] != literal[i]) throw unexpected(pos + i);
+      }
+      append(entry(type, 0, 0));
+      pos += literal.length;
+    }
+
+    private void number() {
+      int start = pos;
+      int i = pos;
+      if (i < end && json[i] == '-') i++;
+      if (i < end && json[i] == '0') {
+        i++;
+      } else {
+        i = digits(i);
+      }
+      int type = INTEGER;
+      if (i < end && json[i] == '.') {
+        type = DECIMAL;
+        i = digits(i + 1);
+      }
+      if (i < end && (json[i] == 'e' || json[i] == 'E')) {
+        type = DECIMAL;
+        i++;
+        if (i < end && (json[i] == '+' || json[i] == '-')) i++;
+        i = digits(i);
+      }
+      append(entry(type, i - start, start));
+      pos = i;
+    }
+
+    private int digits(int i) {
+      int start = i;
+      while (i < end && json[i] >= '0' && json[i] <= '9') {
+        i++;
+      }
+      if (i == start) throw i < end ? unexpected(i) : unexpectedEnd();
+      return i;
+    }
+
+    private byte peek() {
+      if (pos >= end) throw unexpectedEnd();
+      return json[pos];
+    }
+
+    private void skipWhitespace() {
+      while (pos < end) {
+        byte b = json[pos];
+        if (b != ' ' && b != '\n' && b != '\r' && b != '\t') return;
+        pos++;
+      }
+    }
+
+    private void append(long entry) {
+      if (size == tape.length) tape = Arrays.copyOf(tape, size << 1);
+      tape[size++] = entry;
+    }
+
+    private IllegalArgumentException unexpected() {
+      return pos < end ? unexpected(pos) : unexpectedEnd();
+    }
+
+    private IllegalArgumentException unexpected(int i) {
+      return new IllegalArgumentException("Unexpected character at byte " + i);
+    }
+
+    private IllegalArgumentException unexpectedEnd() {
+      return new IllegalArgumentException("Unexpected end of JSON");
+    }
+
+  }
+
+}
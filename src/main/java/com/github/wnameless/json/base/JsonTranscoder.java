@@ -0,0 +1,280 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.util.Arrays;
+import com.github.wnameless.json.base.JsonPullParser.Token;
+
+/**
+ * 
+ * {@link JsonTranscoder} builds the native JSON tree of a JSON implementation from any
+ * {@link JsonValueBase} by walking its {@link JsonCursor}, so JSON values can be moved between
+ * implementations without serializing and re-parsing them. The tree is walked with an explicit
+ * stack, so its depth is not limited by the call stack.
+ * <p>
+ * JSON objects and arrays are built through containers, which are the native nodes themselves
+ * for mutable implementations or builders for immutable ones, and turned into nodes by
+ * {@link #build(Object)} once all their children are added.
+ * <p>
+ * A native JSON tree can be built from the tokens of a {@link JsonPullParser} as well, which skips
+ * the JSON values not selected by a {@link JsonProjection}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ * @param <N> the type of a native JSON node
+ */
+abstract class JsonTranscoder<N> {
+
+  // The default capacity of an ArrayList
+  private static final int UNKNOWN_SIZE = 10;
+
+  /**
+   * Checks if given JSON elementary object already belongs to the target JSON implementation.
+   * 
+   * @param source a JSON elementary object
+   * @return true if no transcoding is needed, false otherwise
+   */
+  abstract boolean isNative(Object source);
+
+  abstract Object newObject(int size);
+
+  abstract Object newArray(int size);
+
+  abstract void put(Object object, String name, N value);
+
+  abstract void add(Object array, N value);
+
+  abstract N build(Object container);
+
+  abstract N nullValue();
+
+  abstract N booleanValue(boolean value);
+
+  abstract N stringValue(String value);
+
+  /**
+   * Creates a native number from an {@link Integer}, {@link Long}, {@link java.math.BigInteger},
+   * {@link Double} or {@link java.math.BigDecimal}, as {@link JsonValueBase#asNumber()} returns.
+   * 
+   * @param value a {@link Number}
+   * @return a native JSON node
+   */
+  abstract N numberValue(Number value);
+
+  /**
+   * Returns the native JSON node of given {@link JsonSource}, which is transcoded if it belongs to
+   * another JSON implementation.
+   * 
+   * @param jsonSource a {@link JsonSource}
+   * @return a native JSON node
+   * @throws ClassCastException if given {@link JsonSource} belongs to another JSON implementation
+   *         but isn't a {@link JsonValueBase}
+   */
+  @SuppressWarnings("unchecked")
+  final N toNative(JsonSource jsonSource) {
+    Object source = jsonSource.getSource();
+    if (isNative(source)) return (N) source;
+    if (jsonSource instanceof JsonValueBase) return transcode((JsonValueBase<?>) jsonSource);
+    throw new ClassCastException();
+  }
+
+  /**
+   * Builds a native JSON tree from given {@link JsonValueBase}.
+   * 
+   * @param jsonValue a {@link JsonValueBase}
+   * @return a native JSON node
+   */
+  final N transcode(JsonValueBase<?> jsonValue) {
+    return transcode(jsonValue.cursor());
+  }
+
+  /**
+   * Builds a native JSON tree from the current node of given {@link JsonCursor}. The cursor is
+   * moved back to the node it starts with once it's done.
+   * 
+   * @param cursor a {@link JsonCursor}
+   * @return a native JSON node
+   */
+  final N transcode(JsonCursor cursor) {
+    if (!cursor.isObject() && !cursor.isArray()) return scalar(cursor);
+
+    boolean rootObject = cursor.isObject();
+    Object root = newContainer(cursor);
+    if (!cursor.moveToFirstChild()) return build(root);
+
+    Object[] containers = new Object[16];
+    boolean[] objects = new boolean[16];
+    containers[0] = root;
+    objects[0] = rootObject;
+    int top = 0;
+    while (true) {
+      N value;
+      if (cursor.isObject() || cursor.isArray()) {
+        boolean object = cursor.isObject();
+        Object container = newContainer(cursor);
+        if (cursor.moveToFirstChild()) {
+          if (++top == containers.length) {
+            containers = Arrays.copyOf(containers, top << 1);
+            objects = Arrays.copyOf(objects, top << 1);
+          }
+          containers[top] = container;
+          objects[top] = object;
+          continue;
+        }
+        value = build(container);
+      } else {
+        value = scalar(cursor);
+      }
+      append(containers[top], objects[top], cursor, value);
+
+      while (!cursor.moveToNext()) {
+        cursor.moveToParent();
+        N built = build(containers[top]);
+        if (top-- == 0) return built;
+        append(containers[top], objects[top], cursor, built);
+      }
+    }
+  }
+
+  /**
+   * Builds a native JSON tree from the next JSON value of given {@link JsonPullParser}, which only
+   * holds the JSON values selected by given {@link JsonProjection}. Every unprojected JSON object
+   * or array is passed over by {@link JsonPullParser#skipChildren()} without being built.
+   * 
+   * @param parser a {@link JsonPullParser}
+   * @param projection a {@link JsonProjection}
+   * @return a native JSON node
+   * @throws IOException if error occurs during reading
+   */
+  final N transcode(JsonPullParser parser, JsonProjection projection) throws IOException {
+    Token token = next(parser);
+    if (!token.isStart()) return scalar(parser, token);
+
+    Object[] containers = new Object[16];
+    boolean[] objects = new boolean[16];
+    JsonProjection[] projections = new JsonProjection[16];
+    // The member name of each container in its parent and the number of read elements
+    String[] names = new String[16];
+    int[] counts = new int[16];
+    containers[0] = newContainer(token);
+    objects[0] = token == Token.START_OBJECT;
+    projections[0] = projection;
+    int top = 0;
+    while (true) {
+      token = next(parser);
+      if (token == Token.END_OBJECT || token == Token.END_ARRAY) {
+        N built = build(containers[top]);
+        if (top == 0) return built;
+        String name = names[top--];
+        append(containers[top], objects[top], name, built);
+        continue;
+      }
+
+      String name = null;
+      JsonProjection child;
+      if (objects[top]) {
+        name = parser.text();
+        token = next(parser);
+        child = projections[top].child(name);
+      } else {
+        child = projections[top].child(counts[top]++);
+      }
+      if (child == null) {
+        parser.skipChildren();
+      } else if (token.isStart()) {
+        if (++top == containers.length) {
+          containers = Arrays.copyOf(containers, top << 1);
+          objects = Arrays.copyOf(objects, top << 1);
+          projections = Arrays.copyOf(projections, top << 1);
+          names = Arrays.copyOf(names, top << 1);
+          counts = Arrays.copyOf(counts, top << 1);
+        }
+        containers[top] = newContainer(token);
+        objects[top] = token == Token.START_OBJECT;
+        projections[top] = child;
+        names[top] = name;
+        counts[top] = 0;
+      } else {
+        append(containers[top], objects[top], name, scalar(parser, token));
+      }
+    }
+  }
+
+  private static Token next(JsonPullParser parser) throws IOException {
+    Token token = parser.next();
+    if (token == null) throw new IllegalArgumentException("Unexpected end of JSON");
+    return token;
+  }
+
+  private Object newContainer(Token token) {
+    // The size is unknown before all children are read
+    return token == Token.START_OBJECT ? newObject(UNKNOWN_SIZE) : newArray(UNKNOWN_SIZE);
+  }
+
+  private N scalar(JsonPullParser parser, Token token) {
+    switch (token) {
+      case NULL:
+        return nullValue();
+      case TRUE:
+        return booleanValue(true);
+      case FALSE:
+        return booleanValue(false);
+      case STRING:
+        return stringValue(parser.text());
+      case NUMBER:
+        return numberValue(parser);
+      default:
+        throw new IllegalArgumentException("Unexpected " + token);
+    }
+  }
+
+  /**
+   * Creates a native number from the current number token of given {@link JsonPullParser}.
+   * Implementations may override it to keep the JSON text of the number.
+   * 
+   * @param parser a {@link JsonPullParser}
+   * @return a native JSON node
+   */
+  N numberValue(JsonPullParser parser) {
+    return numberValue(parser.asNumber());
+  }
+
+  private void append(Object container, boolean object, JsonCursor cursor, N value) {
+    append(container, object, object ? cursor.fieldName() : null, value);
+  }
+
+  private void append(Object container, boolean object, String name, N value) {
+    if (object) {
+      put(container, name, value);
+    } else {
+      add(container, value);
+    }
+  }
+
+  private Object newContainer(JsonCursor cursor) {
+    return cursor.isObject() ? newObject(cursor.size()) : newArray(cursor.size());
+  }
+
+  private N scalar(JsonCursor cursor) {
+    if (cursor.isNull()) return nullValue();
+    if (cursor.isBoolean()) return booleanValue(cursor.asBoolean());
+    if (cursor.isString()) return stringValue(cursor.asString());
+    if (cursor.isNumber()) return numberValue(cursor.asNumber());
+    throw new IllegalStateException();
+  }
+
+}
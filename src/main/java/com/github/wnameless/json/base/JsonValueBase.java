@@ -162,4 +162,14 @@ public interface JsonValueBase<JVB extends JsonValueBase<JVB>> extends Jsonable
    */
   public JsonValueBase<JVB> asValue();
 
+  /**
+   * Creates a {@link JsonCursor} which walks the JSON tree rooted at this without creating any
+   * JSON value wrapper.
+   * 
+   * @return a {@link JsonCursor}
+   */
+  default JsonCursor cursor() {
+    return new WrapperJsonCursor(this);
+  }
+
 }
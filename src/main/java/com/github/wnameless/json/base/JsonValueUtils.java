@@ -18,10 +18,17 @@ package com.github.wnameless.json.base;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 /**
  * 
@@ -33,10 +40,13 @@ import java.util.Map;
  */
 public final class JsonValueUtils {
 
+  private static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
   private JsonValueUtils() {}
 
   /**
-   * Creates a Java {@link Object} from given {@link JsonValueBase}.
+   * Creates a Java {@link Object} from given {@link JsonValueBase} by walking its
+   * {@link JsonValueBase#cursor()}.
    * 
    * @param jsonValue a {@link JsonValueBase}
    * @return an {@link Object} corresponds to JSON value
@@ -44,12 +54,78 @@ public final class JsonValueUtils {
    *         value
    */
   public static Object toObject(JsonValueBase<?> jsonValue) {
-    if (jsonValue.isNull()) return jsonValue.asNull();
+    return toObject(jsonValue.cursor());
+  }
+
+  /**
+   * Creates a Java {@link Object} from the current node of given {@link JsonCursor}. The JSON tree
+   * is walked with an explicit stack instead of recursion, so the depth of the tree is not limited
+   * by the call stack. The cursor is moved back to the node it starts with once it's done.
+   * 
+   * @param cursor a {@link JsonCursor}
+   * @return an {@link Object} corresponds to the current node of given {@link JsonCursor}
+   * @throws IllegalStateException if any node is not represented as any JSON value
+   */
+  @SuppressWarnings("unchecked")
+  public static Object toObject(JsonCursor cursor) {
+    Object root = newValue(cursor);
+    if (!(root instanceof ArrayList || root instanceof LinkedHashMap)
+        || !cursor.moveToFirstChild()) {
+      return root;
+    }
+
+    Object[] stack = new Object[16];
+    stack[0] = root;
+    int top = 0;
+    while (true) {
+      Object parent = stack[top];
+      Object value = newValue(cursor);
+      if (parent instanceof ArrayList) {
+        ((ArrayList<Object>) parent).add(value);
+      } else {
+        ((LinkedHashMap<String, Object>) parent).put(cursor.fieldName(), value);
+      }
+
+      if ((value instanceof ArrayList || value instanceof LinkedHashMap)
+          && cursor.moveToFirstChild()) {
+        if (++top == stack.length) stack = Arrays.copyOf(stack, top << 1);
+        stack[top] = value;
+        continue;
+      }
+      while (!cursor.moveToNext()) {
+        cursor.moveToParent();
+        if (top-- == 0) return root;
+      }
+    }
+  }
+
+  /**
+   * Converts the current node of given {@link JsonCursor} to a Java {@link Object}, or to an empty
+   * {@link ArrayList} or {@link LinkedHashMap} which is large enough to hold all the children of
+   * the node if it's a JSON array or object.
+   */
+  private static Object newValue(JsonCursor cursor) {
+    if (cursor.isNull()) return null;
+    if (cursor.isBoolean()) return cursor.asBoolean();
+    if (cursor.isString()) return cursor.asString();
+    if (cursor.isNumber()) return cursor.asNumber();
+    if (cursor.isArray()) return new ArrayList<>(cursor.size());
+    if (cursor.isObject()) return new LinkedHashMap<>((int) (cursor.size() / 0.75f) + 1);
+    throw new IllegalStateException();
+  }
+
+  /**
+   * Converts given {@link JsonValueBase} to a Java {@link Object} as
+   * {@link #toObject(JsonValueBase)} does, except that JSON objects and arrays are turned into
+   * their lazy {@link JsonObjectBase#asMapView()} and {@link JsonArrayBase#asListView()}.
+   */
+  static Object toView(JsonValueBase<?> jsonValue) {
+    if (jsonValue.isNull()) return null;
     if (jsonValue.isBoolean()) return jsonValue.asBoolean();
     if (jsonValue.isString()) return jsonValue.asString();
     if (jsonValue.isNumber()) return jsonValue.asNumber();
-    if (jsonValue.isArray()) return toList(jsonValue.asArray());
-    if (jsonValue.isObject()) return toMap(jsonValue.asObject());
+    if (jsonValue.isArray()) return jsonValue.asArray().asListView();
+    if (jsonValue.isObject()) return jsonValue.asObject().asMapView();
     throw new IllegalStateException();
   }
 
@@ -80,18 +156,82 @@ public final class JsonValueUtils {
     return bd;
   }
 
+  /**
+   * Creates a {@link Number} by given long from {@link Integer} and {@link Long} based on the size
+   * of numeric. The result is the same as {@link #toJavaNumber(BigDecimal)} with
+   * {@link BigDecimal#valueOf(long)}, but no {@link BigDecimal} is created.
+   * 
+   * @param l a long
+   * @return a {@link Number}
+   */
+  public static Number toJavaNumber(long l) {
+    if (l == (int) l) return (int) l;
+    return l;
+  }
+
+  /**
+   * Creates a {@link Number} by given double from {@link BigInteger}, {@link Double} and
+   * {@link BigDecimal} based on the size and scale of numeric. The result is the same as
+   * {@link #toJavaNumber(BigDecimal)} with {@link BigDecimal#valueOf(double)}, but no
+   * {@link BigDecimal} is created if the magnitude of given double is within [10<sup>-3</sup>,
+   * 10<sup>7</sup>).
+   * 
+   * @param d a double
+   * @return a {@link Number}
+   */
+  public static Number toJavaNumber(double d) {
+    if (d == 0) return 0.0;
+    // Double#toString uses plain notation with a fraction in this range, so it converts back to
+    // a BigDecimal with the same value and scale, which always ends up as a Double
+    double abs = Math.abs(d);
+    if (abs >= 1e-3 && abs < 1e7) return d;
+    return toJavaNumber(BigDecimal.valueOf(d));
+  }
+
+  /**
+   * Creates a {@link Number} by given numeric String from {@link Integer}, {@link Long},
+   * {@link BigInteger}, {@link Double} and {@link BigDecimal} based on the size and scale of
+   * numeric. The result is the same as {@link #toJavaNumber(BigDecimal)} with
+   * {@link BigDecimal#BigDecimal(String)}, but no {@link BigDecimal} is created for integers of at
+   * most 18 digits and for decimals which are written as {@link Double#toString(double)} does.
+   * 
+   * @param numeric a numeric String
+   * @return a {@link Number}
+   * @throws NumberFormatException if given String is not a valid numeric
+   */
+  public static Number toJavaNumber(String numeric) {
+    int length = numeric.length();
+    int start = length > 0 && numeric.charAt(0) == '-' ? 1 : 0;
+    int dot = -1;
+    for (int i = start; i < length; i++) {
+      char c = numeric.charAt(i);
+      if (c == '.' && dot < 0 && i > start && i < length - 1) {
+        dot = i;
+      } else if (c < '0' || c > '9') {
+        return toJavaNumber(new BigDecimal(numeric));
+      }
+    }
+    if (start == length) return toJavaNumber(new BigDecimal(numeric));
+
+    if (dot < 0) {
+      // At most 18 digits always fit in a long
+      if (length - start <= 18) return toJavaNumber(Long.parseLong(numeric));
+      return toJavaNumber(new BigDecimal(numeric));
+    }
+    double d = Double.parseDouble(numeric);
+    if (Double.toString(d).equals(numeric)) return d == 0 ? 0.0 : d;
+    return toJavaNumber(new BigDecimal(numeric));
+  }
+
   /**
    * Creates a {@link List} by given {@link JsonArrayBase}.
    * 
    * @param jsonArray a {@link JsonArrayBase}
    * @return a {@link List}
    */
+  @SuppressWarnings("unchecked")
   public static List<Object> toList(JsonArrayBase<?> jsonArray) {
-    List<Object> list = new ArrayList<>();
-    for (JsonValueBase<?> val : jsonArray) {
-      list.add(toObject(val));
-    }
-    return list;
+    return (List<Object>) toObject(jsonArray.cursor());
   }
 
   /**
@@ -100,15 +240,160 @@ public final class JsonValueUtils {
    * @param jsonObject a {@link JsonObjectBase}
    * @return a {@link Map}
    */
+  @SuppressWarnings("unchecked")
   public static Map<String, Object> toMap(JsonObjectBase<?> jsonObject) {
-    Map<String, Object> map = new LinkedHashMap<>();
-    Iterator<String> names = jsonObject.names();
-    while (names.hasNext()) {
-      String name = names.next();
-      JsonValueBase<?> val = jsonObject.get(name);
-      map.put(name, toObject(val));
+    return (Map<String, Object>) toObject(jsonObject.cursor());
+  }
+
+  /**
+   * Creates a {@link List} by given {@link JsonArrayBase} as {@link #toList(JsonArrayBase)} does,
+   * but converts large JSON arrays and objects in parallel on the common {@link ForkJoinPool}.
+   * 
+   * @param jsonArray a {@link JsonArrayBase}
+   * @return a {@link List}
+   * @see #parallelToList(JsonArrayBase, int, Executor)
+   */
+  public static List<Object> parallelToList(JsonArrayBase<?> jsonArray) {
+    return parallelToList(jsonArray, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a {@link List} by given {@link JsonArrayBase} as {@link #toList(JsonArrayBase)} does,
+   * but converts large JSON arrays and objects in parallel on given {@link Executor}.
+   * <p>
+   * Any JSON array or object in the tree which has at least threshold elements or members has its
+   * children split into batches of threshold children, and each batch is converted by a separate
+   * task. Smaller JSON arrays and objects are converted sequentially within the task which meets
+   * them. The result is assembled in the original order, so it equals the result of
+   * {@link #toList(JsonArrayBase)}. The tree must not be modified during the conversion.
+   * 
+   * @param jsonArray a {@link JsonArrayBase}
+   * @param threshold the minimum number of children to convert a JSON array or object in parallel,
+   *          which is also the number of children converted by each task
+   * @param executor an {@link Executor} to run the conversion tasks
+   * @return a {@link List}
+   * @throws IllegalArgumentException if threshold is less than 1
+   */
+  @SuppressWarnings("unchecked")
+  public static List<Object> parallelToList(JsonArrayBase<?> jsonArray, int threshold,
+      Executor executor) {
+    if (threshold < 1) throw new IllegalArgumentException();
+    if (executor == null) throw new NullPointerException();
+    int size = jsonArray.size();
+    if (size < threshold) return toList(jsonArray);
+    return (List<Object>) join(toObjectAsync(jsonArray, size, threshold, executor));
+  }
+
+  /**
+   * Creates a {@link Map} by given {@link JsonObjectBase} as {@link #toMap(JsonObjectBase)} does,
+   * but converts large JSON arrays and objects in parallel on the common {@link ForkJoinPool}.
+   * 
+   * @param jsonObject a {@link JsonObjectBase}
+   * @return a {@link Map}
+   * @see #parallelToMap(JsonObjectBase, int, Executor)
+   */
+  public static Map<String, Object> parallelToMap(JsonObjectBase<?> jsonObject) {
+    return parallelToMap(jsonObject, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a {@link Map} by given {@link JsonObjectBase} as {@link #toMap(JsonObjectBase)} does,
+   * but converts large JSON arrays and objects in parallel on given {@link Executor}, in the same
+   * way as {@link #parallelToList(JsonArrayBase, int, Executor)}.
+   * 
+   * @param jsonObject a {@link JsonObjectBase}
+   * @param threshold the minimum number of children to convert a JSON array or object in parallel,
+   *          which is also the number of children converted by each task
+   * @param executor an {@link Executor} to run the conversion tasks
+   * @return a {@link Map}
+   * @throws IllegalArgumentException if threshold is less than 1
+   */
+  @SuppressWarnings("unchecked")
+  public static Map<String, Object> parallelToMap(JsonObjectBase<?> jsonObject, int threshold,
+      Executor executor) {
+    if (threshold < 1) throw new IllegalArgumentException();
+    if (executor == null) throw new NullPointerException();
+    int size = jsonObject.size();
+    if (size < threshold) return toMap(jsonObject);
+    return (Map<String, Object>) join(toObjectAsync(jsonObject, size, threshold, executor));
+  }
+
+  private static int containerSize(JsonValueBase<?> jsonValue) {
+    if (jsonValue.isArray()) return jsonValue.asArray().size();
+    if (jsonValue.isObject()) return jsonValue.asObject().size();
+    return -1;
+  }
+
+  private static CompletableFuture<Object> toObjectAsync(JsonValueBase<?> container, int size,
+      int threshold, Executor executor) {
+    Object[] values = new Object[size];
+    String[] names;
+    IntFunction<JsonValueBase<?>> children;
+    if (container.isArray()) {
+      names = null;
+      // Elements are collected in order as well, since get(int) may be slow on interleaved indexes,
+      // e.g. on a tape array with nested containers
+      JsonValueBase<?>[] elements = new JsonValueBase<?>[size];
+      int i = 0;
+      for (JsonValueBase<?> element : container.asArray()) {
+        elements[i++] = element;
+      }
+      children = index -> elements[index];
+    } else {
+      // Members can only be reached in order, so they are collected before splitting
+      names = new String[size];
+      JsonValueBase<?>[] members = new JsonValueBase<?>[size];
+      int i = 0;
+      for (Entry<String, ?> member : container.asObject()) {
+        names[i] = member.getKey();
+        members[i++] = (JsonValueBase<?>) member.getValue();
+      }
+      children = index -> members[index];
+    }
+
+    List<CompletableFuture<Void>> batches = new ArrayList<>(size / threshold + 1);
+    for (int from = 0; from < size; from += threshold) {
+      batches.add(fillAsync(children, values, from, Math.min(from + threshold, size), threshold,
+          executor));
+    }
+    return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[batches.size()]))
+        .thenApply(v -> {
+          if (names == null) return new ArrayList<>(Arrays.asList(values));
+          Map<String, Object> map = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+          for (int i = 0; i < size; i++) {
+            map.put(names[i], values[i]);
+          }
+          return map;
+        });
+  }
+
+  private static CompletableFuture<Void> fillAsync(IntFunction<JsonValueBase<?>> children,
+      Object[] values, int from, int to, int threshold, Executor executor) {
+    return CompletableFuture.supplyAsync(() -> {
+      List<CompletableFuture<Void>> nested = new ArrayList<>();
+      for (int i = from; i < to; i++) {
+        JsonValueBase<?> child = children.apply(i);
+        int size = containerSize(child);
+        if (size >= threshold) {
+          int index = i;
+          nested.add(toObjectAsync(child, size, threshold, executor)
+              .thenAccept(value -> values[index] = value));
+        } else {
+          values[i] = toObject(child);
+        }
+      }
+      return CompletableFuture.allOf(nested.toArray(new CompletableFuture<?>[nested.size()]));
+    }, executor).thenCompose(Function.identity());
+  }
+
+  private static Object join(CompletableFuture<Object> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      if (e.getCause() instanceof Error) throw (Error) e.getCause();
+      throw e;
     }
-    return map;
   }
 
 }
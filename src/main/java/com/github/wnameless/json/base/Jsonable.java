@@ -15,6 +15,12 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * 
  * {@link Jsonable} allows the implementing class to be converted into a JSON string.
@@ -31,4 +37,28 @@ public interface Jsonable {
    */
   String toJson();
 
+  /**
+   * Writes the JSON string which represents this object into given {@link Writer}. The
+   * {@link Writer} is not closed after writing.
+   * 
+   * @param writer a {@link Writer}
+   * @throws IOException if error occurs during writing
+   */
+  default void toJson(Writer writer) throws IOException {
+    writer.write(toJson());
+  }
+
+  /**
+   * Writes the JSON string which represents this object into given {@link OutputStream} in UTF-8.
+   * The {@link OutputStream} is not closed after writing.
+   * 
+   * @param out an {@link OutputStream}
+   * @throws IOException if error occurs during writing
+   */
+  default void toJson(OutputStream out) throws IOException {
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    toJson(writer);
+    writer.flush();
+  }
+
 }
@@ -0,0 +1,96 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * 
+ * An {@link InputStream} which reads a file through memory-mapped regions of given
+ * {@link FileChannel}. Regions are mapped one after another, so files larger than the 2 GB limit of
+ * a single {@link MappedByteBuffer} can be read, and only the region in use is referenced.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class MappedFileInputStream extends InputStream {
+
+  static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+  private final FileChannel channel;
+  private final long size;
+  private final int regionSize;
+  private long regionEnd = 0;
+  private MappedByteBuffer region;
+
+  /**
+   * Creates a {@link MappedFileInputStream} which maps 1 GB regions. Closing this stream does not
+   * close given {@link FileChannel}.
+   * 
+   * @param channel a readable {@link FileChannel}
+   * @throws IOException if error occurs during reading the size of the channel
+   */
+  MappedFileInputStream(FileChannel channel) throws IOException {
+    this(channel, DEFAULT_REGION_SIZE);
+  }
+
+  MappedFileInputStream(FileChannel channel, int regionSize) throws IOException {
+    if (channel == null) throw new NullPointerException();
+    if (regionSize <= 0) throw new IllegalArgumentException();
+    this.channel = channel;
+    this.size = channel.size();
+    this.regionSize = regionSize;
+  }
+
+  private boolean ensureRegion() throws IOException {
+    if (region != null && region.hasRemaining()) return true;
+    if (regionEnd >= size) return false;
+    long regionStart = regionEnd;
+    regionEnd = Math.min(size, regionStart + regionSize);
+    region = channel.map(MapMode.READ_ONLY, regionStart, regionEnd - regionStart);
+    return region.hasRemaining();
+  }
+
+  @Override
+  public int read() throws IOException {
+    return ensureRegion() ? region.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) return 0;
+    if (!ensureRegion()) return -1;
+    int count = Math.min(length, region.remaining());
+    region.get(bytes, offset, count);
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return region == null ? 0 : region.remaining();
+  }
+
+  @Override
+  public void close() {
+    region = null;
+    regionEnd = size;
+  }
+
+}
@@ -0,0 +1,191 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.github.wnameless.json.base.JsonLinesIterator.LineParser;
+
+/**
+ * 
+ * A {@link Spliterator} which parses a byte range of a newline-delimited JSON (NDJSON or JSON
+ * Lines) file. The range is split into two halves on the newline nearest to its midpoint, so every
+ * split can be parsed independently by {@link JsonLinesIterator} with positional reads of a shared
+ * {@link FileChannel}.
+ * 
+ * @author Wei-Ming Wu
+ *
+ * @param <JVC> the type of a JSON implementation wrapper
+ */
+final class NdjsonSpliterator<JVC extends JsonValueCore<JVC>>
+    implements Spliterator<JsonValueCore<JVC>> {
+
+  static final long DEFAULT_MIN_SPLIT_SIZE = 1L << 16;
+
+  private static final int SCAN_SIZE = 8192;
+
+  private final LineParser<JVC> lineParser;
+  private final FileChannel channel;
+  private final long minSplitSize;
+  private long from;
+  private final long to;
+  private JsonLinesIterator<JVC> lines;
+
+  NdjsonSpliterator(JsonCore<JVC> jsonCore, FileChannel channel) throws IOException {
+    this(jsonCore::parse, channel, 0, channel.size(), DEFAULT_MIN_SPLIT_SIZE);
+  }
+
+  NdjsonSpliterator(JsonCore<JVC> jsonCore, FileChannel channel, long from, long to,
+      long minSplitSize) {
+    this(jsonCore::parse, channel, from, to, minSplitSize);
+  }
+
+  NdjsonSpliterator(LineParser<JVC> lineParser, FileChannel channel, long from, long to,
+      long minSplitSize) {
+    if (lineParser == null) throw new NullPointerException();
+    if (channel == null) throw new NullPointerException();
+    if (minSplitSize < 1) throw new IllegalArgumentException();
+    this.lineParser = lineParser;
+    this.channel = channel;
+    this.from = from;
+    this.to = to;
+    this.minSplitSize = minSplitSize;
+  }
+
+  /**
+   * Creates a parallel {@link Stream} of the JSON values of given NDJSON file, which should be
+   * closed to release the file.
+   * 
+   * @param <JVC> the type of a JSON implementation wrapper
+   * @param lineParser a {@link LineParser}
+   * @param jsonPath the path of any UTF-8 NDJSON file
+   * @param ordered whether the values should keep the order of lines
+   * @return a parallel {@link Stream} of {@link JsonValueCore}
+   * @throws IOException if error occurs during opening the file
+   */
+  static <JVC extends JsonValueCore<JVC>> Stream<JsonValueCore<JVC>> stream(
+      LineParser<JVC> lineParser, Path jsonPath, boolean ordered) throws IOException {
+    FileChannel channel = FileChannel.open(jsonPath, StandardOpenOption.READ);
+    try {
+      Stream<JsonValueCore<JVC>> stream = StreamSupport.stream(new NdjsonSpliterator<>(lineParser,
+          channel, 0, channel.size(), DEFAULT_MIN_SPLIT_SIZE), true).onClose(() -> {
+            try {
+              channel.close();
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+      return ordered ? stream : stream.unordered();
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super JsonValueCore<JVC>> action) {
+    if (action == null) throw new NullPointerException();
+    if (lines == null) lines = new JsonLinesIterator<>(lineParser, new RangeInputStream());
+    if (!lines.hasNext()) return false;
+    action.accept(lines.next());
+    return true;
+  }
+
+  @Override
+  public Spliterator<JsonValueCore<JVC>> trySplit() {
+    if (lines != null || to - from < minSplitSize * 2) return null;
+
+    long lineStart;
+    try {
+      lineStart = nextLineStart(from + (to - from) / 2);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (lineStart < 0) return null;
+
+    NdjsonSpliterator<JVC> prefix =
+        new NdjsonSpliterator<>(lineParser, channel, from, lineStart, minSplitSize);
+    from = lineStart;
+    return prefix;
+  }
+
+  private long nextLineStart(long position) throws IOException {
+    ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+    while (position < to) {
+      scan.clear();
+      if (to - position < SCAN_SIZE) scan.limit((int) (to - position));
+      int count = channel.read(scan, position);
+      if (count < 0) return -1;
+      for (int i = 0; i < count; i++) {
+        if (scan.get(i) == '\n') {
+          long lineStart = position + i + 1;
+          return lineStart < to ? lineStart : -1;
+        }
+      }
+      position += count;
+    }
+    return -1;
+  }
+
+  @Override
+  public long estimateSize() {
+    // Only the remaining bytes are known, which is an upper bound of the remaining values
+    return to - from;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL;
+  }
+
+  private final class RangeInputStream extends InputStream {
+
+    private final ByteBuffer single = ByteBuffer.allocate(1);
+
+    @Override
+    public int read() throws IOException {
+      single.clear();
+      return read(single) < 0 ? -1 : single.get(0) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) return 0;
+      return read(ByteBuffer.wrap(b, off, len));
+    }
+
+    private int read(ByteBuffer buffer) throws IOException {
+      if (from >= to) return -1;
+      if (buffer.remaining() > to - from) buffer.limit(buffer.position() + (int) (to - from));
+      // Positional reads leave the channel position untouched, so splits can share the channel
+      int count = channel.read(buffer, from);
+      if (count < 0) return -1;
+      from += count;
+      return count;
+    }
+
+  }
+
+}
@@ -15,9 +15,15 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Iterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import org.json.JSONArray;
 
 /**
@@ -30,30 +36,47 @@ import org.json.JSONArray;
 public final class OrgJsonArray implements JsonArrayCore<OrgJsonValue> {
 
   private final JSONArray jsonArray;
+  private final WrapperCache<OrgJsonValue> cache;
 
   public OrgJsonArray(JSONArray jsonArray) {
+    this(jsonArray, false);
+  }
+
+  /**
+   * Creates a {@link OrgJsonArray} which optionally caches the wrappers of its elements.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonArray a {@link JSONArray}
+   * @param wrapperCache true if the wrappers of elements should be cached
+   */
+  public OrgJsonArray(JSONArray jsonArray, boolean wrapperCache) {
     if (jsonArray == null) throw new NullPointerException();
     this.jsonArray = jsonArray;
+    cache = wrapperCache ? new WrapperCache<>() : null;
   }
 
   @Override
   public void add(JsonSource jsonValue) {
-    jsonArray.put(jsonValue.getSource());
+    jsonArray.put(OrgJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public void set(int index, JsonSource jsonValue) {
-    jsonArray.put(index, jsonValue.getSource());
+    jsonArray.put(index, OrgJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public OrgJsonValue remove(int index) {
+    if (cache != null) cache.evictElements(index);
     return new OrgJsonValue(jsonArray.remove(index));
   }
 
   @Override
   public OrgJsonValue get(int index) {
-    return new OrgJsonValue(jsonArray.get(index));
+    if (cache == null) return new OrgJsonValue(jsonArray.get(index));
+    return cache.element(index, jsonArray.length(), jsonArray.get(index),
+        n -> new OrgJsonValue(n, true));
   }
 
   @Override
@@ -63,9 +86,67 @@ public final class OrgJsonArray implements JsonArrayCore<OrgJsonValue> {
 
   @Override
   public Iterator<OrgJsonValue> iterator() {
+    if (cache != null) return Spliterators.iterator(spliterator());
     return new TransformIterator<Object, OrgJsonValue>(jsonArray.iterator(), OrgJsonValue::new);
   }
 
+  @Override
+  public int[] toIntArray() {
+    int size = jsonArray.length();
+    int[] array = new int[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = ((Number) jsonArray.get(i)).intValue();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.length();
+    for (int i = 0; i < size; i++) {
+      action.accept(((Number) jsonArray.get(i)).intValue());
+    }
+  }
+
+  @Override
+  public long[] toLongArray() {
+    int size = jsonArray.length();
+    long[] array = new long[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = ((Number) jsonArray.get(i)).longValue();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachLong(LongConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.length();
+    for (int i = 0; i < size; i++) {
+      action.accept(((Number) jsonArray.get(i)).longValue());
+    }
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    int size = jsonArray.length();
+    double[] array = new double[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = ((Number) jsonArray.get(i)).doubleValue();
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachDouble(DoubleConsumer action) {
+    if (action == null) throw new NullPointerException();
+    int size = jsonArray.length();
+    for (int i = 0; i < size; i++) {
+      action.accept(((Number) jsonArray.get(i)).doubleValue());
+    }
+  }
+
   @Override
   public boolean isObject() {
     return false;
@@ -143,7 +224,8 @@ public final class OrgJsonArray implements JsonArrayCore<OrgJsonValue> {
 
   @Override
   public OrgJsonValue asValue() {
-    return new OrgJsonValue(jsonArray);
+    if (cache == null) return new OrgJsonValue(jsonArray);
+    return cache.view(jsonArray, node -> new OrgJsonValue(node, true));
   }
 
   @Override
@@ -151,11 +233,21 @@ public final class OrgJsonArray implements JsonArrayCore<OrgJsonValue> {
     return jsonArray;
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new OrgJsonCursor(jsonArray);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    jsonArray.write(writer);
+  }
+
   @Override
   public int hashCode() {
     return jsonArray.hashCode();
@@ -15,8 +15,13 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
 import org.json.JSONTokener;
 
 /**
@@ -28,14 +33,106 @@ import org.json.JSONTokener;
  */
 public class OrgJsonCore implements JsonCore<OrgJsonValue> {
 
+  private final boolean wrapperCache;
+
+  public OrgJsonCore() {
+    this(false);
+  }
+
+  /**
+   * Creates a {@link OrgJsonCore} which optionally returns wrapper caching JSON values, see
+   * {@link OrgJsonValue#OrgJsonValue(Object, boolean)}.
+   * 
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public OrgJsonCore(boolean wrapperCache) {
+    this.wrapperCache = wrapperCache;
+  }
+
   @Override
   public OrgJsonValue parse(String json) {
-    return new OrgJsonValue(new JSONTokener(json));
+    return new OrgJsonValue(new JSONTokener(json), wrapperCache);
   }
 
   @Override
   public OrgJsonValue parse(Reader jsonReader) throws IOException {
-    return new OrgJsonValue(new JSONTokener(jsonReader));
+    return new OrgJsonValue(new JSONTokener(jsonReader), wrapperCache);
+  }
+
+  @Override
+  public OrgJsonValue parse(byte[] json, int offset, int length) {
+    return new OrgJsonValue(new JSONTokener(new ByteArrayInputStream(json, offset, length)),
+        wrapperCache);
+  }
+
+  @Override
+  public OrgJsonValue parse(InputStream jsonStream) throws IOException {
+    return new OrgJsonValue(new JSONTokener(jsonStream), wrapperCache);
+  }
+
+  @Override
+  public Stream<JsonValueCore<OrgJsonValue>> parseNdjson(InputStream jsonStream) {
+    return JsonLinesIterator.stream(this::parseLine, jsonStream);
+  }
+
+  @Override
+  public Stream<JsonValueCore<OrgJsonValue>> parseNdjsonParallel(Path jsonPath, boolean ordered)
+      throws IOException {
+    return NdjsonSpliterator.stream(this::parseLine, jsonPath, ordered);
+  }
+
+  private OrgJsonValue parseLine(byte[] json, int offset, int length) {
+    JSONTokener jsonTokener = new JSONTokener(new ByteArrayInputStream(json, offset, length));
+    OrgJsonValue jsonValue = new OrgJsonValue(jsonTokener, wrapperCache);
+    if (jsonTokener.nextClean() != 0) {
+      throw jsonTokener.syntaxError("Expected only one JSON value in a line");
+    }
+    return jsonValue;
+  }
+
+  @Override
+  public OrgJsonValue parse(String json, JsonProjection projection) {
+    return parse(new JSONTokener(json), projection);
+  }
+
+  @Override
+  public OrgJsonValue parse(Reader jsonReader, JsonProjection projection) {
+    return parse(new JSONTokener(jsonReader), projection);
+  }
+
+  @Override
+  public OrgJsonValue parse(InputStream jsonStream, JsonProjection projection) {
+    return parse(new JSONTokener(jsonStream), projection);
+  }
+
+  private OrgJsonValue parse(JSONTokener jsonTokener, JsonProjection projection) {
+    if (projection == null) throw new NullPointerException();
+    try {
+      return new OrgJsonValue(OrgJsonTranscoder.INSTANCE
+          .transcode(new OrgJsonPullParser(jsonTokener), projection), wrapperCache);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public OrgJsonPullParser pullParser(String json) {
+    return new OrgJsonPullParser(new JSONTokener(json));
+  }
+
+  @Override
+  public OrgJsonPullParser pullParser(Reader jsonReader) {
+    return new OrgJsonPullParser(new JSONTokener(jsonReader));
+  }
+
+  @Override
+  public OrgJsonPullParser pullParser(InputStream jsonStream) {
+    return new OrgJsonPullParser(new JSONTokener(jsonStream));
+  }
+
+  @Override
+  public OrgJsonValue transcode(JsonValueBase<?> jsonValue) {
+    return new OrgJsonValue(OrgJsonTranscoder.INSTANCE.transcode(jsonValue), wrapperCache);
   }
 
 }
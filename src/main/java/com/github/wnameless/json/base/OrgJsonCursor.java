@@ -0,0 +1,138 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * 
+ * The org.json implementation of {@link JsonCursor}, which walks org.json values directly.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class OrgJsonCursor extends AbstractJsonCursor<Object> {
+
+  OrgJsonCursor(Object root) {
+    super(root);
+  }
+
+  @Override
+  boolean isObject(Object node) {
+    return node instanceof JSONObject;
+  }
+
+  @Override
+  boolean isArray(Object node) {
+    return node instanceof JSONArray;
+  }
+
+  @Override
+  int objectSize(Object object) {
+    return ((JSONObject) object).length();
+  }
+
+  @Override
+  Iterator<?> memberIterator(Object object) {
+    return OrgJsonObject.entries((JSONObject) object);
+  }
+
+  @Override
+  String memberName(Object member) {
+    return (String) ((Entry<?, ?>) member).getKey();
+  }
+
+  @Override
+  Object memberValue(Object object, Object member) {
+    return ((Entry<?, ?>) member).getValue();
+  }
+
+  @Override
+  int arraySize(Object array) {
+    return ((JSONArray) array).length();
+  }
+
+  @Override
+  Object element(Object array, int index) {
+    return ((JSONArray) array).get(index);
+  }
+
+  @Override
+  public boolean isString() {
+    return node() instanceof String;
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return node() instanceof Boolean;
+  }
+
+  @Override
+  public boolean isNumber() {
+    return node() instanceof Number;
+  }
+
+  @Override
+  public boolean isNull() {
+    return node() == JSONObject.NULL;
+  }
+
+  @Override
+  public String asString() {
+    return (String) node();
+  }
+
+  @Override
+  public boolean asBoolean() {
+    return (Boolean) node();
+  }
+
+  @Override
+  public int asInt() {
+    return ((Number) node()).intValue();
+  }
+
+  @Override
+  public long asLong() {
+    return ((Number) node()).longValue();
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    return new BigInteger(node().toString());
+  }
+
+  @Override
+  public double asDouble() {
+    return ((Number) node()).doubleValue();
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    return new BigDecimal(node().toString());
+  }
+
+  @Override
+  public Number asNumber() {
+    return (Number) node();
+  }
+
+}
@@ -15,11 +15,18 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map.Entry;
+import java.util.Set;
 import org.json.JSONObject;
 
 /**
@@ -31,23 +38,90 @@ import org.json.JSONObject;
  */
 public final class OrgJsonObject implements JsonObjectCore<OrgJsonValue> {
 
+  private static class EntrySetHolder {
+    public static final MethodHandle INSTANCE = entrySetHandle();
+  }
+
+  /**
+   * {@link JSONObject} only exposes its members in one pass through its protected entrySet(), so
+   * it's made accessible once. Null is returned if that isn't possible, such as on a version of
+   * org.json without the method.
+   */
+  private static MethodHandle entrySetHandle() {
+    try {
+      Method entrySet = JSONObject.class.getDeclaredMethod("entrySet");
+      entrySet.setAccessible(true);
+      return MethodHandles.lookup().unreflect(entrySet);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns an {@link Iterator} over the members of given {@link JSONObject}. The underlying map
+   * entries are walked directly if possible, so no value is looked up by its name again.
+   * 
+   * @param jsonObject a {@link JSONObject}
+   * @return an {@link Iterator} of members
+   */
+  @SuppressWarnings("unchecked")
+  static Iterator<Entry<String, Object>> entries(JSONObject jsonObject) {
+    MethodHandle entrySet = EntrySetHolder.INSTANCE;
+    if (entrySet != null) {
+      try {
+        return ((Set<Entry<String, Object>>) entrySet.invoke(jsonObject)).iterator();
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return new TransformIterator<String, Entry<String, Object>>(jsonObject.keys(),
+        key -> new SimpleImmutableEntry<>(key, jsonObject.get(key)));
+  }
+
   private final JSONObject jsonObject;
+  private final WrapperCache<OrgJsonValue> cache;
 
   public OrgJsonObject(JSONObject jsonObject) {
+    this(jsonObject, false);
+  }
+
+  /**
+   * Creates a {@link OrgJsonObject} which optionally caches the wrappers of its members.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonObject a {@link JSONObject}
+   * @param wrapperCache true if the wrappers of members should be cached
+   */
+  public OrgJsonObject(JSONObject jsonObject, boolean wrapperCache) {
     if (jsonObject == null) throw new NullPointerException();
     this.jsonObject = jsonObject;
+    cache = wrapperCache ? new WrapperCache<>() : null;
   }
 
   @Override
   public void set(String name, JsonSource jsonValue) {
-    jsonObject.put(name, jsonValue.getSource());
+    jsonObject.put(name, OrgJsonTranscoder.INSTANCE.toNative(jsonValue));
   }
 
   @Override
   public boolean remove(String name) {
+    if (cache != null) cache.evictMember(name);
     return jsonObject.remove(name) != null;
   }
 
+  @Override
+  public boolean removeAll(Collection<String> names) {
+    if (cache != null) cache.evictMembers(names);
+    return jsonObject.keySet().removeAll(names);
+  }
+
+  @Override
+  public boolean retainAll(Collection<String> names) {
+    if (cache != null) cache.retainMembers(names);
+    return jsonObject.keySet().retainAll(names);
+  }
+
   @Override
   public boolean contains(String name) {
     return jsonObject.has(name);
@@ -55,7 +129,9 @@ public final class OrgJsonObject implements JsonObjectCore<OrgJsonValue> {
 
   @Override
   public OrgJsonValue get(String name) {
-    return contains(name) ? new OrgJsonValue(jsonObject.get(name)) : null;
+    if (!contains(name)) return null;
+    if (cache == null) return new OrgJsonValue(jsonObject.get(name));
+    return cache.member(name, jsonObject.get(name), n -> new OrgJsonValue(n, true));
   }
 
   @Override
@@ -70,8 +146,14 @@ public final class OrgJsonObject implements JsonObjectCore<OrgJsonValue> {
 
   @Override
   public Iterator<Entry<String, OrgJsonValue>> iterator() {
-    return new TransformIterator<String, Entry<String, OrgJsonValue>>(jsonObject.keys(),
-        key -> new SimpleImmutableEntry<>(key, new OrgJsonValue(jsonObject.get(key))));
+    if (cache != null) {
+      return new TransformIterator<Entry<String, Object>, Entry<String, OrgJsonValue>>(
+          entries(jsonObject), member -> cache.entry(member.getKey(), member.getValue(),
+              n -> new OrgJsonValue(n, true)));
+    }
+    return new TransformIterator<Entry<String, Object>, Entry<String, OrgJsonValue>>(
+        entries(jsonObject), member -> new SimpleImmutableEntry<>(member.getKey(),
+            new OrgJsonValue(member.getValue())));
   }
 
   @Override
@@ -151,7 +233,8 @@ public final class OrgJsonObject implements JsonObjectCore<OrgJsonValue> {
 
   @Override
   public OrgJsonValue asValue() {
-    return new OrgJsonValue(jsonObject);
+    if (cache == null) return new OrgJsonValue(jsonObject);
+    return cache.view(jsonObject, node -> new OrgJsonValue(node, true));
   }
 
   @Override
@@ -159,11 +242,21 @@ public final class OrgJsonObject implements JsonObjectCore<OrgJsonValue> {
     return jsonObject;
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new OrgJsonCursor(jsonObject);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    jsonObject.write(writer);
+  }
+
   @Override
   public int hashCode() {
     return jsonObject.hashCode();
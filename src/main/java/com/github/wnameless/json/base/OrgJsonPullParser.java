@@ -0,0 +1,144 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.util.Arrays;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * 
+ * The org.json implementation of {@link JsonPullParser}. {@link JSONTokener} only reads whole JSON
+ * values, so the brackets, commas and member names are read here, and {@link JSONTokener} is left
+ * to read the scalars. Skipped children are read token by token as well, but none of them is
+ * built into a JSON object or array.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class OrgJsonPullParser implements JsonPullParser {
+
+  private final JSONTokener jsonTokener;
+  // Whether each open container is a JSON object
+  private boolean[] objects = new boolean[16];
+  private int depth = -1;
+  private boolean done;
+  private Token token;
+  private Object value;
+
+  /**
+   * Creates a {@link OrgJsonPullParser} by given {@link JSONTokener}, which is positioned before
+   * the JSON value to read.
+   * 
+   * @param jsonTokener a {@link JSONTokener}
+   */
+  public OrgJsonPullParser(JSONTokener jsonTokener) {
+    if (jsonTokener == null) throw new NullPointerException();
+    this.jsonTokener = jsonTokener;
+  }
+
+  @Override
+  public Token next() {
+    value = null;
+    if (done) return token = null;
+
+    char c = jsonTokener.nextClean();
+    if (depth >= 0 && token != Token.FIELD_NAME) {
+      char close = objects[depth] ? '}' : ']';
+      if (token != Token.START_OBJECT && token != Token.START_ARRAY) {
+        if (c == ',') {
+          c = jsonTokener.nextClean();
+        } else if (c != close) {
+          throw jsonTokener.syntaxError("Expected a ',' or '" + close + "'");
+        }
+      }
+      if (c == close) {
+        done = depth == 0;
+        return token = objects[depth--] ? Token.END_OBJECT : Token.END_ARRAY;
+      }
+      if (objects[depth]) return fieldName(c);
+    }
+    return value(c);
+  }
+
+  private Token fieldName(char c) {
+    if (c == '"' || c == '\'') {
+      value = jsonTokener.nextString(c);
+    } else if (c == 0 || c == '{' || c == '[') {
+      throw jsonTokener.syntaxError("A JSONObject key must be a string");
+    } else {
+      jsonTokener.back();
+      value = jsonTokener.nextValue().toString();
+    }
+    if (jsonTokener.nextClean() != ':') throw jsonTokener.syntaxError("Expected a ':' after a key");
+    return token = Token.FIELD_NAME;
+  }
+
+  private Token value(char c) {
+    if (c == '{' || c == '[') {
+      if (++depth == objects.length) objects = Arrays.copyOf(objects, depth << 1);
+      objects[depth] = c == '{';
+      return token = c == '{' ? Token.START_OBJECT : Token.START_ARRAY;
+    }
+
+    jsonTokener.back();
+    value = jsonTokener.nextValue();
+    done = depth < 0;
+    if (value instanceof String) return token = Token.STRING;
+    if (value instanceof Number) return token = Token.NUMBER;
+    if (value instanceof Boolean) return token = (Boolean) value ? Token.TRUE : Token.FALSE;
+    if (value == JSONObject.NULL) return token = Token.NULL;
+    throw jsonTokener.syntaxError("Unexpected value");
+  }
+
+  @Override
+  public Token currentToken() {
+    return token;
+  }
+
+  @Override
+  public String text() {
+    if (token == Token.FIELD_NAME || token == Token.STRING) return (String) value;
+    if (token == Token.NUMBER) return value.toString();
+    if (token == Token.TRUE) return "true";
+    if (token == Token.FALSE) return "false";
+    if (token == Token.NULL) return "null";
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public Number asNumber() {
+    if (token != Token.NUMBER) throw new IllegalStateException();
+    return (Number) value;
+  }
+
+  @Override
+  public void skipChildren() {
+    if (token == null || !token.isStart()) return;
+
+    int start = depth;
+    while (depth >= start) {
+      next();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    jsonTokener.close();
+  }
+
+}
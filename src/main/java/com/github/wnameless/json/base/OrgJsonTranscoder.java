@@ -0,0 +1,87 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * 
+ * The org.json implementation of {@link JsonTranscoder}. The nodes of org.json are
+ * {@link JSONObject}, {@link JSONArray}, {@link JSONObject#NULL} and plain Java strings, numbers
+ * and booleans.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class OrgJsonTranscoder extends JsonTranscoder<Object> {
+
+  static final OrgJsonTranscoder INSTANCE = new OrgJsonTranscoder();
+
+  private OrgJsonTranscoder() {}
+
+  @Override
+  boolean isNative(Object source) {
+    return source instanceof JSONObject || source instanceof JSONArray || source instanceof String
+        || source instanceof Number || source instanceof Boolean || JSONObject.NULL.equals(source);
+  }
+
+  @Override
+  Object newObject(int size) {
+    return new JSONObject();
+  }
+
+  @Override
+  Object newArray(int size) {
+    return new JSONArray(size);
+  }
+
+  @Override
+  void put(Object object, String name, Object value) {
+    ((JSONObject) object).put(name, value);
+  }
+
+  @Override
+  void add(Object array, Object value) {
+    ((JSONArray) array).put(value);
+  }
+
+  @Override
+  Object build(Object container) {
+    return container;
+  }
+
+  @Override
+  Object nullValue() {
+    return JSONObject.NULL;
+  }
+
+  @Override
+  Object booleanValue(boolean value) {
+    return value;
+  }
+
+  @Override
+  Object stringValue(String value) {
+    return value;
+  }
+
+  @Override
+  Object numberValue(Number value) {
+    return value;
+  }
+
+}
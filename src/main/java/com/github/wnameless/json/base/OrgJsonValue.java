@@ -15,6 +15,8 @@
  */
 package com.github.wnameless.json.base;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Objects;
@@ -33,8 +35,21 @@ import org.json.JSONWriter;
 public final class OrgJsonValue implements JsonValueCore<OrgJsonValue> {
 
   private final Object jsonValue;
+  private final WrapperCache<OrgJsonValue> cache;
 
   public OrgJsonValue(Object jsonValue) {
+    this(jsonValue, false);
+  }
+
+  /**
+   * Creates a {@link OrgJsonValue} which optionally caches the wrappers of its descendants.
+   * A cached wrapper is reused on every access to the same underlying node, so repeated traversals
+   * of the same tree don't allocate new wrappers.
+   * 
+   * @param jsonValue any org.json value
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public OrgJsonValue(Object jsonValue, boolean wrapperCache) {
     if (jsonValue == null) throw new NullPointerException();
     if (!(jsonValue instanceof Boolean || jsonValue instanceof String || jsonValue instanceof Number
         || jsonValue instanceof JSONArray || jsonValue instanceof JSONObject
@@ -42,11 +57,24 @@ public final class OrgJsonValue implements JsonValueCore<OrgJsonValue> {
       throw new IllegalArgumentException();
     }
     this.jsonValue = jsonValue;
+    cache = wrapperCache && (isObject() || isArray()) ? new WrapperCache<>() : null;
   }
 
   public OrgJsonValue(JSONTokener jsonTokener) {
+    this(jsonTokener, false);
+  }
+
+  /**
+   * Creates a {@link OrgJsonValue} by the next value of given {@link JSONTokener}, which optionally
+   * caches the wrappers of its descendants.
+   * 
+   * @param jsonTokener a {@link JSONTokener}
+   * @param wrapperCache true if the wrappers of descendants should be cached
+   */
+  public OrgJsonValue(JSONTokener jsonTokener, boolean wrapperCache) {
     if (jsonTokener == null) throw new NullPointerException();
     jsonValue = jsonTokener.nextValue();
+    cache = wrapperCache && (isObject() || isArray()) ? new WrapperCache<>() : null;
   }
 
   @Override
@@ -142,11 +170,27 @@ public final class OrgJsonValue implements JsonValueCore<OrgJsonValue> {
     return JSONWriter.valueToString(jsonValue);
   }
 
+  @Override
+  public JsonCursor cursor() {
+    return new OrgJsonCursor(jsonValue);
+  }
+
   @Override
   public String toJson() {
     return toString();
   }
 
+  @Override
+  public void toJson(Writer writer) throws IOException {
+    if (jsonValue instanceof JSONObject jo) {
+      jo.write(writer);
+    } else if (jsonValue instanceof JSONArray ja) {
+      ja.write(writer);
+    } else {
+      writer.write(toString());
+    }
+  }
+
   @Override
   public Object getSource() {
     return jsonValue;
@@ -154,12 +198,14 @@ public final class OrgJsonValue implements JsonValueCore<OrgJsonValue> {
 
   @Override
   public OrgJsonObject asObject() {
-    return new OrgJsonObject((JSONObject) jsonValue);
+    if (cache == null || !isObject()) return new OrgJsonObject((JSONObject) jsonValue);
+    return cache.view(jsonValue, node -> new OrgJsonObject((JSONObject) node, true));
   }
 
   @Override
   public OrgJsonArray asArray() {
-    return new OrgJsonArray((JSONArray) jsonValue);
+    if (cache == null || !isArray()) return new OrgJsonArray((JSONArray) jsonValue);
+    return cache.view(jsonValue, node -> new OrgJsonArray((JSONArray) node, true));
   }
 
   @Override
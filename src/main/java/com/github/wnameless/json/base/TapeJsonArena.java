@@ -0,0 +1,143 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * 
+ * {@link TapeJsonArena} keeps the JSON documents parsed by a {@link TapeJsonCore} outside of the
+ * Java heap, so large sets of read-mostly documents neither take heap space nor add to the work of
+ * the garbage collector. Documents are packed one after another into direct {@link ByteBuffer}
+ * chunks, and a document larger than a chunk gets a direct {@link ByteBuffer} of its own.<br>
+ * <br>
+ * Closing the arena ends the lifetime of all its documents at once: any later read of them throws
+ * an {@link IllegalStateException}, and the arena drops all its buffers, so their native memory is
+ * returned as soon as the garbage collector reclaims the buffers, even if wrappers of the documents
+ * are still referenced.<br>
+ * <br>
+ * A {@link TapeJsonArena} is thread-safe.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class TapeJsonArena implements AutoCloseable {
+
+  private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+  private final int chunkSize;
+  private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+  private int current = -1;
+  private int position;
+
+  /**
+   * Creates a {@link TapeJsonArena} with chunks of 1 MiB.
+   */
+  public TapeJsonArena() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates a {@link TapeJsonArena} with chunks of given size.
+   * 
+   * @param chunkSize the number of bytes of each chunk
+   * @throws IllegalArgumentException if given chunk size is not positive
+   */
+  public TapeJsonArena(int chunkSize) {
+    if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive");
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Allocates given number of bytes, which are aligned to 8 bytes.
+   * 
+   * @param size the number of bytes
+   * @return the index of the chunk in the high 32 bits and the offset in the low 32 bits
+   * @throws IllegalStateException if this arena is closed
+   */
+  synchronized long allocate(int size) {
+    ByteBuffer[] chunks = chunks();
+    if (size > chunkSize) return (long) addChunk(chunks, size) << 32;
+
+    position = (position + 7) & ~7;
+    if (current < 0 || position > chunkSize - size) {
+      current = addChunk(chunks, chunkSize);
+      position = 0;
+    }
+    int offset = position;
+    position += size;
+    return ((long) current << 32) | offset;
+  }
+
+  private int addChunk(ByteBuffer[] chunks, int capacity) {
+    ByteBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+    grown[chunks.length] = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    this.chunks = grown;
+    return chunks.length;
+  }
+
+  /**
+   * Returns the chunk of given index.
+   * 
+   * @param index the index of a chunk
+   * @return a direct {@link ByteBuffer}
+   * @throws IllegalStateException if this arena is closed
+   */
+  ByteBuffer chunk(int index) {
+    return chunks()[index];
+  }
+
+  private ByteBuffer[] chunks() {
+    ByteBuffer[] chunks = this.chunks;
+    if (chunks == null) throw new IllegalStateException("The arena is closed");
+    return chunks;
+  }
+
+  /**
+   * Returns the total capacity of all direct buffers held by this arena.
+   * 
+   * @return the number of bytes
+   */
+  public long capacity() {
+    ByteBuffer[] chunks = this.chunks;
+    if (chunks == null) return 0;
+    long capacity = 0;
+    for (ByteBuffer chunk : chunks) {
+      capacity += chunk.capacity();
+    }
+    return capacity;
+  }
+
+  /**
+   * Checks if this arena is closed.
+   * 
+   * @return true if it's closed, false otherwise
+   */
+  public boolean isClosed() {
+    return chunks == null;
+  }
+
+  /**
+   * Closes this arena and invalidates all documents in it. Closing a closed arena has no effect.
+   */
+  @Override
+  public synchronized void close() {
+    chunks = null;
+  }
+
+}
@@ -0,0 +1,370 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 
+ * The tape implementation of {@link JsonArrayCore}. A {@link JsonTape} is immutable, so all
+ * mutations throw an {@link UnsupportedOperationException}.
+ * <p>
+ * An element is located in constant time if none of the elements is a container. Otherwise the
+ * elements are skipped one by one from the last located element, so sequential reads by index stay
+ * linear in total. Iterators and spliterators walk the tape with their own positions, so
+ * concurrent or interleaved traversals never compete for the last located element.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class TapeJsonArray implements JsonArrayCore<TapeJsonValue> {
+
+  private final JsonTape tape;
+  private final int index;
+  private final int size;
+  private final boolean flat;
+  // The element index in the high 32 bits and its tape index in the low 32 bits
+  private volatile long lastElement;
+
+  TapeJsonArray(JsonTape tape, int index) {
+    if (tape == null) throw new NullPointerException();
+    this.tape = tape;
+    this.index = index;
+    size = tape.size(index);
+    flat = tape.next(index) - index - 1 == size;
+    lastElement = index + 1;
+  }
+
+  private int position(int i) {
+    if (i < 0 || i >= size) throw new IndexOutOfBoundsException(i);
+    if (flat) return index + 1 + i;
+
+    long last = lastElement;
+    int from = (int) (last >>> 32);
+    int position = (int) last;
+    if (from > i) {
+      from = 0;
+      position = index + 1;
+    }
+    for (; from < i; from++) {
+      position = tape.next(position);
+    }
+    lastElement = ((long) i << 32) | position;
+    return position;
+  }
+
+  @Override
+  public void add(JsonSource jsonValue) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void set(int index, JsonSource jsonValue) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TapeJsonValue remove(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TapeJsonValue get(int index) {
+    return new TapeJsonValue(tape, position(index));
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Iterator<TapeJsonValue> iterator() {
+    return new Iterator<TapeJsonValue>() {
+
+      private final int end = tape.next(index);
+      private int position = index + 1;
+
+      @Override
+      public boolean hasNext() {
+        return position < end;
+      }
+
+      @Override
+      public TapeJsonValue next() {
+        if (position >= end) throw new NoSuchElementException();
+        TapeJsonValue element = new TapeJsonValue(tape, position);
+        position = tape.next(position);
+        return element;
+      }
+
+    };
+  }
+
+  @Override
+  public void forEach(Consumer<? super TapeJsonValue> action) {
+    if (action == null) throw new NullPointerException();
+    for (int i = 0, position = index + 1; i < size; i++, position = tape.next(position)) {
+      action.accept(new TapeJsonValue(tape, position));
+    }
+  }
+
+  @Override
+  public Spliterator<TapeJsonValue> spliterator() {
+    return new ElementSpliterator(0, index + 1, size);
+  }
+
+  @Override
+  public int[] toIntArray() {
+    int[] array = new int[size];
+    for (int i = 0, position = index + 1; i < size; i++, position = tape.next(position)) {
+      array[i] = (int) tape.longValue(position);
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    if (action == null) throw new NullPointerException();
+    for (int i = 0, position = index + 1; i < size; i++, position = tape.next(position)) {
+      action.accept((int) tape.longValue(position));
+    }
+  }
+
+  @Override
+  public long[] toLongArray() {
+    long[] array = new long[size];
+    for (int i = 0, position = index + 1; i < size; i++, position = tape.next(position)) {
+      array[i] = tape.longValue(position);
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachLong(LongConsumer action) {
+    if (action == null) throw new NullPointerException();
+    for (int i = 0, position = index + 1; i < size; i++, position = tape.next(position)) {
+      action.accept(tape.longValue(position));
+    }
+  }
+
+  @Override
+  public double[] toDoubleArray() {
+    double[] array = new double[size];
+    for (int i = 0, position = index + 1; i < size; i++, position = tape.next(position)) {
+      array[i] = tape.doubleValue(position);
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachDouble(DoubleConsumer action) {
+    if (action == null) throw new NullPointerException();
+    for (int i = 0, position = index + 1; i < size; i++, position = tape.next(position)) {
+      action.accept(tape.doubleValue(position));
+    }
+  }
+
+  @Override
+  public boolean isObject() {
+    return false;
+  }
+
+  @Override
+  public boolean isArray() {
+    return true;
+  }
+
+  @Override
+  public boolean isString() {
+    return false;
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return false;
+  }
+
+  @Override
+  public boolean isNumber() {
+    return false;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public String asString() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean asBoolean() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int asInt() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public long asLong() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public double asDouble() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TapeJsonObject asObject() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TapeJsonArray asArray() {
+    return this;
+  }
+
+  @Override
+  public TapeJsonValue asValue() {
+    return new TapeJsonValue(tape, index);
+  }
+
+  @Override
+  public Object getSource() {
+    return this;
+  }
+
+  @Override
+  public JsonCursor cursor() {
+    return new TapeJsonCursor(tape, index);
+  }
+
+  @Override
+  public String toJson() {
+    return tape.toJson(index);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    tape.toJson(index, out);
+  }
+
+  @Override
+  public int hashCode() {
+    return tape.hashCode(index);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    return o instanceof TapeJsonArray ja && tape.equals(index, ja.tape, ja.index);
+  }
+
+  @Override
+  public String toString() {
+    return toJson();
+  }
+
+  private final class ElementSpliterator implements Spliterator<TapeJsonValue> {
+
+    private int element;
+    private int position;
+    private final int fence;
+
+    ElementSpliterator(int element, int position, int fence) {
+      this.element = element;
+      this.position = position;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TapeJsonValue> action) {
+      if (action == null) throw new NullPointerException();
+      if (element >= fence) return false;
+      action.accept(new TapeJsonValue(tape, position));
+      position = tape.next(position);
+      element++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TapeJsonValue> action) {
+      if (action == null) throw new NullPointerException();
+      for (; element < fence; element++, position = tape.next(position)) {
+        action.accept(new TapeJsonValue(tape, position));
+      }
+    }
+
+    @Override
+    public Spliterator<TapeJsonValue> trySplit() {
+      int mid = (element + fence) >>> 1;
+      if (element >= mid) return null;
+      ElementSpliterator prefix = new ElementSpliterator(element, position, mid);
+      if (flat) {
+        position = index + 1 + mid;
+      } else {
+        for (; element < mid; element++) {
+          position = tape.next(position);
+        }
+      }
+      element = mid;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - element;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+  }
+
+}
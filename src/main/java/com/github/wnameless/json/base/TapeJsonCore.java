@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 
+ * The tape implementation of {@link JsonCore}, which is built into json-base and needs no JSON
+ * library. A JSON document is parsed into a {@link JsonTape}: its UTF-8 bytes plus one long per
+ * JSON value or member name, instead of a tree of node objects. It takes far less heap than the
+ * trees of other JSON implementations, which suits documents that are kept in memory and mostly
+ * read.<br>
+ * <br>
+ * The parsed JSON values are immutable, so all mutations throw an
+ * {@link UnsupportedOperationException}.<br>
+ * <br>
+ * A {@link TapeJsonCore} created with a {@link TapeJsonArena} stores the parsed documents outside
+ * of the Java heap, see {@link TapeJsonArena}. A lazy {@link TapeJsonCore} only indexes the
+ * outermost JSON object or array on parse, and each nested container is indexed on first access.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public class TapeJsonCore implements JsonCore<TapeJsonValue> {
+
+  private final TapeJsonArena arena;
+  private final boolean lazy;
+
+  public TapeJsonCore() {
+    this(false);
+  }
+
+  /**
+   * Creates a {@link TapeJsonCore} which optionally parses lazily. A lazy parse only indexes the
+   * members of the outermost JSON object or array and skips over the bytes of nested containers.
+   * A nested container is parsed when it is first accessed, and its index is kept by the parsed
+   * document afterwards. It suits reading a few fields out of large documents, but syntax errors
+   * inside nested containers are only reported when they are accessed.
+   * 
+   * @param lazy true if nested containers should be parsed on first access
+   */
+  public TapeJsonCore(boolean lazy) {
+    arena = null;
+    this.lazy = lazy;
+  }
+
+  /**
+   * Creates a {@link TapeJsonCore} which stores all parsed documents in given
+   * {@link TapeJsonArena}. The documents can only be read until the arena is closed.
+   * 
+   * @param arena a {@link TapeJsonArena}
+   */
+  public TapeJsonCore(TapeJsonArena arena) {
+    if (arena == null) throw new NullPointerException();
+    this.arena = arena;
+    lazy = false;
+  }
+
+  private TapeJsonValue parseTape(byte[] json) {
+    if (arena != null) return new TapeJsonValue(JsonTape.parse(json, arena), 0);
+    return new TapeJsonValue(JsonTape.parse(json, lazy), 0);
+  }
+
+  @Override
+  public TapeJsonValue parse(String json) {
+    return parseTape(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public TapeJsonValue parse(String json, JsonProjection projection) {
+    return project(json.getBytes(StandardCharsets.UTF_8), projection);
+  }
+
+  @Override
+  public TapeJsonValue parse(Reader jsonReader, JsonProjection projection) throws IOException {
+    StringWriter writer = new StringWriter();
+    jsonReader.transferTo(writer);
+    return parse(writer.toString(), projection);
+  }
+
+  @Override
+  public TapeJsonValue parse(InputStream jsonStream, JsonProjection projection)
+      throws IOException {
+    return project(jsonStream.readAllBytes(), projection);
+  }
+
+  private TapeJsonValue project(byte[] json, JsonProjection projection) {
+    if (projection == null) throw new NullPointerException();
+    // Unprojected containers are only bracket matched by a lazy parse
+    return parseTape(JsonTape.parse(json, true).project(0, projection));
+  }
+
+  @Override
+  public TapeJsonValue parse(Reader jsonReader) throws IOException {
+    StringWriter writer = new StringWriter();
+    jsonReader.transferTo(writer);
+    return parse(writer.toString());
+  }
+
+  @Override
+  public TapeJsonValue parse(byte[] json, int offset, int length) {
+    if (arena != null && offset == 0 && length == json.length) return parseTape(json);
+    return parseTape(Arrays.copyOfRange(json, offset, offset + length));
+  }
+
+  @Override
+  public TapeJsonValue parse(InputStream jsonStream) throws IOException {
+    return parseTape(jsonStream.readAllBytes());
+  }
+
+}
@@ -0,0 +1,208 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * 
+ * The tape implementation of {@link JsonCursor}, which moves over the tape indexes of a
+ * {@link JsonTape} directly, so a walk allocates nothing but the decoded member names and scalars.
+ * A deferred container is entered through its expanded tape.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class TapeJsonCursor implements JsonCursor {
+
+  private static final int INITIAL_DEPTH = 16;
+
+  // The tape of the current node and the end of its parent at each depth
+  private JsonTape[] tapes = new JsonTape[INITIAL_DEPTH];
+  private int[] positions = new int[INITIAL_DEPTH];
+  private int[] ends = new int[INITIAL_DEPTH];
+  private boolean[] objects = new boolean[INITIAL_DEPTH];
+  private int[] indexes = new int[INITIAL_DEPTH];
+  private int depth = 0;
+
+  TapeJsonCursor(JsonTape tape, int root) {
+    if (tape == null) throw new NullPointerException();
+    tapes[0] = tape;
+    positions[0] = root;
+    indexes[0] = -1;
+  }
+
+  private JsonTape tape() {
+    return tapes[depth];
+  }
+
+  private int node() {
+    return positions[depth];
+  }
+
+  @Override
+  public boolean moveToFirstChild() {
+    JsonTape tape = tape();
+    int node = node();
+    if (!tape.isContainer(node)) return false;
+    if (tape.isDeferred(node)) {
+      tape = tape.expand(node);
+      node = 0;
+    }
+    int end = tape.next(node);
+    if (end == node + 1) return false;
+    if (++depth == positions.length) {
+      tapes = Arrays.copyOf(tapes, depth << 1);
+      positions = Arrays.copyOf(positions, depth << 1);
+      ends = Arrays.copyOf(ends, depth << 1);
+      objects = Arrays.copyOf(objects, depth << 1);
+      indexes = Arrays.copyOf(indexes, depth << 1);
+    }
+    tapes[depth] = tape;
+    ends[depth] = end;
+    objects[depth] = tape.type(node) == JsonTape.OBJECT;
+    positions[depth] = objects[depth] ? node + 2 : node + 1;
+    indexes[depth] = 0;
+    return true;
+  }
+
+  @Override
+  public boolean moveToNext() {
+    if (depth == 0) return false;
+    int next = tape().next(node());
+    if (next >= ends[depth]) return false;
+    positions[depth] = objects[depth] ? next + 1 : next;
+    indexes[depth]++;
+    return true;
+  }
+
+  @Override
+  public boolean moveToParent() {
+    if (depth == 0) return false;
+    depth--;
+    return true;
+  }
+
+  @Override
+  public void reset() {
+    depth = 0;
+  }
+
+  @Override
+  public int depth() {
+    return depth;
+  }
+
+  @Override
+  public String fieldName() {
+    if (depth == 0 || !objects[depth]) return null;
+    return tape().string(node() - 1);
+  }
+
+  @Override
+  public int index() {
+    return indexes[depth];
+  }
+
+  @Override
+  public int size() {
+    if (!tape().isContainer(node())) throw new UnsupportedOperationException();
+    return tape().size(node());
+  }
+
+  @Override
+  public boolean isObject() {
+    return tape().type(node()) == JsonTape.OBJECT;
+  }
+
+  @Override
+  public boolean isArray() {
+    return tape().type(node()) == JsonTape.ARRAY;
+  }
+
+  @Override
+  public boolean isString() {
+    return tape().isString(node());
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return tape().isBoolean(node());
+  }
+
+  @Override
+  public boolean isNumber() {
+    return tape().isNumber(node());
+  }
+
+  @Override
+  public boolean isNull() {
+    return tape().type(node()) == JsonTape.NULL;
+  }
+
+  @Override
+  public String asString() {
+    return tape().string(node());
+  }
+
+  @Override
+  public boolean asBoolean() {
+    return tape().booleanValue(node());
+  }
+
+  @Override
+  public int asInt() {
+    return (int) tape().longValue(node());
+  }
+
+  @Override
+  public long asLong() {
+    return tape().longValue(node());
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    return tape().bigIntegerValue(node());
+  }
+
+  @Override
+  public double asDouble() {
+    return tape().doubleValue(node());
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    return tape().bigDecimalValue(node());
+  }
+
+  @Override
+  public Number asNumber() {
+    return tape().numberValue(node());
+  }
+
+  /**
+   * Returns the current JSON number as it appears in the JSON text.
+   * 
+   * @return a {@link String}
+   * @throws UnsupportedOperationException if the current node is not a JSON number
+   */
+  String numberText() {
+    return tape().numberText(node());
+  }
+
+}
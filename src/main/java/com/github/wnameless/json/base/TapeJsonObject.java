@@ -0,0 +1,251 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+/**
+ * 
+ * The tape implementation of {@link JsonObjectCore}. A {@link JsonTape} is immutable, so all
+ * mutations throw an {@link UnsupportedOperationException}. Members are looked up by scanning the
+ * member names, which are compared with the raw UTF-8 bytes without being decoded when possible.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class TapeJsonObject implements JsonObjectCore<TapeJsonValue> {
+
+  private final JsonTape tape;
+  private final int index;
+
+  TapeJsonObject(JsonTape tape, int index) {
+    if (tape == null) throw new NullPointerException();
+    this.tape = tape;
+    this.index = index;
+  }
+
+  /**
+   * Returns the tape index of the name of given member, or -1 if it doesn't exist.
+   */
+  private int find(String name) {
+    if (name == null) throw new NullPointerException();
+    for (int key = index + 1, end = tape.next(index); key < end; key = tape.next(key + 1)) {
+      if (tape.stringEquals(key, name)) return key;
+    }
+    return -1;
+  }
+
+  @Override
+  public void set(String name, JsonSource jsonValue) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(String name) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean contains(String name) {
+    return find(name) >= 0;
+  }
+
+  @Override
+  public TapeJsonValue get(String name) {
+    int key = find(name);
+    return key < 0 ? null : new TapeJsonValue(tape, key + 1);
+  }
+
+  @Override
+  public int size() {
+    return tape.size(index);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return tape.next(index) == index + 1;
+  }
+
+  @Override
+  public Iterator<String> names() {
+    return new MemberIterator<String>() {
+
+      @Override
+      String member(int key) {
+        return tape.string(key);
+      }
+
+    };
+  }
+
+  @Override
+  public Iterator<Entry<String, TapeJsonValue>> iterator() {
+    return new MemberIterator<Entry<String, TapeJsonValue>>() {
+
+      @Override
+      Entry<String, TapeJsonValue> member(int key) {
+        return new SimpleImmutableEntry<>(tape.string(key), new TapeJsonValue(tape, key + 1));
+      }
+
+    };
+  }
+
+  private abstract class MemberIterator<T> implements Iterator<T> {
+
+    private final int end = tape.next(index);
+    private int key = index + 1;
+
+    abstract T member(int key);
+
+    @Override
+    public boolean hasNext() {
+      return key < end;
+    }
+
+    @Override
+    public T next() {
+      if (key >= end) throw new NoSuchElementException();
+      T member = member(key);
+      key = tape.next(key + 1);
+      return member;
+    }
+
+  }
+
+  @Override
+  public boolean isObject() {
+    return true;
+  }
+
+  @Override
+  public boolean isArray() {
+    return false;
+  }
+
+  @Override
+  public boolean isString() {
+    return false;
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return false;
+  }
+
+  @Override
+  public boolean isNumber() {
+    return false;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public String asString() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean asBoolean() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int asInt() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public long asLong() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public double asDouble() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TapeJsonObject asObject() {
+    return this;
+  }
+
+  @Override
+  public TapeJsonArray asArray() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public TapeJsonValue asValue() {
+    return new TapeJsonValue(tape, index);
+  }
+
+  @Override
+  public Object getSource() {
+    return this;
+  }
+
+  @Override
+  public JsonCursor cursor() {
+    return new TapeJsonCursor(tape, index);
+  }
+
+  @Override
+  public String toJson() {
+    return tape.toJson(index);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    tape.toJson(index, out);
+  }
+
+  @Override
+  public int hashCode() {
+    return tape.hashCode(index);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    return o instanceof TapeJsonObject jo && tape.equals(index, jo.tape, jo.index);
+  }
+
+  @Override
+  public String toString() {
+    return toJson();
+  }
+
+}
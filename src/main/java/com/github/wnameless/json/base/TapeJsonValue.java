@@ -0,0 +1,173 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 
+ * The tape implementation of {@link JsonValueCore}, which is a view of a value in an immutable
+ * {@link JsonTape}. Strings and numbers are decoded on every read and nothing is cached, so the
+ * wrappers stay as small as a reference and an index.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+public final class TapeJsonValue implements JsonValueCore<TapeJsonValue> {
+
+  private final JsonTape tape;
+  private final int index;
+
+  TapeJsonValue(JsonTape tape, int index) {
+    if (tape == null) throw new NullPointerException();
+    boolean deferred = tape.isDeferred(index);
+    this.tape = deferred ? tape.expand(index) : tape;
+    this.index = deferred ? 0 : index;
+  }
+
+  @Override
+  public boolean isObject() {
+    return tape.type(index) == JsonTape.OBJECT;
+  }
+
+  @Override
+  public boolean isArray() {
+    return tape.type(index) == JsonTape.ARRAY;
+  }
+
+  @Override
+  public boolean isString() {
+    return tape.isString(index);
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return tape.isBoolean(index);
+  }
+
+  @Override
+  public boolean isNumber() {
+    return tape.isNumber(index);
+  }
+
+  @Override
+  public boolean isNull() {
+    return tape.type(index) == JsonTape.NULL;
+  }
+
+  @Override
+  public String asString() {
+    return tape.string(index);
+  }
+
+  @Override
+  public boolean asBoolean() {
+    return tape.booleanValue(index);
+  }
+
+  @Override
+  public int asInt() {
+    return (int) tape.longValue(index);
+  }
+
+  @Override
+  public long asLong() {
+    return tape.longValue(index);
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    return tape.bigIntegerValue(index);
+  }
+
+  @Override
+  public double asDouble() {
+    return tape.doubleValue(index);
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    return tape.bigDecimalValue(index);
+  }
+
+  @Override
+  public Number asNumber() {
+    return tape.numberValue(index);
+  }
+
+  @Override
+  public int hashCode() {
+    return tape.hashCode(index);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    return o instanceof TapeJsonValue jv && tape.equals(index, jv.tape, jv.index);
+  }
+
+  @Override
+  public String toString() {
+    return toJson();
+  }
+
+  @Override
+  public JsonCursor cursor() {
+    return new TapeJsonCursor(tape, index);
+  }
+
+  @Override
+  public String toJson() {
+    return tape.toJson(index);
+  }
+
+  @Override
+  public void toJson(OutputStream out) throws IOException {
+    tape.toJson(index, out);
+  }
+
+  /**
+   * Returns this {@link TapeJsonValue} itself, because the tape implementation has no JSON
+   * elementary object of another library.
+   * 
+   * @return this {@link TapeJsonValue}
+   */
+  @Override
+  public Object getSource() {
+    return this;
+  }
+
+  @Override
+  public TapeJsonObject asObject() {
+    if (!isObject()) throw new UnsupportedOperationException();
+    return new TapeJsonObject(tape, index);
+  }
+
+  @Override
+  public TapeJsonArray asArray() {
+    if (!isArray()) throw new UnsupportedOperationException();
+    return new TapeJsonArray(tape, index);
+  }
+
+  @Override
+  public TapeJsonValue asValue() {
+    return this;
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 
+ * {@link WrapperCache} keeps the wrappers created by a JSON wrapper, so repeated accesses to the
+ * same underlying node return the same wrapper instead of allocating a new one.<br>
+ * <br>
+ * A cached wrapper is only returned while its {@link JsonSource#getSource()} is identical to the
+ * current underlying node, so any mutation, even one made directly on the underlying JSON
+ * implementation, simply causes a cache miss. Wrappers are immutable holders of their nodes, so
+ * the cache can be shared between threads without locking.
+ * 
+ * @author Wei-Ming Wu
+ *
+ * @param <W> the type of a JSON value wrapper
+ */
+final class WrapperCache<W extends JsonSource> {
+
+  private volatile JsonSource view;
+  private volatile Map<String, Entry<String, W>> members;
+  private volatile JsonSource[] elements;
+
+  /**
+   * Returns the cached view of the owner wrapper, e.g. the object wrapper of a value wrapper, or
+   * creates and caches one.
+   * 
+   * @param <V> the type of the view
+   * @param source the underlying node of the owner wrapper
+   * @param factory creates a view from given node
+   * @return a view wrapper
+   */
+  @SuppressWarnings("unchecked")
+  <V extends JsonSource> V view(Object source, Function<Object, V> factory) {
+    JsonSource cached = view;
+    if (cached != null && cached.getSource() == source) return (V) cached;
+    V created = factory.apply(source);
+    view = created;
+    return created;
+  }
+
+  /**
+   * Returns the cached wrapper of a member, or creates and caches one.
+   * 
+   * @param name the member name
+   * @param source the underlying node of the member
+   * @param factory creates a wrapper from given node
+   * @return a wrapper
+   */
+  W member(String name, Object source, Function<Object, W> factory) {
+    return entry(name, source, factory).getValue();
+  }
+
+  /**
+   * Returns the cached entry of a member, or creates and caches one.
+   * 
+   * @param name the member name
+   * @param source the underlying node of the member
+   * @param factory creates a wrapper from given node
+   * @return an entry of the member name and its wrapper
+   */
+  Entry<String, W> entry(String name, Object source, Function<Object, W> factory) {
+    Map<String, Entry<String, W>> map = members;
+    if (map == null) {
+      synchronized (this) {
+        map = members;
+        if (map == null) members = map = new ConcurrentHashMap<>();
+      }
+    }
+
+    Entry<String, W> cached = map.get(name);
+    if (cached != null && cached.getValue().getSource() == source) return cached;
+    Entry<String, W> created = new SimpleImmutableEntry<>(name, factory.apply(source));
+    map.put(name, created);
+    return created;
+  }
+
+  /**
+   * Returns the cached wrapper of an element, or creates and caches one.
+   * 
+   * @param index the element index
+   * @param size the current size of the JSON array
+   * @param source the underlying node of the element
+   * @param factory creates a wrapper from given node
+   * @return a wrapper
+   */
+  @SuppressWarnings("unchecked")
+  W element(int index, int size, Object source, Function<Object, W> factory) {
+    JsonSource[] array = elements;
+    if (array != null && index < array.length) {
+      JsonSource cached = array[index];
+      if (cached != null && cached.getSource() == source) return (W) cached;
+    } else {
+      // A lost update by a racing thread only results in a cache miss
+      array = array == null ? new JsonSource[Math.max(size, index + 1)]
+          : Arrays.copyOf(array, Math.max(size, index + 1));
+      elements = array;
+    }
+
+    W created = factory.apply(source);
+    array[index] = created;
+    return created;
+  }
+
+  /**
+   * Drops the cached wrapper of a removed member.
+   * 
+   * @param name the member name
+   */
+  void evictMember(String name) {
+    Map<String, Entry<String, W>> map = members;
+    if (map != null && name != null) map.remove(name);
+  }
+
+  /**
+   * Drops the cached wrappers of removed members.
+   * 
+   * @param names the member names
+   */
+  void evictMembers(Collection<String> names) {
+    Map<String, Entry<String, W>> map = members;
+    if (map == null) return;
+    for (String name : names) {
+      if (name != null) map.remove(name);
+    }
+  }
+
+  /**
+   * Drops the cached wrappers of all members except given ones.
+   * 
+   * @param names the retained member names
+   */
+  void retainMembers(Collection<String> names) {
+    Map<String, Entry<String, W>> map = members;
+    if (map != null) map.keySet().removeIf(name -> !names.contains(name));
+  }
+
+  /**
+   * Drops the cached wrappers of elements from given index on, which are shifted by a removal.
+   * 
+   * @param fromIndex the index of the removed element
+   */
+  void evictElements(int fromIndex) {
+    JsonSource[] array = elements;
+    if (array != null && fromIndex >= 0 && fromIndex < array.length) {
+      Arrays.fill(array, fromIndex, array.length, null);
+    }
+  }
+
+}
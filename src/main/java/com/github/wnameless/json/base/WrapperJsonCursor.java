@@ -0,0 +1,137 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+/**
+ * 
+ * A {@link JsonCursor} over any {@link JsonValueBase}, which walks the JSON tree through the JSON
+ * value wrappers. It is the fallback of JSON implementations without a native cursor.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class WrapperJsonCursor extends AbstractJsonCursor<JsonValueBase<?>> {
+
+  WrapperJsonCursor(JsonValueBase<?> root) {
+    super(root);
+  }
+
+  @Override
+  boolean isObject(JsonValueBase<?> node) {
+    return node.isObject();
+  }
+
+  @Override
+  boolean isArray(JsonValueBase<?> node) {
+    return node.isArray();
+  }
+
+  @Override
+  int objectSize(JsonValueBase<?> object) {
+    return object.asObject().size();
+  }
+
+  @Override
+  Iterator<?> memberIterator(JsonValueBase<?> object) {
+    return object.asObject().iterator();
+  }
+
+  @Override
+  String memberName(Object member) {
+    return (String) ((Entry<?, ?>) member).getKey();
+  }
+
+  @Override
+  JsonValueBase<?> memberValue(JsonValueBase<?> object, Object member) {
+    return (JsonValueBase<?>) ((Entry<?, ?>) member).getValue();
+  }
+
+  @Override
+  int arraySize(JsonValueBase<?> array) {
+    return array.asArray().size();
+  }
+
+  @Override
+  JsonValueBase<?> element(JsonValueBase<?> array, int index) {
+    return array.asArray().get(index);
+  }
+
+  @Override
+  public boolean isString() {
+    return node().isString();
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return node().isBoolean();
+  }
+
+  @Override
+  public boolean isNumber() {
+    return node().isNumber();
+  }
+
+  @Override
+  public boolean isNull() {
+    return node().isNull();
+  }
+
+  @Override
+  public String asString() {
+    return node().asString();
+  }
+
+  @Override
+  public boolean asBoolean() {
+    return node().asBoolean();
+  }
+
+  @Override
+  public int asInt() {
+    return node().asInt();
+  }
+
+  @Override
+  public long asLong() {
+    return node().asLong();
+  }
+
+  @Override
+  public BigInteger asBigInteger() {
+    return node().asBigInteger();
+  }
+
+  @Override
+  public double asDouble() {
+    return node().asDouble();
+  }
+
+  @Override
+  public BigDecimal asBigDecimal() {
+    return node().asBigDecimal();
+  }
+
+  @Override
+  public Number asNumber() {
+    return node().asNumber();
+  }
+
+}
@@ -21,8 +21,12 @@ import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -182,4 +186,148 @@ public class JsonArrayBaseTest {
         jakartaAry.stream().collect(Collectors.toList()));
   }
 
+  @Test
+  public void testAsListView() {
+    for (JsonArrayBase<?> ary : Arrays.asList(gsonAry, jacksonAry, jackson3Ary, orgAry,
+        jakartaAry)) {
+      List<Object> view = ary.asListView();
+      assertTrue(view instanceof RandomAccess);
+      assertEquals(ary.toList(), view);
+      assertEquals(view, ary.toList());
+      assertEquals(ary.toList().hashCode(), view.hashCode());
+      assertEquals(ary.size(), view.size());
+      assertEquals(ary.get(2).asNumber(), view.get(2));
+      assertThrows(IndexOutOfBoundsException.class, () -> view.get(ary.size()));
+      assertThrows(UnsupportedOperationException.class, () -> view.add(1));
+      assertThrows(UnsupportedOperationException.class, () -> view.set(0, 1));
+    }
+
+    GsonJsonArray ary = new GsonJsonCore().parse("[[1],{\"a\":null}]").asArray();
+    List<Object> view = ary.asListView();
+    assertEquals(List.of(1), view.get(0));
+    assertEquals(Collections.singletonMap("a", null), view.get(1));
+    ary.add(new GsonJsonCore().parse("\"b\""));
+    assertEquals(3, view.size());
+    assertEquals("b", view.get(2));
+  }
+
+  @Test
+  public void testSpliterator() {
+    for (JsonArrayBase<?> ary : Arrays.asList(gsonAry, jacksonAry, jackson3Ary, orgAry, jakartaAry)) {
+      Spliterator<?> spliterator = ary.spliterator();
+      assertTrue(spliterator.hasCharacteristics(
+          Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+      assertEquals(5, spliterator.getExactSizeIfKnown());
+
+      Spliterator<?> prefix = spliterator.trySplit();
+      assertEquals(2, prefix.getExactSizeIfKnown());
+      assertEquals(3, spliterator.getExactSizeIfKnown());
+
+      List<Object> elements = new ArrayList<>();
+      prefix.forEachRemaining(elements::add);
+      assertTrue(spliterator.tryAdvance(elements::add));
+      spliterator.forEachRemaining(elements::add);
+      assertFalse(spliterator.tryAdvance(elements::add));
+      assertEquals(ary.stream().collect(Collectors.toList()), elements);
+    }
+  }
+
+  @Test
+  public void testParallelStream() {
+    JsonArrayBase<JacksonJsonValue> ary = new JacksonJsonCore().parse(IntStream.range(0, 10000)
+        .mapToObj(Integer::toString).collect(Collectors.joining(",", "[", "]"))).asArray();
+
+    assertTrue(ary.parallelStream().isParallel());
+    assertEquals(10000, ary.parallelStream().count());
+    assertEquals(ary.stream().map(JsonValueBase::asInt).collect(Collectors.toList()),
+        ary.parallelStream().map(JsonValueBase::asInt).collect(Collectors.toList()));
+    assertEquals(gsonAry.stream().collect(Collectors.toList()),
+        gsonAry.parallelStream().collect(Collectors.toList()));
+    assertEquals(orgAry.stream().collect(Collectors.toList()),
+        orgAry.parallelStream().collect(Collectors.toList()));
+    assertEquals(jakartaAry.stream().collect(Collectors.toList()),
+        jakartaAry.parallelStream().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testPrimitiveArrays() {
+    String json = "[0,1,-2,2147483647,3.75,-4.5,1e3]";
+    for (JsonCore<?> jsonCore : JsonCores.all()) {
+      JsonArrayBase<?> ary = jsonCore.parse(json).asArray();
+
+      assertArrayEquals(ary.stream().mapToInt(JsonValueBase::asInt).toArray(), ary.toIntArray());
+      assertArrayEquals(ary.stream().mapToLong(JsonValueBase::asLong).toArray(),
+          ary.toLongArray());
+      assertArrayEquals(new double[] {0, 1, -2, 2147483647, 3.75, -4.5, 1000},
+          ary.toDoubleArray());
+
+      List<Integer> ints = new ArrayList<>();
+      ary.forEachInt(ints::add);
+      assertEquals(ary.stream().map(JsonValueBase::asInt).collect(Collectors.toList()), ints);
+      List<Long> longs = new ArrayList<>();
+      ary.forEachLong(longs::add);
+      assertEquals(ary.stream().map(JsonValueBase::asLong).collect(Collectors.toList()), longs);
+      List<Double> doubles = new ArrayList<>();
+      ary.forEachDouble(doubles::add);
+      assertEquals(List.of(0.0, 1.0, -2.0, 2147483647.0, 3.75, -4.5, 1000.0), doubles);
+
+      assertThrows(NullPointerException.class, () -> ary.forEachInt(null));
+      assertThrows(NullPointerException.class, () -> ary.forEachLong(null));
+      assertThrows(NullPointerException.class, () -> ary.forEachDouble(null));
+      assertEquals(0, jsonCore.parse("[]").asArray().toDoubleArray().length);
+    }
+  }
+
+  @Test
+  public void testTapeArray() {
+    JsonArrayCore<TapeJsonValue> ary =
+        new TapeJsonCore().parse("[0,[1,[2]],{\"3\":[3]},\"4\",[],5,{},null]").asArray();
+    List<String> expected =
+        List.of("0", "[1,[2]]", "{\"3\":[3]}", "\"4\"", "[]", "5", "{}", "null");
+
+    assertEquals(8, ary.size());
+    for (int i : new int[] {0, 3, 5, 7, 6, 1, 2, 4, 4, 0, 7}) {
+      assertEquals(expected.get(i), ary.get(i).toJson());
+    }
+    assertEquals(expected, ary.stream().map(JsonValueBase::toJson).collect(Collectors.toList()));
+    assertEquals(expected,
+        ary.parallelStream().map(JsonValueBase::toJson).collect(Collectors.toList()));
+    List<String> elements = new ArrayList<>();
+    ary.forEach(element -> elements.add(element.toJson()));
+    assertEquals(expected, elements);
+
+    // Every split walks the tape from its own position
+    Spliterator<TapeJsonValue> spliterator = ary.spliterator();
+    Spliterator<TapeJsonValue> prefix = spliterator.trySplit();
+    Spliterator<TapeJsonValue> infix = spliterator.trySplit();
+    assertEquals(4, prefix.getExactSizeIfKnown());
+    assertEquals(2, infix.getExactSizeIfKnown());
+    assertEquals(2, spliterator.getExactSizeIfKnown());
+    elements.clear();
+    for (int i = 0; i < 2; i++) {
+      for (Spliterator<TapeJsonValue> split : List.of(prefix, infix, spliterator)) {
+        split.tryAdvance(element -> elements.add(element.toJson()));
+      }
+    }
+    prefix.forEachRemaining(element -> elements.add(element.toJson()));
+    assertFalse(infix.tryAdvance(element -> elements.add(element.toJson())));
+    assertEquals(List.of("0", "[]", "{}", "[1,[2]]", "5", "null", "{\"3\":[3]}", "\"4\""),
+        elements);
+
+    JsonArrayCore<TapeJsonValue> flat = new TapeJsonCore().parse("[1,2,3,4,5]").asArray();
+    Spliterator<TapeJsonValue> flatSuffix = flat.spliterator();
+    assertEquals(2, flatSuffix.trySplit().estimateSize());
+    assertTrue(flatSuffix.tryAdvance(element -> assertEquals(3, element.asInt())));
+    assertEquals(List.of(1, 2, 3, 4, 5),
+        flat.parallelStream().map(JsonValueBase::asInt).collect(Collectors.toList()));
+    assertThrows(IndexOutOfBoundsException.class, () -> ary.get(8));
+    assertThrows(IndexOutOfBoundsException.class, () -> ary.get(-1));
+    assertTrue(new TapeJsonCore().parse("[]").asArray().isEmpty());
+    assertEquals(2, new TapeJsonCore().parse("[1,2,3]").asArray().get(1).asInt());
+
+    assertThrows(UnsupportedOperationException.class, () -> ary.add(ary.get(0)));
+    assertThrows(UnsupportedOperationException.class, () -> ary.set(0, ary.get(0)));
+    assertThrows(UnsupportedOperationException.class, () -> ary.remove(0));
+  }
+
 }
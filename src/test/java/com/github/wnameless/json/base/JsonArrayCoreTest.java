@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -164,6 +165,17 @@ public class JsonArrayCoreTest {
     assertEquals(4, jakartaAry.size());
   }
 
+  @Test
+  public void testAddAll() {
+    for (JsonCore<?> jsonCore : JsonCores.mutable()) {
+      JsonArrayCore<?> ary = jsonCore.parse("[1]").asArray();
+      ary.addAll(Arrays.asList(jsonCore.parse("\"a\""), jsonCore.parse("{\"b\":null}")));
+      ary.addAll(new ArrayList<JsonSource>());
+      assertEquals(jsonCore.parse("[1,\"a\",{\"b\":null}]"), ary.asValue());
+      assertThrows(NullPointerException.class, () -> ary.addAll(null));
+    }
+  }
+
   @Test
   public void testEquals() {
     assertEquals(new GsonJsonArray((JsonArray) gsonAry.getSource()), gsonAry);
@@ -378,4 +390,34 @@ public class JsonArrayCoreTest {
     assertTrue(jakartaAry.getSource() instanceof jakarta.json.JsonArray);
   }
 
+  @Test
+  public void testJakartaMutationOverlay() {
+    JakartaJsonCore jsonCore = new JakartaJsonCore();
+    JakartaJsonArray ary = new JakartaJsonArray(Json.createArrayBuilder().add(0).build());
+    jakarta.json.JsonArray source = (jakarta.json.JsonArray) ary.getSource();
+    StringBuilder json = new StringBuilder("[0");
+    for (int i = 1; i < 20000; i++) {
+      ary.add(jsonCore.parse(String.valueOf(i)));
+      json.append(',').append(i);
+    }
+    json.append(']');
+    assertEquals(1, source.size());
+    assertEquals(20000, ary.size());
+    assertEquals(19999, ary.get(19999).asInt());
+    assertEquals(jsonCore.parse(json.toString()).asArray(), ary);
+    assertEquals(jsonCore.parse(json.toString()).asArray().hashCode(), ary.hashCode());
+    assertEquals(json.toString(), ary.toJson());
+    assertTrue(ary.getSource() instanceof jakarta.json.JsonArray);
+    assertSame(ary.getSource(), ary.getSource());
+
+    ary.set(0, jsonCore.parse("\"a\""));
+    assertEquals(1, ary.remove(1).asInt());
+    assertEquals(19999, ary.size());
+    assertEquals("a", ((jakarta.json.JsonArray) ary.getSource()).getString(0));
+    assertEquals(2, ((jakarta.json.JsonArray) ary.getSource()).getInt(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> ary.set(19999, jsonCore.parse("0")));
+    assertThrows(IndexOutOfBoundsException.class, () -> ary.remove(-1));
+    assertThrows(UnsupportedOperationException.class, () -> ary.iterator().remove());
+  }
+
 }
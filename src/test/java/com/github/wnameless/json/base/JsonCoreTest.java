@@ -16,12 +16,27 @@
 package com.github.wnameless.json.base;
 
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 import org.junit.jupiter.api.Test;
@@ -31,6 +46,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import jakarta.json.Json;
 import jakarta.json.JsonValue;
@@ -218,4 +234,456 @@ public class JsonCoreTest {
     });
   }
 
+  @Test
+  public void testParseBytes() throws IOException {
+    String json = "{\"str\":\"t\u00E9xt\u4E2D\",\"num\":[123,45.67],\"bool\":true,\"obj\":null}";
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    byte[] paddedBytes = new byte[bytes.length + 4];
+    System.arraycopy(bytes, 0, paddedBytes, 2, bytes.length);
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+    directBuffer.put(bytes).flip();
+    Path path = Files.createTempFile("json-base", ".json");
+    Files.write(path, bytes);
+
+    try {
+      for (JsonCore<?> jsonCore : JsonCores
+          .all(new JakartaJsonCore(Json.createReaderFactory(new HashMap<>())))) {
+        jsonValue = jsonCore.parse(json);
+
+        assertEquals(jsonValue, jsonCore.parse(bytes));
+        assertEquals(jsonValue, jsonCore.parse(paddedBytes, 2, bytes.length));
+        assertEquals(jsonValue, jsonCore.parse(ByteBuffer.wrap(paddedBytes, 2, bytes.length)));
+        assertEquals(jsonValue, jsonCore.parse(directBuffer));
+        assertEquals(0, directBuffer.position());
+        assertEquals(jsonValue, jsonCore.parse(new ByteArrayInputStream(bytes)));
+        assertEquals(jsonValue, jsonCore.parse(path));
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testParseMapped() throws IOException {
+    String json = "{\"str\":\"t\u00E9xt\u4E2D\",\"num\":[123,45.67],\"bool\":true,\"obj\":null}";
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    Path path = Files.createTempFile("json-base", ".json");
+    Files.write(path, bytes);
+
+    try {
+      for (JsonCore<?> jsonCore : JsonCores.all()) {
+        assertEquals(jsonCore.parse(json), jsonCore.parseMapped(path));
+      }
+
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+          InputStream in = new MappedFileInputStream(channel, 7)) {
+        assertArrayEquals(bytes, in.readAllBytes());
+      }
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+          InputStream in = new MappedFileInputStream(channel, 7)) {
+        assertEquals(new JacksonJsonCore().parse(json), new JacksonJsonCore().parse(in));
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testParseNdjson() throws IOException {
+    String[] lines = {"{\"a\":1,\"b\":\"t\u00E9xt\"}", "[1,2.5,null]", "\"str\"", "123", "true",
+        "{\"b\":{\"c\":[{}]}}"};
+    String ndjson = "\n" + lines[0] + "\n" + lines[1] + "\r\n\n  " + lines[2] + " \n" + lines[3] + "\n"
+        + lines[4] + "\n\n" + lines[5];
+    byte[] bytes = ndjson.getBytes(StandardCharsets.UTF_8);
+    Path path = Files.createTempFile("json-base", ".ndjson");
+    Files.write(path, (ndjson + "\n").getBytes(StandardCharsets.UTF_8));
+
+    try {
+      for (JsonCore<?> jsonCore : JsonCores.all()) {
+        List<Object> expected =
+            Stream.of(lines).map(jsonCore::parse).collect(Collectors.toList());
+
+        assertEquals(expected,
+            jsonCore.parseNdjson(new ByteArrayInputStream(bytes)).collect(Collectors.toList()));
+        try (Stream<?> values = jsonCore.parseNdjson(path)) {
+          assertEquals(expected, values.collect(Collectors.toList()));
+        }
+        assertEquals(0, jsonCore.parseNdjson(new ByteArrayInputStream(new byte[0])).count());
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testJsonLinesIterator() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      sb.append("{\"index\":").append(i).append(",\"text\":\"").append("x".repeat(i % 20))
+          .append("\"}\n");
+    }
+    JsonLinesIterator<JacksonJsonValue> iterator = new JsonLinesIterator<>(new JacksonJsonCore(),
+        new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)));
+
+    int count = 0;
+    while (iterator.hasNext()) {
+      assertEquals(count, iterator.next().asObject().get("index").asInt());
+      count++;
+    }
+    assertEquals(5000, count);
+    assertThrows(java.util.NoSuchElementException.class, () -> iterator.next());
+  }
+
+  @Test
+  public void testParseNdjsonParallel() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      sb.append("{\"index\":").append(i).append(",\"tags\":[\"").append("t".repeat(i % 7))
+          .append("\"]}").append(i % 3 == 0 ? "\r\n" : "\n");
+      if (i % 1000 == 0) sb.append('\n');
+    }
+    Path path = Files.createTempFile("json-base", ".ndjson");
+    Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+
+    try {
+      for (JsonCore<?> jsonCore : JsonCores.all()) {
+        try (Stream<? extends JsonValueCore<?>> values = jsonCore.parseNdjsonParallel(path, true)) {
+          assertTrue(values.isParallel());
+          List<Integer> indexes =
+              values.map(v -> v.asObject().get("index").asInt()).collect(Collectors.toList());
+          assertEquals(20000, indexes.size());
+          for (int i = 0; i < indexes.size(); i++) {
+            assertEquals(i, indexes.get(i));
+          }
+        }
+        try (Stream<? extends JsonValueCore<?>> values =
+            jsonCore.parseNdjsonParallel(path, false)) {
+          assertEquals(20000L * 19999 / 2,
+              values.mapToLong(v -> v.asObject().get("index").asLong()).sum());
+        }
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testNdjsonSpliterator() throws IOException {
+    String ndjson = "1\n[2]\n\n{\"a\":3}\n\"4\"\n5";
+    Path path = Files.createTempFile("json-base", ".ndjson");
+    Files.write(path, ndjson.getBytes(StandardCharsets.UTF_8));
+
+    try (FileChannel channel = FileChannel.open(path)) {
+      NdjsonSpliterator<JacksonJsonValue> spliterator =
+          new NdjsonSpliterator<>(new JacksonJsonCore(), channel, 0, channel.size(), 2);
+      Spliterator<JsonValueCore<JacksonJsonValue>> prefix = spliterator.trySplit();
+      assertNotNull(prefix);
+
+      List<String> values = new ArrayList<>();
+      prefix.forEachRemaining(v -> values.add(v.toJson()));
+      int prefixCount = values.size();
+      spliterator.forEachRemaining(v -> values.add(v.toJson()));
+      assertTrue(prefixCount > 0 && prefixCount < values.size());
+      assertEquals(List.of("1", "[2]", "{\"a\":3}", "\"4\"", "5"), values);
+      assertNull(spliterator.trySplit());
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testNdjsonRejectsValuesNotFramedByLine() throws IOException {
+    for (String ndjson : List.of("{\"a\":\n1}\n[2]\n", "{\"a\":1}\n[2] [3]\n")) {
+      byte[] bytes = ndjson.getBytes(StandardCharsets.UTF_8);
+      Path path = Files.createTempFile("json-base", ".ndjson");
+      Files.write(path, bytes);
+
+      try {
+        for (JsonCore<?> jsonCore : JsonCores.all()) {
+          String name = jsonCore.getClass().getSimpleName();
+          assertThrows(RuntimeException.class, () -> {
+            try (Stream<? extends JsonValueCore<?>> values =
+                jsonCore.parseNdjson(new ByteArrayInputStream(bytes))) {
+              values.map(JsonValueCore::toJson).collect(Collectors.toList());
+            }
+          }, name);
+          assertThrows(RuntimeException.class, () -> {
+            try (Stream<? extends JsonValueCore<?>> values =
+                jsonCore.parseNdjsonParallel(path, true)) {
+              values.map(JsonValueCore::toJson).collect(Collectors.toList());
+            }
+          }, name);
+        }
+      } finally {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Test
+  public void testWrapperCache() {
+    String json = "{\"a\":{\"b\":[1,{\"c\":true},\"str\"]},\"d\":null}";
+
+    for (JsonCore<?> jsonCore : JsonCores.mutable(true)) {
+      testWrapperCache(jsonCore, json);
+    }
+  }
+
+  private <JVC extends JsonValueCore<JVC>> void testWrapperCache(JsonCore<JVC> jsonCore,
+      String json) {
+    JsonValueCore<JVC> value = jsonCore.parse(json);
+    JsonObjectCore<JVC> obj = value.asObject();
+    assertSame(obj, value.asObject());
+    assertSame(obj.asValue(), obj.asValue());
+    assertSame(obj.get("a"), obj.get("a"));
+    assertSame(obj.get("d"), obj.get("d"));
+    assertNull(obj.get("none"));
+
+    JsonArrayCore<JVC> ary = obj.get("a").asObject().get("b").asArray();
+    assertSame(ary, obj.get("a").asObject().get("b").asArray());
+    assertSame(ary.get(1), ary.get(1));
+    assertSame(ary.get(1).asObject().get("c"), ary.get(1).asObject().get("c"));
+    assertSame(ary.asValue(), ary.asValue());
+
+    List<Object> elements = new ArrayList<>();
+    ary.forEach(elements::add);
+    for (int i = 0; i < ary.size(); i++) {
+      assertSame(ary.get(i), elements.get(i));
+    }
+    for (Entry<String, JVC> member : obj) {
+      assertSame(member.getValue(), obj.get(member.getKey()));
+    }
+    assertEquals(jsonCore.parse(json), value);
+    assertEquals(json.length(), value.toJson().length());
+
+    // Mutations are visible through the cached wrappers
+    obj.set("d", jsonCore.parse("123"));
+    assertEquals(123, obj.get("d").asInt());
+    assertSame(obj.get("d"), obj.get("d"));
+    ary.remove(0);
+    assertTrue(ary.get(0).isObject());
+    assertEquals("str", ary.get(1).asString());
+    ary.add(jsonCore.parse("4.5"));
+    assertEquals(4.5, ary.get(2).asDouble());
+    assertEquals(3, ary.stream().count());
+  }
+
+  @Test
+  public void testWrapperCacheEviction() {
+    WrapperCache<GsonJsonValue> cache = new WrapperCache<>();
+    Function<Object, GsonJsonValue> factory = n -> new GsonJsonValue((JsonElement) n);
+    JsonElement node = JsonParser.parseString("1");
+
+    GsonJsonValue a = cache.member("a", node, factory);
+    GsonJsonValue b = cache.member("b", node, factory);
+    GsonJsonValue c = cache.member("c", node, factory);
+    cache.evictMember("a");
+    assertNotSame(a, cache.member("a", node, factory));
+    cache.evictMembers(List.of("b"));
+    assertNotSame(b, cache.member("b", node, factory));
+    cache.retainMembers(List.of("b"));
+    assertNotSame(c, cache.member("c", node, factory));
+
+    GsonJsonValue first = cache.element(0, 2, node, factory);
+    GsonJsonValue second = cache.element(1, 2, node, factory);
+    cache.evictElements(1);
+    assertSame(first, cache.element(0, 2, node, factory));
+    assertNotSame(second, cache.element(1, 2, node, factory));
+    cache.evictElements(5);
+  }
+
+  @Test
+  public void testTranscode() {
+    String json = "{\"str\":\"text\",\"num\":[123,1234567890123456789,45.67,"
+        + "1234567890123456789012345678901234567890],\"bool\":true,\"obj\":{},"
+        + "\"ary\":[[],[null,{\"a\":[false]}]]}";
+    List<JsonCore<?>> jsonCores = JsonCores.mutable();
+
+    for (JsonCore<?> target : jsonCores) {
+      for (JsonCore<?> source : jsonCores) {
+        testTranscode(target, source, json);
+      }
+      assertEquals(target.parse("null"), target.transcode(new GsonJsonCore().parse("null")));
+      assertEquals(target.parse("\"str\""),
+          target.transcode(new JacksonJsonCore().parse("\"str\"")));
+    }
+  }
+
+  private <JVC extends JsonValueCore<JVC>> void testTranscode(JsonCore<JVC> target,
+      JsonCore<?> source, String json) {
+    JsonValueCore<?> sourceValue = source.parse(json);
+    JsonValueCore<JVC> transcoded = target.transcode(sourceValue);
+    // Numbers keep the types of the source, e.g. org.json parses 45.67 as a BigDecimal
+    assertEquals(new GsonJsonCore().parse(json), new GsonJsonCore().parse(transcoded.toJson()));
+    assertEquals(source.parse("1.50").asBigDecimal(),
+        target.transcode(source.parse("1.50")).asBigDecimal());
+
+    JsonObjectCore<JVC> obj = target.parse("{}").asObject();
+    obj.set("a", sourceValue);
+    obj.set("b", sourceValue.asObject().get("num"));
+    assertEquals(transcoded, obj.get("a"));
+    assertEquals(transcoded.asObject().get("num"), obj.get("b"));
+
+    JsonArrayCore<JVC> ary = target.parse("[]").asArray();
+    ary.add(sourceValue);
+    ary.set(0, sourceValue.asObject().get("ary"));
+    ary.addAll(List.of(sourceValue.asObject().get("str"), sourceValue.asObject().get("bool")));
+    assertEquals(target.parse("[[[],[null,{\"a\":[false]}]],\"text\",true]").asArray(), ary);
+  }
+
+  @Test
+  public void testParseProjection() throws IOException {
+    String json = "{\"id\":\"e1\",\"type\":\"order\","
+        + "\"meta\":{\"route\":{\"key\":\"eu\",\"zone\":3},\"trace\":[1,2,3]},"
+        + "\"items\":[{\"sku\":\"a\",\"qty\":1},{\"sku\":\"b\",\"qty\":2},"
+        + "{\"sku\":\"c\",\"qty\":3}],\"payload\":{\"big\":[1,\"]}\",{\"x\":null}]},\"a/b\":true,"
+        + "\"m~n\":1.50,\"empty\":{}}";
+    JsonProjection projection = JsonProjection.of("/id", "/meta/route/key", "/items/1",
+        "/items/2/sku", "/a~1b", "/m~0n", "/missing/x", "/type/x", "/empty/x", "/payload/big/9");
+    String expected = "{\"id\":\"e1\",\"type\":\"order\",\"meta\":{\"route\":{\"key\":\"eu\"}},"
+        + "\"items\":[{\"sku\":\"b\",\"qty\":2},{\"sku\":\"c\"}],\"payload\":{\"big\":[]},"
+        + "\"a/b\":true,\"m~n\":1.50,\"empty\":{}}";
+    GsonJsonCore gsonCore = new GsonJsonCore();
+    JsonCore<GsonJsonValue> defaultCore = new JsonCore<GsonJsonValue>() {
+
+      @Override
+      public JsonValueCore<GsonJsonValue> parse(String json) {
+        return gsonCore.parse(json);
+      }
+
+      @Override
+      public JsonValueCore<GsonJsonValue> parse(Reader jsonReader) throws IOException {
+        return gsonCore.parse(jsonReader);
+      }
+
+    };
+
+    for (JsonCore<?> jsonCore : JsonCores.all(defaultCore)) {
+      String name = jsonCore.getClass().getSimpleName();
+      byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+      for (JsonValueCore<?> projected : List.of(jsonCore.parse(json, projection),
+          jsonCore.parse(new StringReader(json), projection),
+          jsonCore.parse(new ByteArrayInputStream(bytes), projection))) {
+        assertEquals(gsonCore.parse(expected), gsonCore.parse(projected.toJson()), name);
+      }
+      assertEquals(gsonCore.parse(json), gsonCore.parse(jsonCore.parse(json, JsonProjection.of(""))
+          .toJson()), name);
+      assertEquals("{}", jsonCore.parse(json, JsonProjection.of()).toJson(), name);
+      assertEquals("[[3]]", jsonCore.parse("[[1,2],[3,4]]", JsonProjection.of("/1/0")).toJson(),
+          name);
+      assertEquals("1", jsonCore.parse(" 1 ", JsonProjection.of("/a")).toJson(), name);
+      assertThrows(NullPointerException.class, () -> jsonCore.parse(json, null), name);
+    }
+
+    JsonProjection numbers = JsonProjection.of("/b/1");
+    JacksonJsonCore bigIntegerCore = new JacksonJsonCore(
+        new ObjectMapper().enable(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS));
+    assertEquals(bigIntegerCore.parse("{\"b\":[1]}"),
+        bigIntegerCore.parse("{\"a\":1,\"b\":[0,1]}", numbers));
+    assertNotEquals(new JacksonJsonCore().parse("{\"b\":[1]}"),
+        bigIntegerCore.parse("{\"a\":1,\"b\":[0,1]}", numbers));
+    assertThrows(RuntimeException.class,
+        () -> new Jackson3JsonCore().parse("{\"b\":[]} {}", numbers));
+    assertEquals("{\"b\":[]}", new JacksonJsonCore().parse("{\"b\":[]} {}", numbers).toJson());
+    for (JsonCore<?> jsonCore : List.of(new JacksonJsonCore(), new Jackson3JsonCore())) {
+      assertEquals(jsonCore.parse(""), jsonCore.parse("", numbers));
+      assertEquals(jsonCore.parse(""), jsonCore.parse(new StringReader(" "), numbers));
+    }
+
+    assertEquals("[/a, /c~1d, /e~0/0]",
+        JsonProjection.of("/a/b", "/a", "/c~1d", "/a/c", "/e~0/0").toString());
+    for (String invalid : new String[] {"a", "/~2", "/a~"}) {
+      assertThrows(IllegalArgumentException.class, () -> JsonProjection.of(invalid), invalid);
+    }
+  }
+
+  @Test
+  public void testTapeJsonCore() throws IOException {
+    String json =
+        "{\"str\":\"t\u00E9xt\",\"num\":[123,-4.5e-1,0],\"bool\":false,\"obj\":{\"a\":null}}";
+    TapeJsonCore jsonCore = new TapeJsonCore();
+    JsonValueCore<TapeJsonValue> value = jsonCore.parse(" \r\n\t" + json + " ");
+
+    assertEquals(json, value.toJson());
+    assertEquals(new JacksonJsonCore().parse(json).asObject().toMap(), value.asObject().toMap());
+    assertEquals(value, jsonCore.parse(new StringReader(json)));
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    assertEquals(value, jsonCore.parse(bytes));
+    assertEquals(value, jsonCore.parse(new ByteArrayInputStream(bytes)));
+    assertEquals(value, jsonCore.transcode(new GsonJsonCore().parse(json)));
+    assertEquals("\"str\"", jsonCore.parse("\"str\"").toJson());
+    assertEquals(-1, jsonCore.parse("-1").asInt());
+    assertTrue(jsonCore.parse("null").isNull());
+
+    String deep = "[".repeat(100000) + "]".repeat(100000);
+    assertEquals(deep, jsonCore.parse(deep).toJson());
+
+    for (String invalid : new String[] {"", " ", "{", "[1,]", "[1 2]", "{\"a\"}", "{\"a\":1,}",
+        "{1:2}", "{\"a\":1]", "[1}", "\"abc", "\"a\\x\"", "\"\\u12G4\"", "\"\\u12\"", "\"\t\"",
+        "tru", "nul", "fals", "01", "-", "1.", "1e", "1e+", ".5", "+1", "1 2", "[]]", "abc"}) {
+      assertThrows(IllegalArgumentException.class, () -> jsonCore.parse(invalid), invalid);
+    }
+  }
+
+  @Test
+  public void testLazyTapeJsonCore() {
+    String json = "{\"a\":[1,{\"b\":[],\"c\":{\"d\":\"]}\\\"[{\"}},[[null]]],\"e\":\"f\",\"g\":{}}";
+    TapeJsonCore jsonCore = new TapeJsonCore(true);
+    JsonValueCore<TapeJsonValue> value = jsonCore.parse(json);
+
+    assertEquals(new TapeJsonCore().parse(json), value);
+    assertEquals(json, value.toJson());
+    JsonObjectCore<TapeJsonValue> obj = value.asObject();
+    assertEquals(3, obj.size());
+    assertEquals("f", obj.get("e").asString());
+    assertEquals(3, obj.get("a").asArray().size());
+    assertEquals("]}\"[{", obj.get("a").asArray().get(1).asObject().get("c").asObject().get("d")
+        .asString());
+    assertTrue(obj.get("a").asArray().get(2).asArray().get(0).asArray().get(0).isNull());
+    assertTrue(obj.get("g").asObject().isEmpty());
+    assertEquals(new GsonJsonCore().parse(json).asObject().toMap(), obj.toMap());
+
+    String deep = "[".repeat(100000) + "]".repeat(100000);
+    assertEquals(deep, jsonCore.parse(deep).toJson());
+
+    // Nested containers are validated on first access
+    JsonObjectCore<TapeJsonValue> invalid = jsonCore.parse("{\"a\":1,\"b\":[1 2]}").asObject();
+    assertEquals(1, invalid.get("a").asInt());
+    assertThrows(IllegalArgumentException.class, () -> invalid.get("b"));
+    for (String unclosed : new String[] {"{\"a\":[1", "[{\"a\":\"]\"}", "[1,[2]"}) {
+      assertThrows(IllegalArgumentException.class, () -> jsonCore.parse(unclosed), unclosed);
+    }
+  }
+
+  @Test
+  public void testTapeJsonArena() throws IOException {
+    String json =
+        "{\"str\":\"t\u00E9\\\"xt\",\"num\":[123,-4.5e-1,0],\"bool\":false,\"obj\":{\"a\":null}}";
+    TapeJsonArena arena = new TapeJsonArena(1024);
+    TapeJsonCore jsonCore = new TapeJsonCore(arena);
+    JsonValueCore<TapeJsonValue> value = jsonCore.parse(json);
+
+    assertEquals(new TapeJsonCore().parse(json), value);
+    assertEquals(json, value.toJson());
+    assertEquals("t\u00E9\"xt", value.asObject().get("str").asString());
+    assertEquals(-0.45, value.asObject().get("num").asArray().get(1).asDouble());
+    assertEquals(value, jsonCore.parse(json.getBytes(StandardCharsets.UTF_8)));
+    assertEquals(1024, arena.capacity());
+
+    String large = "[" + "1,".repeat(200) + "1]";
+    assertEquals(large, jsonCore.parse(large).toJson());
+    assertEquals(1024 + 8 * 202 + large.length(), arena.capacity());
+    assertEquals(value, jsonCore.parse(json));
+    assertEquals(1024 + 8 * 202 + large.length(), arena.capacity());
+
+    assertFalse(arena.isClosed());
+    arena.close();
+    assertTrue(arena.isClosed());
+    assertEquals(0, arena.capacity());
+    assertThrows(IllegalStateException.class, () -> value.toJson());
+    assertThrows(IllegalStateException.class, () -> jsonCore.parse(json));
+    assertThrows(NullPointerException.class, () -> new TapeJsonCore(null));
+    assertThrows(IllegalArgumentException.class, () -> new TapeJsonArena(0));
+  }
+
 }
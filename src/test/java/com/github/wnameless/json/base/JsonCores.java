@@ -0,0 +1,71 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 
+ * The {@link JsonCore} implementations which the tests run against.
+ * 
+ * @author Wei-Ming Wu
+ *
+ */
+final class JsonCores {
+
+  private JsonCores() {}
+
+  /**
+   * Returns all built-in {@link JsonCore}s, including both the eager and the lazy tape, followed by
+   * given extra ones.
+   * 
+   * @param extras any extra {@link JsonCore}s
+   * @return a list of {@link JsonCore}
+   */
+  static List<JsonCore<?>> all(JsonCore<?>... extras) {
+    List<JsonCore<?>> jsonCores = new ArrayList<>(mutable());
+    jsonCores.add(new TapeJsonCore());
+    jsonCores.add(new TapeJsonCore(true));
+    jsonCores.addAll(Arrays.asList(extras));
+    return jsonCores;
+  }
+
+  /**
+   * Returns the built-in {@link JsonCore}s which produce mutable JSON values, i.e. all but the
+   * tape.
+   * 
+   * @return a list of {@link JsonCore}
+   */
+  static List<JsonCore<?>> mutable() {
+    return mutable(false);
+  }
+
+  /**
+   * Returns the built-in {@link JsonCore}s which produce mutable JSON values, i.e. all but the
+   * tape.
+   * 
+   * @param wrapperCache true if the wrappers of members and elements should be cached
+   * @return a list of {@link JsonCore}
+   */
+  static List<JsonCore<?>> mutable(boolean wrapperCache) {
+    return List.of(new GsonJsonCore(wrapperCache), new JacksonJsonCore(wrapperCache),
+        new Jackson3JsonCore(wrapperCache), new OrgJsonCore(wrapperCache),
+        new JakartaJsonCore(wrapperCache));
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map.Entry;
+import org.junit.jupiter.api.Test;
+
+public class JsonCursorTest {
+
+  String json = "{\"str\":\"text\",\"int\":123,\"long\":1234567890123456789,\"double\":45.67,"
+      + "\"bool\":true,\"null\":null,\"emptyObj\":{},\"emptyAry\":[],"
+      + "\"ary\":[1,\"two\",[3.5,{\"four\":false}],{}],\"obj\":{\"a\":{\"b\":[null]}}}";
+
+  List<JsonCore<?>> jsonCores = JsonCores.all();
+
+  @Test
+  public void testWalk() {
+    for (JsonCore<?> jsonCore : jsonCores) {
+      JsonValueCore<?> value = jsonCore.parse(json);
+      String expected = describe(value, 0, null, -1);
+
+      assertEquals(expected, walk(value.cursor()));
+      assertEquals(expected, walk(value.asObject().cursor()));
+      assertEquals(expected, walk(new WrapperJsonCursor(value)));
+    }
+  }
+
+  @Test
+  public void testArrayCursor() {
+    for (JsonCore<?> jsonCore : jsonCores) {
+      JsonArrayCore<?> ary = jsonCore.parse(json).asObject().get("ary").asArray();
+      JsonCursor cursor = ary.cursor();
+      assertTrue(cursor.isArray());
+      assertEquals(4, cursor.size());
+      assertEquals(-1, cursor.index());
+
+      assertTrue(cursor.moveToFirstChild());
+      assertNull(cursor.fieldName());
+      assertEquals(0, cursor.index());
+      assertEquals(1, cursor.asInt());
+      assertEquals(1, cursor.asNumber());
+      assertTrue(cursor.moveToNext());
+      assertEquals("two", cursor.asString());
+      assertTrue(cursor.moveToNext());
+      assertTrue(cursor.moveToFirstChild());
+      assertEquals(3.5, cursor.asDouble());
+      assertEquals(new BigDecimal("3.5"), cursor.asBigDecimal());
+      assertTrue(cursor.moveToNext());
+      assertTrue(cursor.moveToFirstChild());
+      assertEquals("four", cursor.fieldName());
+      assertFalse(cursor.asBoolean());
+      assertFalse(cursor.moveToNext());
+      assertFalse(cursor.moveToFirstChild());
+      assertEquals(3, cursor.depth());
+      assertThrows(UnsupportedOperationException.class, () -> cursor.size());
+
+      cursor.reset();
+      assertEquals(0, cursor.depth());
+      assertTrue(cursor.isArray());
+      assertFalse(cursor.moveToParent());
+      assertFalse(cursor.moveToNext());
+      assertTrue(cursor.moveToFirstChild());
+      assertTrue(cursor.moveToParent());
+      assertEquals(0, cursor.depth());
+    }
+  }
+
+  @Test
+  public void testDeepNesting() {
+    String deep = "[".repeat(100) + "\"bottom\"" + "]".repeat(100);
+    for (JsonCore<?> jsonCore : jsonCores) {
+      JsonCursor cursor = jsonCore.parse(deep).cursor();
+      while (cursor.moveToFirstChild());
+      assertEquals(100, cursor.depth());
+      assertEquals("bottom", cursor.asString());
+      while (cursor.moveToParent());
+      assertEquals(0, cursor.depth());
+      assertEquals(1, cursor.size());
+    }
+  }
+
+  @Test
+  public void testNumbers() {
+    for (JsonCore<?> jsonCore : jsonCores) {
+      JsonObjectBase<?> obj = jsonCore.parse(json).asObject();
+      JsonCursor cursor = obj.cursor();
+      assertTrue(cursor.moveToFirstChild());
+      do {
+        if (cursor.isNumber()) {
+          JsonValueBase<?> value = obj.get(cursor.fieldName());
+          assertEquals(value.asNumber(), cursor.asNumber());
+          assertEquals(value.asDouble(), cursor.asDouble());
+          if (!cursor.fieldName().equals("double")) {
+            assertEquals(value.asLong(), cursor.asLong());
+            assertEquals(value.asBigInteger(), cursor.asBigInteger());
+          }
+        }
+      } while (cursor.moveToNext());
+      cursor.reset();
+      cursor.moveToFirstChild();
+      while (!cursor.fieldName().equals("long")) {
+        cursor.moveToNext();
+      }
+      assertEquals(new BigInteger("1234567890123456789"), cursor.asBigInteger());
+    }
+  }
+
+  private String walk(JsonCursor cursor) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(describeNode(cursor.depth(), cursor.fieldName(), cursor.index(), cursor));
+    if (cursor.moveToFirstChild()) {
+      do {
+        sb.append(walk(cursor));
+      } while (cursor.moveToNext());
+      cursor.moveToParent();
+    }
+    return sb.toString();
+  }
+
+  private String describe(JsonValueBase<?> value, int depth, String name, int index) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(describeNode(depth, name, index, new WrapperJsonCursor(value)));
+    if (value.isObject()) {
+      int i = 0;
+      for (Entry<String, ?> member : value.asObject()) {
+        sb.append(describe((JsonValueBase<?>) member.getValue(), depth + 1, member.getKey(), i++));
+      }
+    } else if (value.isArray()) {
+      int i = 0;
+      for (JsonValueBase<?> element : value.asArray()) {
+        sb.append(describe(element, depth + 1, null, i++));
+      }
+    }
+    return sb.toString();
+  }
+
+  private String describeNode(int depth, String name, int index, JsonCursor cursor) {
+    String node;
+    if (cursor.isObject()) {
+      node = "object(" + cursor.size() + ")";
+    } else if (cursor.isArray()) {
+      node = "array(" + cursor.size() + ")";
+    } else if (cursor.isString()) {
+      node = "string:" + cursor.asString();
+    } else if (cursor.isBoolean()) {
+      node = "boolean:" + cursor.asBoolean();
+    } else if (cursor.isNumber()) {
+      node = "number:" + cursor.asBigDecimal();
+    } else {
+      assertTrue(cursor.isNull());
+      node = "null";
+    }
+    return depth + "|" + name + "|" + index + "|" + node + "\n";
+  }
+
+}
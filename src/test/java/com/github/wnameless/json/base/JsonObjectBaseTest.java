@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.json.JSONObject;
@@ -222,6 +223,84 @@ public class JsonObjectBaseTest {
     assertEquals(map, orgObj.toMap());
   }
 
+  @Test
+  public void testAsMapView() {
+    for (JsonObjectBase<?> obj : Arrays.asList(gsonObj, jacksonObj, jackson3Obj, orgObj,
+        jakartaObj)) {
+      Map<String, Object> view = obj.asMapView();
+      assertEquals(obj.toMap(), view);
+      assertEquals(view, obj.toMap());
+      assertEquals(obj.toMap().hashCode(), view.hashCode());
+      assertEquals(new ArrayList<>(obj.toMap().keySet()), new ArrayList<>(view.keySet()));
+      assertEquals(obj.size(), view.size());
+      assertEquals(str, view.get("str"));
+      assertEquals(obj.get("num").asArray().asListView(), view.get("num"));
+      assertTrue(view.containsKey("obj"));
+      assertNull(view.get("obj"));
+      assertFalse(view.containsKey("none"));
+      assertNull(view.get("none"));
+      assertNull(view.get(1));
+      assertThrows(UnsupportedOperationException.class, () -> view.put("str", "new"));
+      assertThrows(UnsupportedOperationException.class, () -> view.remove("str"));
+      assertThrows(UnsupportedOperationException.class,
+          () -> view.entrySet().iterator().next().setValue("new"));
+    }
+
+    JacksonJsonCore jsonCore = new JacksonJsonCore();
+    JacksonJsonObject obj = jsonCore.parse("{\"a\":{\"b\":[1]}}").asObject();
+    Map<String, Object> view = obj.asMapView();
+    obj.get("a").asObject().set("c", jsonCore.parse("true"));
+    assertEquals(Map.of("a", Map.of("b", List.of(1), "c", true)), view);
+  }
+
+  @Test
+  public void testOrgJsonEntries() {
+    JSONObject jsonObject = new JSONObject();
+    for (int i = 0; i < 1000; i++) {
+      jsonObject.put("k" + i, i % 2 == 0 ? i : JSONObject.NULL);
+    }
+    List<String> names = new ArrayList<>();
+    OrgJsonObject.entries(jsonObject).forEachRemaining(member -> {
+      assertSame(jsonObject.get(member.getKey()), member.getValue());
+      names.add(member.getKey());
+    });
+    assertEquals(new ArrayList<>(jsonObject.keySet()), names);
+
+    OrgJsonObject obj = new OrgJsonObject(jsonObject);
+    assertEquals(names, obj.stream().map(Entry::getKey).collect(Collectors.toList()));
+    assertEquals(jsonObject.toMap(), obj.toMap());
+    assertEquals(jsonObject.toMap(), new OrgJsonObject(jsonObject, true).toMap());
+  }
+
+  @Test
+  public void testTapeObject() {
+    JsonObjectCore<TapeJsonValue> obj = new TapeJsonCore()
+        .parse("{\"a\":[1,{\"a\":2}],\"t\u00E9\":3,\"\\u0062\":4,\"ab\":5,\"\":6}").asObject();
+
+    assertArrayEquals(new String[] {"a", "t\u00E9", "b", "ab", ""},
+        Iterators.toArray(obj.names(), String.class));
+    assertEquals(5, obj.size());
+    assertFalse(obj.isEmpty());
+    assertEquals(3, obj.get("t\u00E9").asInt());
+    assertEquals(4, obj.get("b").asInt());
+    assertEquals(5, obj.get("ab").asInt());
+    assertEquals(6, obj.get("").asInt());
+    assertEquals(2, obj.get("a").asArray().get(1).asObject().get("a").asInt());
+    assertTrue(obj.contains("b"));
+    assertFalse(obj.contains("c"));
+    assertFalse(obj.contains("t"));
+    assertNull(obj.get("abc"));
+    assertThrows(NullPointerException.class, () -> obj.get(null));
+    assertEquals(List.of("a", "t\u00E9", "b", "ab", ""),
+        obj.stream().map(Entry::getKey).collect(Collectors.toList()));
+    assertEquals(new JacksonJsonCore().parse(obj.toJson()).asObject().toMap(), obj.toMap());
+    assertTrue(new TapeJsonCore().parse("{}").asObject().isEmpty());
+
+    assertThrows(UnsupportedOperationException.class, () -> obj.set("a", obj.get("b")));
+    assertThrows(UnsupportedOperationException.class, () -> obj.remove("a"));
+    assertThrows(UnsupportedOperationException.class, () -> obj.removeAll(List.of("a")));
+  }
+
   @Test
   public void testStream() {
     assertEquals(StreamSupport.stream(gsonObj.spliterator(), false).collect(Collectors.toList()),
@@ -237,4 +316,15 @@ public class JsonObjectBaseTest {
         jakartaObj.stream().collect(Collectors.toList()));
   }
 
+  @Test
+  public void testParallelStream() {
+    for (JsonObjectBase<?> obj : Arrays.asList(gsonObj, jacksonObj, jackson3Obj, orgObj,
+        jakartaObj)) {
+      assertEquals(obj.size(), obj.spliterator().getExactSizeIfKnown());
+      assertTrue(obj.parallelStream().isParallel());
+      assertEquals(obj.stream().collect(Collectors.toList()),
+          obj.parallelStream().collect(Collectors.toList()));
+    }
+  }
+
 }
@@ -21,12 +21,19 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Lists;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
@@ -163,6 +170,34 @@ public class JsonObjectCoreTest {
     assertFalse(jakartaObj.contains("text"));
   }
 
+  @Test
+  public void testBulkMutations() {
+    for (JsonCore<?> jsonCore : JsonCores.mutable()) {
+      JsonObjectCore<?> obj = jsonCore.parse("{\"a\":1,\"b\":2,\"c\":3}").asObject();
+      Map<String, JsonSource> members = new LinkedHashMap<>();
+      members.put("b", jsonCore.parse("\"x\""));
+      members.put("d", jsonCore.parse("[true]"));
+      members.put("e", jsonCore.parse("null"));
+      obj.setAll(members);
+      obj.setAll(Map.of());
+      assertEquals(jsonCore.parse("{\"a\":1,\"b\":\"x\",\"c\":3,\"d\":[true],\"e\":null}"),
+          obj.asValue());
+
+      assertTrue(obj.removeAll(List.of("a", "z")));
+      assertFalse(obj.removeAll(List.of("a", "z")));
+      assertFalse(obj.removeAll(List.of()));
+      assertEquals(Arrays.asList("b", "c", "d", "e"), Lists.newArrayList(obj.names()));
+
+      assertTrue(obj.retainAll(Set.of("c", "e", "z")));
+      assertFalse(obj.retainAll(Set.of("c", "e", "z")));
+      assertEquals(jsonCore.parse("{\"c\":3,\"e\":null}"), obj.asValue());
+
+      assertThrows(NullPointerException.class, () -> obj.setAll(null));
+      assertThrows(NullPointerException.class, () -> obj.removeAll(null));
+      assertThrows(NullPointerException.class, () -> obj.retainAll(null));
+    }
+  }
+
   @Test
   public void testEquals() {
     assertEquals(new GsonJsonObject((JsonObject) gsonObj.getSource()), gsonObj);
@@ -378,4 +413,41 @@ public class JsonObjectCoreTest {
     assertTrue(jakartaObj.getSource() instanceof jakarta.json.JsonObject);
   }
 
+  @Test
+  public void testJakartaMutationOverlay() {
+    JakartaJsonCore jsonCore = new JakartaJsonCore(true);
+    JakartaJsonObject obj = jsonCore.parse("{\"k0\":0}").asObject();
+    jakarta.json.JsonObject source = (jakarta.json.JsonObject) obj.getSource();
+    StringBuilder json = new StringBuilder("{\"k0\":0");
+    for (int i = 1; i < 20000; i++) {
+      obj.set("k" + i, jsonCore.parse(String.valueOf(i)));
+      json.append(",\"k").append(i).append("\":").append(i);
+    }
+    json.append('}');
+    assertEquals(1, source.size());
+    assertEquals(20000, obj.size());
+    assertTrue(obj.contains("k19999"));
+    assertEquals(19999, obj.get("k19999").asInt());
+    assertEquals(jsonCore.parse(json.toString()).asObject(), obj);
+    assertEquals(jsonCore.parse(json.toString()).asObject().hashCode(), obj.hashCode());
+    assertEquals(json.toString(), obj.toJson());
+    assertSame(obj.getSource(), obj.getSource());
+    assertSame(obj.getSource(), obj.asValue().getSource());
+
+    obj.set("k0", jsonCore.parse("\"a\""));
+    assertTrue(obj.remove("k1"));
+    assertFalse(obj.remove("k1"));
+    assertEquals(19999, obj.size());
+    assertEquals("k0", obj.names().next());
+    assertEquals("a", ((jakarta.json.JsonObject) obj.getSource()).getString("k0"));
+    assertFalse(((jakarta.json.JsonObject) obj.getSource()).containsKey("k1"));
+    assertEquals("a", obj.asValue().asObject().get("k0").asString());
+    assertThrows(NullPointerException.class, () -> obj.set(null, jsonCore.parse("0")));
+    assertThrows(UnsupportedOperationException.class, () -> {
+      Iterator<String> names = obj.names();
+      names.next();
+      names.remove();
+    });
+  }
+
 }
@@ -16,7 +16,10 @@
 package com.github.wnameless.json.base;
 
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
@@ -75,6 +78,94 @@ public class JsonPrinterTest {
     assertEquals(prettyJson, JsonPrinter.prettyPrint(minimalJson));
   }
 
+  @Test
+  public void testWhitespaces() {
+    String json = "{\t\"a b\"\u000B:\f[ 1,\r\n2 ],\"c\":\"\u00A0\"\u00A0}";
+
+    assertEquals("{\"a b\":[1,2],\"c\":\"\u00A0\"\u00A0}", JsonPrinter.minimalPrint(json));
+    assertEquals("{\n  \"a b\" : [ 1, 2 ],\n  \"c\" : \"\u00A0\"\u00A0\n}",
+        JsonPrinter.prettyPrint(json));
+  }
+
+  @Test
+  public void testStreamingMinimalPrint() throws IOException {
+    URL url = Resources.getResource("minimal-double-quotes-escaped.json");
+    String minimalJson = Resources.toString(url, StandardCharsets.UTF_8);
+    url = Resources.getResource("pretty-double-quotes-escaped.json");
+    String prettyJson = Resources.toString(url, StandardCharsets.UTF_8);
+
+    StringBuilder sb = new StringBuilder();
+    JsonPrinter.minimalPrint(prettyJson, sb);
+    assertEquals(minimalJson, sb.toString());
+
+    StringWriter writer = new StringWriter();
+    JsonPrinter.minimalPrint(new StringReader(prettyJson), writer);
+    assertEquals(minimalJson, writer.toString());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonPrinter.minimalPrint(new StringReader(prettyJson), out);
+    assertEquals(minimalJson, out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testStreamingPrettyPrint() throws IOException {
+    URL url = Resources.getResource("minimal-double-quotes-escaped.json");
+    String minimalJson = Resources.toString(url, StandardCharsets.UTF_8);
+    url = Resources.getResource("pretty-double-quotes-escaped.json");
+    String prettyJson = Resources.toString(url, StandardCharsets.UTF_8);
+
+    StringBuilder sb = new StringBuilder();
+    JsonPrinter.prettyPrint(minimalJson, sb);
+    assertEquals(prettyJson, sb.toString());
+
+    StringWriter writer = new StringWriter();
+    JsonPrinter.prettyPrint(new StringReader(minimalJson), writer);
+    assertEquals(prettyJson, writer.toString());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonPrinter.prettyPrint(new StringReader(minimalJson), out);
+    assertEquals(prettyJson, out.toString(StandardCharsets.UTF_8));
+
+    out = new ByteArrayOutputStream();
+    JsonPrinter.prettyPrint(new StringReader(minimalJson), out, "\t");
+    assertEquals(JsonPrinter.prettyPrint(minimalJson, "\t"), out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testStreamingLargeInput() throws IOException {
+    URL url = Resources.getResource("pretty-double-quotes-escaped.json");
+    String prettyJson = Resources.toString(url, StandardCharsets.UTF_8);
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < 1000; i++) {
+      if (i > 0) sb.append(",\n");
+      sb.append(prettyJson).append("\"\u00E9\\\\\"");
+    }
+    String json = sb.append(']').toString();
+
+    StringWriter writer = new StringWriter();
+    JsonPrinter.minimalPrint(new StringReader(json), writer);
+    assertEquals(JsonPrinter.minimalPrint(json), writer.toString());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonPrinter.prettyPrint(new StringReader(json), out);
+    assertEquals(JsonPrinter.prettyPrint(json), out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testToJsonStringWithAppendable() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    JsonPrinter.toJsonString("", sb);
+    assertEquals("\"\"", sb.toString());
+
+    sb = new StringBuilder();
+    JsonPrinter.toJsonString(null, sb);
+    assertEquals("\"\"", sb.toString());
+
+    StringWriter writer = new StringWriter();
+    JsonPrinter.toJsonString("\"\\\b\n\t\f\rabc", writer);
+    assertEquals(JsonPrinter.toJsonString("\"\\\b\n\t\f\rabc"), writer.toString());
+  }
+
   @Test
   public void testToJsonString() {
     String str = "";
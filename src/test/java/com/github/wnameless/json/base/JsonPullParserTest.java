@@ -0,0 +1,250 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.json.base;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.github.wnameless.json.base.JsonPullParser.Token;
+
+public class JsonPullParserTest {
+
+  String json = "{\"str\":\"text\",\"int\":123,\"long\":1234567890123456789,\"double\":45.67,"
+      + "\"bool\":true,\"null\":null,\"emptyObj\":{},\"emptyAry\":[],"
+      + "\"ary\":[1,\"two\",[3.5,{\"four\":false}],{}]}";
+
+  String tokens = "START_OBJECT FIELD_NAME(str) STRING(text) FIELD_NAME(int) NUMBER(123) "
+      + "FIELD_NAME(long) NUMBER(1234567890123456789) FIELD_NAME(double) NUMBER(45.67) "
+      + "FIELD_NAME(bool) TRUE(true) FIELD_NAME(null) NULL(null) "
+      + "FIELD_NAME(emptyObj) START_OBJECT END_OBJECT FIELD_NAME(emptyAry) START_ARRAY END_ARRAY "
+      + "FIELD_NAME(ary) START_ARRAY NUMBER(1) STRING(two) START_ARRAY NUMBER(3.5) START_OBJECT "
+      + "FIELD_NAME(four) FALSE(false) END_OBJECT END_ARRAY START_OBJECT END_OBJECT END_ARRAY "
+      + "END_OBJECT";
+
+  List<JsonCore<?>> jsonCores = JsonCores.all(new JsonCore<GsonJsonValue>() {
+
+    @Override
+    public JsonValueCore<GsonJsonValue> parse(String json) {
+      return new GsonJsonCore().parse(json);
+    }
+
+    @Override
+    public JsonValueCore<GsonJsonValue> parse(Reader jsonReader) throws IOException {
+      return new GsonJsonCore().parse(jsonReader);
+    }
+
+  });
+
+  @Test
+  public void testTokens() throws IOException {
+    for (JsonCore<?> jsonCore : jsonCores) {
+      String name = jsonCore.getClass().getSimpleName();
+      try (JsonPullParser parser = jsonCore.pullParser(json)) {
+        assertNull(parser.currentToken(), name);
+        assertEquals(tokens, read(parser), name);
+        assertNull(parser.currentToken(), name);
+        assertNull(parser.next(), name);
+      }
+      try (JsonPullParser parser = jsonCore.pullParser(new StringReader(json))) {
+        assertEquals(tokens, read(parser), name);
+      }
+      try (JsonPullParser parser = jsonCore
+          .pullParser(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+        assertEquals(tokens, read(parser), name);
+      }
+      try (JsonPullParser parser = jsonCore.pullParser(" \"text\" ")) {
+        assertEquals("STRING(text)", read(parser), name);
+      }
+      try (JsonPullParser parser = jsonCore.pullParser("[[]]")) {
+        assertEquals("START_ARRAY START_ARRAY END_ARRAY END_ARRAY", read(parser), name);
+      }
+    }
+  }
+
+  @Test
+  public void testSkipChildren() throws IOException {
+    for (JsonCore<?> jsonCore : jsonCores) {
+      String name = jsonCore.getClass().getSimpleName();
+      try (JsonPullParser parser = jsonCore.pullParser(json)) {
+        assertEquals(Token.START_OBJECT, parser.next(), name);
+        parser.next();
+        parser.next();
+        parser.skipChildren();
+        assertEquals(Token.STRING, parser.currentToken(), name);
+        while (parser.next() != Token.FIELD_NAME || !parser.fieldName().equals("ary"));
+        assertEquals(Token.START_ARRAY, parser.next(), name);
+        parser.skipChildren();
+        assertEquals(Token.END_ARRAY, parser.currentToken(), name);
+        assertEquals(Token.END_OBJECT, parser.next(), name);
+        assertNull(parser.next(), name);
+      }
+      try (JsonPullParser parser = jsonCore.pullParser(json)) {
+        parser.next();
+        parser.skipChildren();
+        assertEquals(Token.END_OBJECT, parser.currentToken(), name);
+        assertNull(parser.next(), name);
+      }
+    }
+  }
+
+  @Test
+  public void testScalars() throws IOException {
+    for (JsonCore<?> jsonCore : jsonCores) {
+      String name = jsonCore.getClass().getSimpleName();
+      JsonObjectBase<?> obj = jsonCore.parse(json).asObject();
+      try (JsonPullParser parser = jsonCore.pullParser(json)) {
+        assertThrows(IllegalStateException.class, () -> parser.text(), name);
+        parser.next();
+        assertThrows(IllegalStateException.class, () -> parser.text(), name);
+        assertThrows(IllegalStateException.class, () -> parser.fieldName(), name);
+        String fieldName = null;
+        for (Token token = parser.next(); token != Token.END_OBJECT; token = parser.next()) {
+          if (token == Token.FIELD_NAME) {
+            fieldName = parser.fieldName();
+            assertEquals(fieldName, parser.text(), name);
+            assertThrows(IllegalStateException.class, () -> parser.asString(), name);
+            continue;
+          }
+
+          JsonValueBase<?> value = obj.get(fieldName);
+          if (token == Token.NUMBER) {
+            assertEquals(value.asNumber(), parser.asNumber(), name);
+            if (!fieldName.equals("long")) assertEquals(value.asInt(), parser.asInt(), name);
+            assertEquals(value.asLong(), parser.asLong(), name);
+            assertEquals(value.asDouble(), parser.asDouble(), name);
+            assertEquals(0, value.asBigDecimal().compareTo(parser.asBigDecimal()), name);
+            assertEquals(value.asBigDecimal().toBigInteger(), parser.asBigInteger(), name);
+            assertThrows(IllegalStateException.class, () -> parser.asBoolean(), name);
+          } else if (token == Token.STRING) {
+            assertEquals(value.asString(), parser.asString(), name);
+            assertThrows(IllegalStateException.class, () -> parser.asNumber(), name);
+          } else if (token == Token.TRUE || token == Token.FALSE) {
+            assertEquals(value.asBoolean(), parser.asBoolean(), name);
+            assertThrows(IllegalStateException.class, () -> parser.asBigDecimal(), name);
+          } else if (token == Token.NULL) {
+            assertTrue(value.isNull(), name);
+            assertThrows(IllegalStateException.class, () -> parser.asBoolean(), name);
+          } else {
+            assertTrue(token.isStart(), name);
+            parser.skipChildren();
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testNumberText() throws IOException {
+    List<String> numbers = List.of("1e2", "-0.50", "1E+2", "12345678901234567890");
+    for (JsonCore<?> jsonCore : jsonCores) {
+      String name = jsonCore.getClass().getSimpleName();
+      try (JsonPullParser parser = jsonCore.pullParser(numbers.toString())) {
+        parser.next();
+        for (String number : numbers) {
+          assertEquals(Token.NUMBER, parser.next(), name);
+          assertEquals(0, new BigDecimal(number).compareTo(new BigDecimal(parser.text())), name);
+        }
+      }
+    }
+
+    // A tape keeps the JSON text of its numbers
+    for (TapeJsonCore jsonCore : List.of(new TapeJsonCore(), new TapeJsonCore(true))) {
+      try (JsonPullParser parser = jsonCore.pullParser(numbers.toString())) {
+        parser.next();
+        for (String number : numbers) {
+          parser.next();
+          assertEquals(number, parser.text());
+        }
+      }
+      try (JsonPullParser parser = jsonCore.pullParser("1e2")) {
+        parser.next();
+        assertEquals("1e2", parser.text());
+      }
+    }
+  }
+
+  @Test
+  public void testClose() throws IOException {
+    for (JsonCore<?> jsonCore : jsonCores) {
+      boolean[] closed = new boolean[1];
+      Reader reader = new StringReader(json) {
+
+        @Override
+        public void close() {
+          closed[0] = true;
+          super.close();
+        }
+
+      };
+      jsonCore.pullParser(reader).close();
+      assertTrue(closed[0], jsonCore.getClass().getSimpleName());
+    }
+  }
+
+  @Test
+  public void testToken() {
+    for (Token token : Token.values()) {
+      assertEquals(token == Token.START_OBJECT || token == Token.START_ARRAY, token.isStart());
+      assertEquals(token == Token.END_OBJECT || token == Token.END_ARRAY, token.isEnd());
+      assertEquals(!token.isStart() && !token.isEnd() && token != Token.FIELD_NAME,
+          token.isScalar());
+    }
+  }
+
+  @Test
+  public void testAdapters() throws IOException {
+    try (JsonPullParser parser = new JacksonJsonPullParser(
+        new com.fasterxml.jackson.core.JsonFactory().createParser(json))) {
+      assertEquals(tokens, read(parser));
+    }
+    try (JsonPullParser parser = new Jackson3JsonPullParser(
+        new tools.jackson.core.json.JsonFactory()
+            .createParser(tools.jackson.core.ObjectReadContext.empty(), json))) {
+      assertEquals(tokens, read(parser));
+    }
+    try (JsonPullParser parser =
+        new GsonJsonPullParser(new com.google.gson.stream.JsonReader(new StringReader(json)))) {
+      assertEquals(tokens, read(parser));
+    }
+    try (JsonPullParser parser =
+        new JakartaJsonPullParser(jakarta.json.Json.createParser(new StringReader(json)))) {
+      assertEquals(tokens, read(parser));
+    }
+    try (JsonPullParser parser = new OrgJsonPullParser(new org.json.JSONTokener(json))) {
+      assertEquals(tokens, read(parser));
+    }
+    assertThrows(NullPointerException.class, () -> new GsonJsonPullParser(null));
+  }
+
+  String read(JsonPullParser parser) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (Token token = parser.next(); token != null; token = parser.next()) {
+      if (sb.length() > 0) sb.append(' ');
+      sb.append(token);
+      if (token == Token.FIELD_NAME || token.isScalar()) {
+        sb.append('(').append(parser.text()).append(')');
+      }
+    }
+    return sb.toString();
+  }
+
+}
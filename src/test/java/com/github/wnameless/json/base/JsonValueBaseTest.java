@@ -466,6 +466,75 @@ public class JsonValueBaseTest {
         jsonValue.asObject().get("num").asArray().toJson());
   }
 
+  @Test
+  public void testTapeValue() {
+    String json = " { \"str\" : \"\\\"t\\u00E9xt\u4E2D\\\\\\n\" , \"num\" : [ 123, "
+        + "1234567890123456789 , 45.67,1234567890123456789012345678901234567890,"
+        + "45.678912367891236789123678912367891236789123,-0.5e1 ], \"bool\":true,"
+        + "\"obj\":null, \"empty\":{}, \"raw\":\"t\\/xt\" } ";
+    jsonValue = new TapeJsonCore().parse(json);
+
+    assertTrue(jsonValue.isObject());
+    assertFalse(jsonValue.isArray());
+    assertTrue(jsonValue.asObject().get("str").isString());
+    assertFalse(jsonValue.asObject().get("str").isNumber());
+    assertEquals("\"t\u00E9xt\u4E2D\\\n", jsonValue.asObject().get("str").asString());
+    assertEquals("t/xt", jsonValue.asObject().get("raw").asString());
+    assertTrue(jsonValue.asObject().get("num").isArray());
+    JsonArrayBase<?> num = jsonValue.asObject().get("num").asArray();
+    assertTrue(num.get(0).isNumber());
+    assertEquals(i, num.get(0).asInt());
+    assertEquals(i, num.get(0).asNumber());
+    assertEquals(l, num.get(1).asLong());
+    assertEquals(l, num.get(1).asNumber());
+    assertEquals(d, num.get(2).asDouble(), 0.0);
+    assertEquals(d, num.get(2).asNumber());
+    assertEquals(45, num.get(2).asInt());
+    assertEquals(bi, num.get(3).asBigInteger());
+    assertEquals(bi, num.get(3).asNumber());
+    assertEquals(bd, num.get(4).asBigDecimal());
+    assertEquals(bd, num.get(4).asNumber());
+    assertEquals(-5, num.get(5).asLong());
+    assertEquals(BigInteger.valueOf(-5), num.get(5).asBigInteger());
+    assertTrue(jsonValue.asObject().get("bool").isBoolean());
+    assertTrue(jsonValue.asObject().get("bool").asBoolean());
+    assertTrue(jsonValue.asObject().get("obj").isNull());
+    assertSame(null, jsonValue.asObject().get("obj").asNull());
+    assertTrue(jsonValue.asObject().get("empty").asObject().isEmpty());
+
+    assertThrows(UnsupportedOperationException.class,
+        () -> jsonValue.asObject().get("str").asInt());
+    assertThrows(UnsupportedOperationException.class,
+        () -> jsonValue.asObject().get("num").asString());
+    assertThrows(UnsupportedOperationException.class,
+        () -> jsonValue.asObject().get("obj").asBoolean());
+    assertThrows(UnsupportedOperationException.class, () -> jsonValue.asArray());
+    assertThrows(UnsupportedOperationException.class,
+        () -> jsonValue.asObject().get("bool").asObject());
+
+    assertSame(jsonValue, jsonValue.asValue());
+    assertSame(jsonValue, ((TapeJsonValue) jsonValue).getSource());
+
+    new EqualsTester().addEqualityGroup(jsonValue, jsonValue.asObject().asValue())
+        .addEqualityGroup(jsonValue.asObject(), jsonValue.asObject())
+        .addEqualityGroup(num, jsonValue.asObject().get("num").asArray(),
+            new TapeJsonCore().parse(num.toJson()).asArray())
+        .testEquals();
+    assertEquals(new TapeJsonCore().parse("{\"b\":[1.5],\"a\":\"x\"}"),
+        new TapeJsonCore().parse("{\"a\":\"x\",\"b\":[1.5]}"));
+    assertNotEquals(new TapeJsonCore().parse("[1.5]"), new TapeJsonCore().parse("[1.50]"));
+
+    assertEquals("\"\\\"t\\u00E9xt\u4E2D\\\\\\n\"", jsonValue.asObject().get("str").toJson());
+    assertEquals("[123,1234567890123456789,45.67,1234567890123456789012345678901234567890,"
+        + "45.678912367891236789123678912367891236789123,-0.5e1]", num.toJson());
+    assertEquals("true", jsonValue.asObject().get("bool").toJson());
+    assertEquals("null", jsonValue.asObject().get("obj").toJson());
+    assertEquals("{}", jsonValue.asObject().get("empty").toJson());
+    assertEquals(new JacksonJsonCore().parse(json),
+        new JacksonJsonCore().parse(jsonValue.toJson()));
+    assertEquals(jsonValue.toJson(), jsonValue.asObject().toJson());
+  }
+
   @Test
   public void testGsonArrayIterable() {
     Gson gson = new GsonBuilder().serializeNulls().create();
@@ -16,6 +16,10 @@
 package com.github.wnameless.json.base;
 
 import static org.junit.Assert.assertSame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -109,4 +113,29 @@ public class JsonValueCoreTest {
     assertSame(JsonObject, jsonValue.getSource());
   }
 
+  @Test
+  public void testToJsonWithWriterAndOutputStream() throws IOException {
+    String json =
+        "{\"str\":\"t\\\"e\\\\x\\nt\u00E9\u4E2D\",\"num\":[123,1234567890123456789,45.67],\"bool\":true,\"obj\":null,\"nested\":{\"ary\":[{},[]]}}";
+
+    for (JsonCore<?> jsonCore : JsonCores.all()) {
+      JsonValueCore<?> val = jsonCore.parse(json);
+      assertToJson(val);
+      assertToJson(val.asObject());
+      assertToJson(val.asObject().get("num").asArray());
+      assertToJson(val.asObject().get("str"));
+      assertToJson(val.asObject().get("obj"));
+    }
+  }
+
+  private void assertToJson(Jsonable jsonable) throws IOException {
+    StringWriter writer = new StringWriter();
+    jsonable.toJson(writer);
+    assertEquals(jsonable.toJson(), writer.toString());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    jsonable.toJson(out);
+    assertEquals(jsonable.toJson(), out.toString(StandardCharsets.UTF_8));
+  }
+
 }
@@ -19,15 +19,25 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.reflect.TypeToken;
+import org.json.JSONObject;
 
 public class JsonValueUtilsTest {
 
@@ -197,4 +207,172 @@ public class JsonValueUtilsTest {
     assertEquals(123.456, JsonValueUtils.toJavaNumber(bd).doubleValue());
   }
 
+  @Test
+  public void testToJavaNumberFastPaths() {
+    long[] longs = {0, 1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L,
+        Integer.MIN_VALUE - 1L, Long.MAX_VALUE, Long.MIN_VALUE};
+    for (long n : longs) {
+      assertToJavaNumber(JsonValueUtils.toJavaNumber(BigDecimal.valueOf(n)),
+          JsonValueUtils.toJavaNumber(n));
+    }
+
+    List<Double> doubles = new ArrayList<>(List.of(0.0, -0.0, 1.0, -1.0, 0.1, 1e-3, 9.99e-4, 1e7,
+        9999999.99, 1e7 + 0.5, 123.456, 1e20, 1.5e300, Double.MIN_VALUE, Double.MAX_VALUE,
+        (double) Long.MAX_VALUE, (double) 45.67f));
+    Random random = new Random(42);
+    for (int n = 0; n < 10000; n++) {
+      doubles.add(random.nextGaussian() * Math.pow(10, random.nextInt(30) - 10));
+      doubles.add(Double.longBitsToDouble(random.nextLong()));
+    }
+    for (double n : doubles) {
+      if (Double.isNaN(n) || Double.isInfinite(n)) continue;
+      assertToJavaNumber(JsonValueUtils.toJavaNumber(BigDecimal.valueOf(n)),
+          JsonValueUtils.toJavaNumber(n));
+      String numeric = Double.toString(n);
+      assertToJavaNumber(JsonValueUtils.toJavaNumber(new BigDecimal(numeric)),
+          JsonValueUtils.toJavaNumber(numeric));
+    }
+
+    String[] numerics = {"0", "-0", "007", "123", "-123", "2147483648", "-2147483649",
+        "123456789012345678", "1234567890123456789", "-9223372036854775808",
+        "12345678901234567890", "1.0", "-0.0", "0.10", "45.67", "45.670", "00.5", "1e2", "1E+2",
+        "1.5e-3", "12345678.9", "0.000123", "3.141592653589793238462643383279", "+5", "1."};
+    for (String numeric : numerics) {
+      assertToJavaNumber(JsonValueUtils.toJavaNumber(new BigDecimal(numeric)),
+          JsonValueUtils.toJavaNumber(numeric));
+    }
+    assertThrows(NumberFormatException.class, () -> JsonValueUtils.toJavaNumber("-"));
+    assertThrows(NumberFormatException.class, () -> JsonValueUtils.toJavaNumber("1.2.3"));
+    assertThrows(NumberFormatException.class, () -> JsonValueUtils.toJavaNumber(""));
+  }
+
+  @Test
+  public void testAsNumberFastPaths() {
+    String json = "[0,-0,1,-1,123,2147483648,-2147483649,1234567890123456789,"
+        + "12345678901234567890,1.0,-0.0,0.1,45.67,45.670,1e2,1E+2,1.5e-3,12345678.9,"
+        + "0.000123,1e20,3.141592653589793238462643383279]";
+    for (JsonCore<?> jsonCore : JsonCores.all()) {
+      JsonArrayBase<?> ary = jsonCore.parse(json).asArray();
+      JsonCursor cursor = ary.cursor();
+      cursor.moveToFirstChild();
+      for (JsonValueBase<?> value : ary) {
+        Number expected = value instanceof OrgJsonValue ov ? (Number) ov.getSource()
+            : JsonValueUtils.toJavaNumber(value.asBigDecimal());
+        assertToJavaNumber(expected, value.asNumber());
+        assertToJavaNumber(expected, cursor.asNumber());
+        cursor.moveToNext();
+      }
+    }
+
+    JsonElement jsonElement = new Gson().toJsonTree(List.of(1, 2L, (short) 3, 4.5, 4.5f,
+        new BigInteger("12345678901234567890"), new BigDecimal("1.50")));
+    for (JsonValueBase<?> value : new GsonJsonValue(jsonElement).asArray()) {
+      assertToJavaNumber(JsonValueUtils.toJavaNumber(value.asBigDecimal()), value.asNumber());
+    }
+  }
+
+  @Test
+  public void testToObjectWithCursor() {
+    String json = "{\"a\":[1,{\"b\":[],\"c\":{}},[[null]]],\"d\":\"e\",\"f\":true,\"g\":{}}";
+    for (JsonCore<?> jsonCore : JsonCores.all()) {
+      JsonObjectBase<?> obj = jsonCore.parse(json).asObject();
+      Map<String, Object> map = obj.toMap();
+      assertEquals(Arrays.asList(1, Map.of("b", List.of(), "c", Map.of()),
+          List.of(Arrays.asList((Object) null))), map.get("a"));
+      assertEquals(List.of("a", "d", "f", "g"), new ArrayList<>(map.keySet()));
+      assertEquals("e", map.get("d"));
+      assertEquals(true, map.get("f"));
+      assertEquals(Map.of(), map.get("g"));
+
+      JsonCursor cursor = obj.cursor();
+      cursor.moveToFirstChild();
+      cursor.moveToFirstChild();
+      cursor.moveToNext();
+      assertEquals(Map.of("b", List.of(), "c", Map.of()), JsonValueUtils.toObject(cursor));
+      assertEquals(2, cursor.depth());
+      assertEquals(1, cursor.index());
+      assertEquals(1, JsonValueUtils.toObject(obj.get("a").asArray().get(0)));
+    }
+  }
+
+  @Test
+  public void testToObjectWithDeepNesting() {
+    int depth = 100000;
+    com.google.gson.JsonArray gsonRoot = new com.google.gson.JsonArray();
+    com.google.gson.JsonArray gsonAry = gsonRoot;
+    ArrayNode jacksonRoot = new ObjectMapper().createArrayNode();
+    ArrayNode jacksonAry = jacksonRoot;
+    JSONObject orgRoot = new JSONObject();
+    JSONObject orgObj = orgRoot;
+    for (int i = 1; i < depth; i++) {
+      com.google.gson.JsonArray gsonChild = new com.google.gson.JsonArray();
+      gsonAry.add(gsonChild);
+      gsonAry = gsonChild;
+      jacksonAry = jacksonAry.addArray();
+      JSONObject orgChild = new JSONObject();
+      orgObj.put("k", orgChild);
+      orgObj = orgChild;
+    }
+    gsonAry.add(1);
+    jacksonAry.add(1);
+    orgObj.put("k", 1);
+
+    for (Object root : new Object[] {new GsonJsonArray(gsonRoot).toList(),
+        new JacksonJsonArray(jacksonRoot).toList(), new OrgJsonObject(orgRoot).toMap()}) {
+      Object node = root;
+      int levels = 0;
+      while (!(node instanceof Number)) {
+        node = node instanceof List<?> list ? list.get(0) : ((Map<?, ?>) node).get("k");
+        levels++;
+      }
+      assertEquals(depth, levels);
+      assertEquals(1, node);
+    }
+  }
+
+  @Test
+  public void testParallelToListAndMap() throws InterruptedException {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 200; i++) {
+      if (i > 0) json.append(',');
+      json.append("{\"id\":").append(i).append(",\"tags\":[\"a\",\"b\",\"c\",\"d\",\"e\"]")
+          .append(",\"nested\":{\"x\":1.5,\"y\":null,\"z\":[[1,2,3,4,5,6],{}],\"w\":true}}");
+    }
+    json.append(']');
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      for (JsonCore<?> jsonCore : JsonCores.all(new JakartaJsonCore(true))) {
+        JsonArrayBase<?> ary = jsonCore.parse(json.toString()).asArray();
+        List<Object> expected = ary.toList();
+        assertEquals(expected, JsonValueUtils.parallelToList(ary));
+        assertEquals(expected, JsonValueUtils.parallelToList(ary, 4, executor));
+        assertEquals(expected, JsonValueUtils.parallelToList(ary, 1, ForkJoinPool.commonPool()));
+
+        JsonObjectBase<?> obj = ary.get(7).asObject();
+        assertEquals(obj.toMap(), JsonValueUtils.parallelToMap(obj));
+        assertEquals(obj.toMap(), JsonValueUtils.parallelToMap(obj, 2, executor));
+        assertEquals(new ArrayList<>(obj.toMap().keySet()),
+            new ArrayList<>(JsonValueUtils.parallelToMap(obj, 1, executor).keySet()));
+      }
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    JsonArrayBase<?> ary = new GsonJsonCore().parse("[1]").asArray();
+    assertThrows(IllegalArgumentException.class,
+        () -> JsonValueUtils.parallelToList(ary, 0, ForkJoinPool.commonPool()));
+    assertThrows(NullPointerException.class, () -> JsonValueUtils.parallelToList(ary, 1, null));
+    assertThrows(UnsupportedOperationException.class,
+        () -> JsonValueUtils.parallelToList(ary, 1, command -> {
+          throw new UnsupportedOperationException();
+        }));
+  }
+
+  private void assertToJavaNumber(Number expected, Number actual) {
+    assertEquals(expected.getClass(), actual.getClass());
+    assertEquals(expected, actual);
+  }
+
 }